@@ -0,0 +1,27 @@
+package com.tournament.bracket;
+
+import com.tournament.model.enums.BracketFormat;
+
+import java.util.List;
+
+/**
+ * Pairs one round of a bracket. Generators are stateless: everything they need is the
+ * number of seeded entrants and the results of the rounds already played, so a bracket
+ * can be continued from the database at any point without keeping state per tournament.
+ *
+ * <p>Players with no pairing in a round have a bye. Elimination formats need a winner
+ * for every match, so a draw there is settled in favour of the better seed.
+ */
+public interface BracketGenerator {
+    
+    BracketFormat getFormat();
+    
+    /**
+     * Returns the pairings for {@code round} (1-based), or an empty list once the event is
+     * over.
+     *
+     * @param entrants number of seeded players; seeds are {@code 0..entrants-1}
+     * @param history  every decided match of rounds before {@code round}
+     */
+    List<Pairing> pairRound(int entrants, int round, List<PlayedMatch> history);
+}
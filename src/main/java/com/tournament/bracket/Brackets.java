@@ -0,0 +1,186 @@
+package com.tournament.bracket;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Building blocks shared by the generators. All state is kept in int arrays indexed by
+ * seed, so pairing a round is linear in the number of entrants plus matches played.
+ */
+final class Brackets {
+    
+    private Brackets() {
+    }
+    
+    static int bracketSize(int entrants) {
+        return entrants <= 1 ? 1 : Integer.highestOneBit(entrants - 1) << 1;
+    }
+    
+    /**
+     * Seeds in bracket slot order for a power-of-two bracket, arranged so seeds 1 and 2 can
+     * only meet in the final, 1-4 and 2-3 in the semi-finals, and so on. Seeds at or above
+     * the entrant count are byes.
+     */
+    static int[] slotOrder(int size) {
+        int[] order = {0};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] next = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = length - 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+    
+    /**
+     * Losses per seed. In elimination a draw cannot stand, so it counts as a loss for the
+     * worse seed.
+     */
+    static int[] losses(int entrants, List<PlayedMatch> history) {
+        int[] losses = new int[entrants];
+        for (PlayedMatch match : history) {
+            int loser = loser(match);
+            if (loser >= 0) {
+                losses[loser]++;
+            }
+        }
+        return losses;
+    }
+    
+    private static int loser(PlayedMatch match) {
+        switch (match.result()) {
+            case PLAYER1_WIN:
+                return match.player2();
+            case PLAYER2_WIN:
+                return match.player1();
+            case DRAW:
+                return Math.max(match.player1(), match.player2());
+            default:
+                return -1;
+        }
+    }
+    
+    /**
+     * Pairs elimination survivors for {@code round}: the bracket is cut into blocks of
+     * 2^(round-1) slots, each holding exactly one player still alive, and neighbouring
+     * blocks meet. A block facing an empty block advances without playing.
+     */
+    static List<Pairing> pairEliminationRound(int entrants, int round, int[] losses, int maxLosses) {
+        int size = bracketSize(entrants);
+        int block = 1 << (round - 1);
+        List<Pairing> pairings = new ArrayList<>();
+        if (block >= size) {
+            return pairings;
+        }
+        int[] slots = slotOrder(size);
+        for (int start = 0; start < size; start += 2 * block) {
+            int a = survivor(slots, start, block, entrants, losses, maxLosses);
+            int b = survivor(slots, start + block, block, entrants, losses, maxLosses);
+            if (a >= 0 && b >= 0) {
+                pairings.add(new Pairing(Math.min(a, b), Math.max(a, b)));
+            }
+        }
+        return pairings;
+    }
+    
+    private static int survivor(int[] slots, int start, int block, int entrants, int[] losses, int maxLosses) {
+        for (int i = start; i < start + block; i++) {
+            int seed = slots[i];
+            if (seed < entrants && losses[seed] <= maxLosses) {
+                return seed;
+            }
+        }
+        return -1;
+    }
+    
+    static PairSet playedPairs(List<PlayedMatch> history) {
+        PairSet played = new PairSet(history.size());
+        for (PlayedMatch match : history) {
+            played.add(match.player1(), match.player2());
+        }
+        return played;
+    }
+    
+    /**
+     * Walks {@code order} from the top and pairs each player with the next unpaired player
+     * they have not met yet, falling back to a rematch only when nobody else is left. A
+     * "next unpaired" pointer array with path compression keeps each lookup near O(1), so
+     * a round costs O(n) plus the number of rematches skipped. Leftover rematches are then
+     * repaired by swapping opponents with an earlier pair where that avoids both repeats.
+     * With an odd count the last player in {@code order} is left unpaired.
+     */
+    static List<Pairing> pairAvoidingRematches(int[] order, PairSet played) {
+        int n = order.length;
+        int[] nextFree = new int[n + 1];
+        for (int i = 0; i <= n; i++) {
+            nextFree[i] = i;
+        }
+        List<Pairing> pairings = new ArrayList<>(n / 2);
+        for (int i = find(nextFree, 0); i < n; i = find(nextFree, i)) {
+            nextFree[i] = i + 1;
+            int fallback = -1;
+            int chosen = -1;
+            for (int j = find(nextFree, i + 1); j < n; j = find(nextFree, j + 1)) {
+                if (fallback < 0) {
+                    fallback = j;
+                }
+                if (!played.contains(order[i], order[j])) {
+                    chosen = j;
+                    break;
+                }
+            }
+            if (chosen < 0) {
+                chosen = fallback;
+            }
+            if (chosen < 0) {
+                break;
+            }
+            nextFree[chosen] = chosen + 1;
+            pairings.add(new Pairing(order[i], order[chosen]));
+        }
+        repairRematches(pairings, played);
+        return pairings;
+    }
+    
+    private static int find(int[] nextFree, int i) {
+        int root = i;
+        while (nextFree[root] != root) {
+            root = nextFree[root];
+        }
+        while (nextFree[i] != root) {
+            int next = nextFree[i];
+            nextFree[i] = root;
+            i = next;
+        }
+        return root;
+    }
+    
+    private static void repairRematches(List<Pairing> pairings, PairSet played) {
+        for (int p = pairings.size() - 1; p >= 0; p--) {
+            Pairing rematch = pairings.get(p);
+            if (!played.contains(rematch.player1(), rematch.player2())) {
+                continue;
+            }
+            for (int q = p - 1; q >= 0; q--) {
+                Pairing other = pairings.get(q);
+                int a = rematch.player1();
+                int b = rematch.player2();
+                int c = other.player1();
+                int d = other.player2();
+                if (!played.contains(c, a) && !played.contains(d, b)) {
+                    pairings.set(q, new Pairing(c, a));
+                    pairings.set(p, new Pairing(d, b));
+                    break;
+                }
+                if (!played.contains(c, b) && !played.contains(d, a)) {
+                    pairings.set(q, new Pairing(c, b));
+                    pairings.set(p, new Pairing(d, a));
+                    break;
+                }
+            }
+        }
+    }
+}
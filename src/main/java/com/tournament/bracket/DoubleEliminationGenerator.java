@@ -0,0 +1,73 @@
+package com.tournament.bracket;
+
+import com.tournament.model.enums.BracketFormat;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Double elimination: a player is out after their second loss.
+ *
+ * <p>Unbeaten players follow the seeded winners' bracket exactly as in single
+ * elimination. Players with one loss form the losers' bracket and are paired among
+ * themselves every round, best remaining seed against worst and avoiding rematches, so
+ * the losers' side needs no fixed drop-in schedule. When one unbeaten and one once-beaten
+ * player remain they meet in the grand final; if the unbeaten player loses it, both have
+ * one loss and play again.
+ */
+@Component
+public class DoubleEliminationGenerator implements BracketGenerator {
+    
+    @Override
+    public BracketFormat getFormat() {
+        return BracketFormat.DOUBLE_ELIMINATION;
+    }
+    
+    @Override
+    public List<Pairing> pairRound(int entrants, int round, List<PlayedMatch> history) {
+        if (round < 1) {
+            return List.of();
+        }
+        int[] losses = Brackets.losses(entrants, history);
+        
+        int unbeaten = -1;
+        int unbeatenCount = 0;
+        List<Integer> oneLoss = new ArrayList<>();
+        for (int seed = 0; seed < entrants; seed++) {
+            if (losses[seed] == 0) {
+                unbeaten = seed;
+                unbeatenCount++;
+            } else if (losses[seed] == 1) {
+                oneLoss.add(seed);
+            }
+        }
+        if (unbeatenCount + oneLoss.size() <= 1) {
+            return List.of();
+        }
+        
+        List<Pairing> pairings = new ArrayList<>();
+        if (unbeatenCount >= 2) {
+            pairings.addAll(Brackets.pairEliminationRound(entrants, round, losses, 0));
+        }
+        if (unbeatenCount == 1 && oneLoss.size() == 1) {
+            pairings.add(new Pairing(unbeaten, oneLoss.get(0)));
+        } else if (oneLoss.size() >= 2) {
+            pairings.addAll(pairLosersBracket(oneLoss, Brackets.playedPairs(history)));
+        }
+        return pairings;
+    }
+    
+    // Seeds ascending; with an odd count the best seed sits out, then the rest fold
+    // (best against worst).
+    private List<Pairing> pairLosersBracket(List<Integer> seeds, PairSet played) {
+        int from = seeds.size() % 2;
+        int count = seeds.size() - from;
+        int[] order = new int[count];
+        for (int i = 0; i < count / 2; i++) {
+            order[2 * i] = seeds.get(from + i);
+            order[2 * i + 1] = seeds.get(seeds.size() - 1 - i);
+        }
+        return Brackets.pairAvoidingRematches(order, played);
+    }
+}
@@ -0,0 +1,76 @@
+package com.tournament.bracket;
+
+/**
+ * Set of unordered seed pairs backed by an open-addressing long table, so checking
+ * "have these two met?" over a history of hundreds of thousands of matches allocates
+ * nothing per pair.
+ */
+final class PairSet {
+    
+    private static final long EMPTY = 0L;
+    
+    private long[] table;
+    private int size;
+    
+    PairSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        table = new long[capacity];
+    }
+    
+    void add(int a, int b) {
+        if ((size + 1) * 2 > table.length) {
+            resize();
+        }
+        if (insert(table, key(a, b))) {
+            size++;
+        }
+    }
+    
+    boolean contains(int a, int b) {
+        long key = key(a, b);
+        int mask = table.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == key) {
+                return true;
+            }
+            if (current == EMPTY) {
+                return false;
+            }
+        }
+    }
+    
+    // Seeds are distinct, so the smaller one is never equal to the larger and a pair key
+    // can never be 0, which is reserved for empty slots.
+    private static long key(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | (Math.max(a, b) & 0xFFFFFFFFL);
+    }
+    
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+    
+    private static boolean insert(long[] table, long key) {
+        int mask = table.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == key) {
+                return false;
+            }
+            if (current == EMPTY) {
+                table[i] = key;
+                return true;
+            }
+        }
+    }
+    
+    private void resize() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        for (long key : old) {
+            if (key != EMPTY) {
+                insert(table, key);
+            }
+        }
+    }
+}
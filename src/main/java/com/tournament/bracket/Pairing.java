@@ -0,0 +1,7 @@
+package com.tournament.bracket;
+
+/**
+ * One match to be played, as 0-based seeds (0 is the top seed).
+ */
+public record Pairing(int player1, int player2) {
+}
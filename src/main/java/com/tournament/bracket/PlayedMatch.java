@@ -0,0 +1,9 @@
+package com.tournament.bracket;
+
+import com.tournament.model.enums.MatchResult;
+
+/**
+ * A match from an earlier round, as 0-based seeds.
+ */
+public record PlayedMatch(int round, int player1, int player2, MatchResult result) {
+}
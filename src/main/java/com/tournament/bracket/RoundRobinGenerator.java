@@ -0,0 +1,50 @@
+package com.tournament.bracket;
+
+import com.tournament.model.enums.BracketFormat;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everyone plays everyone once, scheduled with the circle method: seed 0 stays fixed
+ * and the others rotate one position per round. Any round can be computed directly
+ * from its number, so the schedule never has to be materialised up front. With an odd
+ * number of entrants one player sits out each round.
+ */
+@Component
+public class RoundRobinGenerator implements BracketGenerator {
+    
+    @Override
+    public BracketFormat getFormat() {
+        return BracketFormat.ROUND_ROBIN;
+    }
+    
+    @Override
+    public List<Pairing> pairRound(int entrants, int round, List<PlayedMatch> history) {
+        int slots = entrants % 2 == 0 ? entrants : entrants + 1;
+        if (round < 1 || round > slots - 1) {
+            return List.of();
+        }
+        int shift = round - 1;
+        List<Pairing> pairings = new ArrayList<>(slots / 2);
+        for (int i = 0; i < slots / 2; i++) {
+            int a = position(i, shift, slots);
+            int b = position(slots - 1 - i, shift, slots);
+            if (a >= entrants || b >= entrants) {
+                continue;
+            }
+            // Alternate sides for the fixed seed so it is not always player 1.
+            if (i == 0 && shift % 2 == 1) {
+                pairings.add(new Pairing(b, a));
+            } else {
+                pairings.add(new Pairing(a, b));
+            }
+        }
+        return pairings;
+    }
+    
+    private static int position(int index, int shift, int slots) {
+        return index == 0 ? 0 : (index - 1 + shift) % (slots - 1) + 1;
+    }
+}
@@ -0,0 +1,85 @@
+package com.tournament.bracket;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pending-match counters per tournament and round, so the result that closes a round is
+ * recognised in O(1) instead of by polling the matches table.
+ *
+ * <p>Counters are adjusted with deltas after each commit; a round is complete when a
+ * decrement brings the latest round of a tournament to zero. Because every update is
+ * additive, a result reported in the short window before its round's creation is
+ * recorded still adds up correctly. Tournaments that are not tracked (after a restart,
+ * or once a bracket finishes) are loaded from the database on their next result change.
+ */
+@Component
+public class RoundTracker {
+    
+    private final ConcurrentMap<String, Rounds> tournaments = new ConcurrentHashMap<>();
+    
+    private static final class Rounds {
+        final ConcurrentMap<Integer, AtomicInteger> pending = new ConcurrentHashMap<>();
+        final AtomicInteger latest = new AtomicInteger();
+        
+        AtomicInteger counter(int round) {
+            latest.accumulateAndGet(round, Math::max);
+            return pending.computeIfAbsent(round, r -> new AtomicInteger());
+        }
+        
+        // Only the latest round can trigger advancement, so older counters are dropped.
+        void dropBefore(int round) {
+            pending.keySet().removeIf(r -> r < round);
+        }
+    }
+    
+    public boolean isTracked(String tournamentId) {
+        return tournaments.containsKey(tournamentId);
+    }
+    
+    /**
+     * Starts tracking from a count read from the database. Ignored if the tournament is
+     * already tracked, since the live counters are then at least as recent.
+     */
+    public void load(String tournamentId, int latestRound, int pending) {
+        Rounds rounds = new Rounds();
+        rounds.counter(latestRound).set(pending);
+        tournaments.putIfAbsent(tournamentId, rounds);
+    }
+    
+    public void roundCreated(String tournamentId, int round, int matches) {
+        Rounds rounds = tournaments.computeIfAbsent(tournamentId, id -> new Rounds());
+        rounds.counter(round).addAndGet(matches);
+        rounds.dropBefore(rounds.latest.get());
+    }
+    
+    /**
+     * Applies a change in the number of pending matches of a round. Returns true exactly
+     * when this change completed the tournament's latest round.
+     */
+    public boolean adjust(String tournamentId, int round, int delta) {
+        Rounds rounds = tournaments.get(tournamentId);
+        if (rounds == null || delta == 0) {
+            return false;
+        }
+        int left = rounds.counter(round).addAndGet(delta);
+        return delta < 0 && left == 0 && round == rounds.latest.get();
+    }
+    
+    public Integer pending(String tournamentId, int round) {
+        Rounds rounds = tournaments.get(tournamentId);
+        AtomicInteger counter = rounds == null ? null : rounds.pending.get(round);
+        return counter == null ? null : counter.get();
+    }
+    
+    public void forget(String tournamentId) {
+        tournaments.remove(tournamentId);
+    }
+    
+    public int size() {
+        return tournaments.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.tournament.bracket;
+
+import com.tournament.model.enums.BracketFormat;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Standard seeded knockout bracket, padded to the next power of two with byes for the
+ * top seeds.
+ */
+@Component
+public class SingleEliminationGenerator implements BracketGenerator {
+    
+    @Override
+    public BracketFormat getFormat() {
+        return BracketFormat.SINGLE_ELIMINATION;
+    }
+    
+    @Override
+    public List<Pairing> pairRound(int entrants, int round, List<PlayedMatch> history) {
+        if (round < 1) {
+            return List.of();
+        }
+        int[] losses = Brackets.losses(entrants, history);
+        return Brackets.pairEliminationRound(entrants, round, losses, 0);
+    }
+}
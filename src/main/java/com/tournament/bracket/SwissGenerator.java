@@ -0,0 +1,117 @@
+package com.tournament.bracket;
+
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.model.enums.MatchResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Swiss system over ceil(log2(n)) rounds. Players are grouped by points (win 1, draw
+ * 1/2, bye 1); within a group the top half meets the bottom half, an odd player out
+ * floats down to the next group, and nobody meets the same opponent twice unless no
+ * other pairing is left. With an odd field the lowest-placed player who has not had a
+ * bye yet sits out.
+ */
+@Component
+public class SwissGenerator implements BracketGenerator {
+    
+    @Override
+    public BracketFormat getFormat() {
+        return BracketFormat.SWISS;
+    }
+    
+    public static int roundCount(int entrants) {
+        return entrants <= 2 ? 1 : 32 - Integer.numberOfLeadingZeros(entrants - 1);
+    }
+    
+    @Override
+    public List<Pairing> pairRound(int entrants, int round, List<PlayedMatch> history) {
+        if (round < 1 || round > roundCount(entrants)) {
+            return List.of();
+        }
+        
+        // Points are kept in half points so draws stay integral.
+        int[] points = new int[entrants];
+        int[] played = new int[entrants];
+        for (PlayedMatch match : history) {
+            played[match.player1()]++;
+            played[match.player2()]++;
+            if (match.result() == MatchResult.PLAYER1_WIN) {
+                points[match.player1()] += 2;
+            } else if (match.result() == MatchResult.PLAYER2_WIN) {
+                points[match.player2()] += 2;
+            } else if (match.result() == MatchResult.DRAW) {
+                points[match.player1()]++;
+                points[match.player2()]++;
+            }
+        }
+        boolean[] hadBye = new boolean[entrants];
+        for (int seed = 0; seed < entrants; seed++) {
+            int byes = Math.max(0, round - 1 - played[seed]);
+            points[seed] += 2 * byes;
+            hadBye[seed] = byes > 0;
+        }
+        
+        // Standings: points descending, then seed. Packed into longs to sort primitives.
+        long[] keys = new long[entrants];
+        for (int seed = 0; seed < entrants; seed++) {
+            keys[seed] = ((long) -points[seed] << 32) | seed;
+        }
+        Arrays.sort(keys);
+        int[] standings = new int[entrants];
+        for (int i = 0; i < entrants; i++) {
+            standings[i] = (int) keys[i];
+        }
+        
+        if (entrants % 2 == 1) {
+            int bye = standings.length - 1;
+            for (int i = standings.length - 1; i >= 0; i--) {
+                if (!hadBye[standings[i]]) {
+                    bye = i;
+                    break;
+                }
+            }
+            int[] rest = new int[standings.length - 1];
+            System.arraycopy(standings, 0, rest, 0, bye);
+            System.arraycopy(standings, bye + 1, rest, bye, standings.length - bye - 1);
+            standings = rest;
+        }
+        
+        PairSet previous = Brackets.playedPairs(history);
+        return Brackets.pairAvoidingRematches(foldScoreGroups(standings, points), previous);
+    }
+    
+    // Reorders the standings so adjacent entries are the preferred opponents: each score
+    // group (plus any floater from the group above) is split in half and interleaved.
+    private static int[] foldScoreGroups(int[] standings, int[] points) {
+        int[] order = new int[standings.length];
+        int written = 0;
+        List<Integer> group = new ArrayList<>();
+        int i = 0;
+        while (i < standings.length) {
+            int j = i;
+            while (j < standings.length && points[standings[j]] == points[standings[i]]) {
+                group.add(standings[j]);
+                j++;
+            }
+            Integer floater = group.size() % 2 == 1 ? group.remove(group.size() - 1) : null;
+            int half = group.size() / 2;
+            for (int k = 0; k < half; k++) {
+                order[written++] = group.get(k);
+                order[written++] = group.get(half + k);
+            }
+            group.clear();
+            if (floater != null) {
+                group.add(floater);
+            }
+            i = j;
+        }
+        for (Integer left : group) {
+            order[written++] = left;
+        }
+        return order;
+    }
+}
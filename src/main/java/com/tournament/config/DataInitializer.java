@@ -4,16 +4,21 @@ import com.tournament.model.*;
 import com.tournament.model.enums.MatchResult;
 import com.tournament.model.enums.UserRole;
 import com.tournament.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 public class DataInitializer implements CommandLineRunner {
     
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+    
     @Autowired
     private UserRepository userRepository;
     
@@ -40,23 +45,18 @@ public class DataInitializer implements CommandLineRunner {
         gameRepository.deleteAll();
         userRepository.deleteAll();
         
-        User admin = new User("admin", passwordEncoder.encode("password123"), UserRole.ADMIN, 1000);
-        User organizer1 = new User("organizer1", passwordEncoder.encode("password123"), UserRole.ORGANIZER, 500);
-        User organizer2 = new User("organizer2", passwordEncoder.encode("password123"), UserRole.ORGANIZER, 450);
-        User player1 = new User("player1", passwordEncoder.encode("password123"), UserRole.PLAYER, 850);
-        User player2 = new User("player2", passwordEncoder.encode("password123"), UserRole.PLAYER, 720);
-        User player3 = new User("player3", passwordEncoder.encode("password123"), UserRole.PLAYER, 680);
-        User player4 = new User("player4", passwordEncoder.encode("password123"), UserRole.PLAYER, 590);
-        User player5 = new User("player5", passwordEncoder.encode("password123"), UserRole.PLAYER, 420);
+        // Every seeded account shares the demo password; hash it once rather than eight times.
+        String password = passwordEncoder.encode("password123");
+        User admin = new User("admin", password, UserRole.ADMIN, 1000);
+        User organizer1 = new User("organizer1", password, UserRole.ORGANIZER, 500);
+        User organizer2 = new User("organizer2", password, UserRole.ORGANIZER, 450);
+        User player1 = new User("player1", password, UserRole.PLAYER, 850);
+        User player2 = new User("player2", password, UserRole.PLAYER, 720);
+        User player3 = new User("player3", password, UserRole.PLAYER, 680);
+        User player4 = new User("player4", password, UserRole.PLAYER, 590);
+        User player5 = new User("player5", password, UserRole.PLAYER, 420);
         
-        userRepository.save(admin);
-        userRepository.save(organizer1);
-        userRepository.save(organizer2);
-        userRepository.save(player1);
-        userRepository.save(player2);
-        userRepository.save(player3);
-        userRepository.save(player4);
-        userRepository.save(player5);
+        userRepository.saveAll(List.of(admin, organizer1, organizer2, player1, player2, player3, player4, player5));
         
         Game csgo = new Game("Counter-Strike: Global Offensive", "FPS", Platform.PC);
         Game lol = new Game("League of Legends", "MOBA", Platform.PC);
@@ -64,11 +64,7 @@ public class DataInitializer implements CommandLineRunner {
         Game valorant = new Game("Valorant", "FPS", Platform.PC);
         Game rocket = new Game("Rocket League", "Sports", Platform.CROSS_PLATFORM);
         
-        gameRepository.save(csgo);
-        gameRepository.save(lol);
-        gameRepository.save(fifa);
-        gameRepository.save(valorant);
-        gameRepository.save(rocket);
+        gameRepository.saveAll(List.of(csgo, lol, fifa, valorant, rocket));
         
         Tournament csTournament = new Tournament("CS:GO Championship", 8, csgo, organizer1);
         csTournament.setCurrentPlayers(4);
@@ -77,9 +73,7 @@ public class DataInitializer implements CommandLineRunner {
         Tournament fifaTournament = new Tournament("FIFA World Cup", 4, fifa, organizer1);
         fifaTournament.setCurrentPlayers(4);
         
-        tournamentRepository.save(csTournament);
-        tournamentRepository.save(lolTournament);
-        tournamentRepository.save(fifaTournament);
+        tournamentRepository.saveAll(List.of(csTournament, lolTournament, fifaTournament));
         
         Participation p1 = new Participation(csTournament, player1, LocalDateTime.now().minusDays(2), 150);
         Participation p2 = new Participation(csTournament, player2, LocalDateTime.now().minusDays(1), 120);
@@ -95,17 +89,7 @@ public class DataInitializer implements CommandLineRunner {
         Participation p10 = new Participation(fifaTournament, player5, LocalDateTime.now().minusHours(12), 65);
         Participation p11 = new Participation(fifaTournament, admin, LocalDateTime.now().minusHours(6), 95);
         
-        participationRepository.save(p1);
-        participationRepository.save(p2);
-        participationRepository.save(p3);
-        participationRepository.save(p4);
-        participationRepository.save(p5);
-        participationRepository.save(p6);
-        participationRepository.save(p7);
-        participationRepository.save(p8);
-        participationRepository.save(p9);
-        participationRepository.save(p10);
-        participationRepository.save(p11);
+        participationRepository.saveAll(List.of(p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11));
         
         Match match1 = new Match(csTournament, 1, player1, player2, MatchResult.PLAYER1_WIN);
         Match match2 = new Match(csTournament, 1, player3, player4, MatchResult.PLAYER2_WIN);
@@ -118,20 +102,10 @@ public class DataInitializer implements CommandLineRunner {
         Match match7 = new Match(fifaTournament, 1, player5, admin, MatchResult.PLAYER2_WIN);
         Match match8 = new Match(fifaTournament, 2, player2, admin, MatchResult.PENDING);
         
-        matchRepository.save(match1);
-        matchRepository.save(match2);
-        matchRepository.save(match3);
-        matchRepository.save(match4);
-        matchRepository.save(match5);
-        matchRepository.save(match6);
-        matchRepository.save(match7);
-        matchRepository.save(match8);
+        matchRepository.saveAll(List.of(match1, match2, match3, match4, match5, match6, match7, match8));
         
-        System.out.println("Dummy data loaded successfully!");
-        System.out.println("Users created: " + userRepository.count());
-        System.out.println("Games created: " + gameRepository.count());
-        System.out.println("Tournaments created: " + tournamentRepository.count());
-        System.out.println("Participations created: " + participationRepository.count());
-        System.out.println("Matches created: " + matchRepository.count());
+        log.info("Dummy data loaded: {} users, {} games, {} tournaments, {} participations, {} matches",
+                userRepository.count(), gameRepository.count(), tournamentRepository.count(),
+                participationRepository.count(), matchRepository.count());
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.tournament.config;
+
+import com.tournament.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class PasswordConfig {
+    
+    // New hashes are stored as "{algorithm}hash" (the bcrypt hash also carries its cost).
+    // Hashes written before the prefix existed are plain bcrypt and still verify; they and
+    // hashes from an older policy are rewritten on the user's next successful login, through
+    // CustomUserDetailsService.updatePassword.
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(@Value("${tournament.security.password.algorithm:bcrypt}") String algorithm,
+                                                  @Value("${tournament.security.password.bcrypt-strength:10}") int bcryptStrength,
+                                                  @Value("${tournament.security.password.hashing-threads:0}") int hashingThreads,
+                                                  @Value("${tournament.security.password.hashing-queue:64}") int hashingQueue) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(algorithm.toLowerCase())) {
+            throw new IllegalStateException("Unknown password algorithm: " + algorithm);
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm.toLowerCase(), encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegating, threads, hashingQueue);
+    }
+}
@@ -0,0 +1,26 @@
+package com.tournament.config;
+
+import com.tournament.rating.EloRatingEngine;
+import com.tournament.rating.Glicko2RatingEngine;
+import com.tournament.rating.RatingEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RatingConfig {
+    
+    @Bean
+    public RatingEngine ratingEngine(@Value("${tournament.rating.engine:elo}") String engine,
+                                     @Value("${tournament.rating.k-factor:32}") double kFactor,
+                                     @Value("${tournament.rating.glicko2.tau:0.5}") double tau) {
+        switch (engine.toLowerCase()) {
+            case "elo":
+                return new EloRatingEngine(kFactor);
+            case "glicko2":
+                return new Glicko2RatingEngine(tau);
+            default:
+                throw new IllegalStateException("Unknown rating engine: " + engine);
+        }
+    }
+}
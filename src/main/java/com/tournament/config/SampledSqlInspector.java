@@ -0,0 +1,31 @@
+package com.tournament.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs a random sample of the SQL Hibernate prepares, at INFO on the
+ * {@code com.tournament.sql} logger, leaving the statements unchanged. Sampling keeps the
+ * shape of the workload visible in production without a log line per statement.
+ */
+public class SampledSqlInspector implements StatementInspector {
+    
+    private static final Logger log = LoggerFactory.getLogger("com.tournament.sql");
+    
+    private final double sampleRate;
+    
+    public SampledSqlInspector(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        if (ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("sampled sql: {}", sql);
+        }
+        return sql;
+    }
+}
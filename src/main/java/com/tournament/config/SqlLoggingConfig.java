@@ -0,0 +1,22 @@
+package com.tournament.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlLoggingConfig {
+    
+    // Replaces spring.jpa.show-sql, which printed every statement straight to stdout. A
+    // sample rate of 0 turns SQL logging off, 1 logs every statement.
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLogging(@Value("${tournament.logging.sql-sample-rate:0}") double sampleRate) {
+        return properties -> {
+            if (sampleRate > 0) {
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SampledSqlInspector(Math.min(sampleRate, 1.0)));
+            }
+        };
+    }
+}
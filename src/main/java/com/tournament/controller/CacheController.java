@@ -0,0 +1,57 @@
+package com.tournament.controller;
+
+import com.tournament.dto.CacheStatsDto;
+import com.tournament.service.CacheStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/caches")
+@Tag(name = "Caches", description = "Endpoints for tuning the entity, query and response caches")
+public class CacheController {
+    
+    @Autowired
+    private CacheStatsService cacheStatsService;
+    
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Report second-level cache hit rates per region", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Counters of each entity and query cache region",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CacheStatsDto.class)))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getSecondLevelCacheStats());
+    }
+    
+    @GetMapping("/responses")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Report response cache hit rates per endpoint",
+        description = "Counters of the serialized bodies kept for the available tournaments, games, top rankings and leaderboard endpoints.",
+        security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Counters of each cached endpoint that has been requested",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CacheStatsDto.class)))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<CacheStatsDto>> getResponseCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getResponseCacheStats());
+    }
+}
@@ -1,9 +1,13 @@
 package com.tournament.controller;
 
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.GameDto;
 import com.tournament.model.Platform;
 import com.tournament.service.GameService;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.ResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,33 +17,63 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/games")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {CursorPageDto.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 @Tag(name = "Games", description = "Endpoints for managing games available for tournaments")
 public class GameController {
     
     @Autowired
     private GameService gameService;
     
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    @Autowired
+    private ResponseCache responseCache;
+    
+    @Value("${tournament.response-cache.games-ttl-ms:300000}")
+    private long gamesTtlMs;
+    
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
     @Operation(summary = "List all games", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "List of games",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = GameDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<GameDto>> getAllGames() {
-        List<GameDto> games = gameService.getAllGames();
-        return ResponseEntity.ok(games);
+    public ResponseEntity<byte[]> getAllGames(
+            @Parameter(description = "Cursor returned in the " + CursorPageDto.NEXT_CURSOR_HEADER + " header of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at " + CursorPageDto.MAX_PAGE_SIZE)
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        String etag = collectionVersions.gameListTag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseCache.CachedResponse cached = responseCache.getPage(ResponseCache.GAMES, cursor + ":" + size, etag,
+                gamesTtlMs, () -> {
+                    CursorPageDto<GameDto> page = gameService.getAllGames(cursor, size);
+                    return new ResponseCache.Page(page.getItems(), page.getNextCursor());
+                });
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON);
+        return CursorPageDto.withNextCursor(response, cached.nextCursor()).body(cached.body());
     }
     
     @GetMapping("/{id}")
@@ -103,7 +137,8 @@ public class GameController {
             content = @Content(schema = @Schema(implementation = GameDto.class))),
         @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
-        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Game already exists on this platform", content = @Content(schema = @Schema(hidden = true)))
     })
     public ResponseEntity<GameDto> createGame(@Valid @RequestBody GameDto gameDto) {
         GameDto createdGame = gameService.createGame(gameDto);
@@ -119,7 +154,8 @@ public class GameController {
         @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
-        @ApiResponse(responseCode = "404", description = "Game not found", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "404", description = "Game not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Game already exists on this platform", content = @Content(schema = @Schema(hidden = true)))
     })
     public ResponseEntity<GameDto> updateGame(@PathVariable String id, @Valid @RequestBody GameDto gameDto) {
         GameDto updatedGame = gameService.updateGame(id, gameDto);
@@ -1,10 +1,17 @@
 package com.tournament.controller;
 
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.BulkMatchResultDto;
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.MatchCreateDto;
 import com.tournament.dto.MatchDto;
+import com.tournament.dto.MatchResultEventDto;
 import com.tournament.model.enums.MatchResult;
 import com.tournament.service.MatchService;
+import com.tournament.service.TournamentService;
+import com.tournament.support.CollectionVersions;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,22 +21,33 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/matches")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {CursorPageDto.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 @Tag(name = "Matches", description = "Endpoints for managing matches inside tournaments")
 public class MatchController {
     
     @Autowired
     private MatchService matchService;
     
+    @Autowired
+    private TournamentService tournamentService;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
     @Operation(summary = "List all matches", security = @SecurityRequirement(name = "bearerAuth"))
@@ -38,9 +56,13 @@ public class MatchController {
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = MatchDto.class)))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<MatchDto>> getAllMatches() {
-        List<MatchDto> matches = matchService.getAllMatches();
-        return ResponseEntity.ok(matches);
+    public ResponseEntity<List<MatchDto>> getAllMatches(
+            @Parameter(description = "Cursor returned in the " + CursorPageDto.NEXT_CURSOR_HEADER + " header of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at " + CursorPageDto.MAX_PAGE_SIZE)
+            @RequestParam(required = false) Integer size) {
+        CursorPageDto<MatchDto> page = matchService.getAllMatches(cursor, size);
+        return page.toResponse(ResponseEntity.ok());
     }
     
     @GetMapping("/{id}")
@@ -63,11 +85,34 @@ public class MatchController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Matches for the tournament",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = MatchDto.class)))),
-        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<MatchDto>> getMatchesByTournament(@PathVariable String tournamentId) {
+    public ResponseEntity<List<MatchDto>> getMatchesByTournament(@PathVariable String tournamentId, WebRequest request) {
+        tournamentService.requireTournament(tournamentId);
+        String etag = collectionVersions.matchListTag(tournamentId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         List<MatchDto> matches = matchService.getMatchesByTournament(tournamentId);
-        return ResponseEntity.ok(matches);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate()).body(matches);
+    }
+    
+    @GetMapping(value = "/tournament/{tournamentId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
+    @Operation(summary = "Stream match results of a tournament",
+        description = "Server-sent events named \"match-result\", one per changed result. Clients that fall behind are disconnected and should reconnect and refetch.",
+        security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Event stream of match results",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = MatchResultEventDto.class))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<SseEmitter> streamMatchResults(@PathVariable String tournamentId) {
+        SseEmitter emitter = matchService.subscribeToResults(tournamentId);
+        return ResponseEntity.ok(emitter);
     }
     
     @GetMapping("/tournament/{tournamentId}/round/{round}")
@@ -76,11 +121,19 @@ public class MatchController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Matches for the specified round",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = MatchDto.class)))),
-        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<MatchDto>> getMatchesByTournamentAndRound(@PathVariable String tournamentId, @PathVariable Integer round) {
+    public ResponseEntity<List<MatchDto>> getMatchesByTournamentAndRound(@PathVariable String tournamentId, @PathVariable Integer round,
+            WebRequest request) {
+        tournamentService.requireTournament(tournamentId);
+        String etag = collectionVersions.matchListTag(tournamentId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         List<MatchDto> matches = matchService.getMatchesByTournamentAndRound(tournamentId, round);
-        return ResponseEntity.ok(matches);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate()).body(matches);
     }
     
     @GetMapping("/player/{playerId}")
@@ -143,6 +196,23 @@ public class MatchController {
         return ResponseEntity.ok(updatedMatch);
     }
     
+    @PostMapping("/results")
+    @PreAuthorize("hasAnyRole('ADMIN','ORGANIZER')")
+    @Operation(summary = "Report many match results at once",
+        description = "Applies up to " + BulkMatchResultDto.MAX_RESULTS + " results in one transaction and returns one status per item, in request order.",
+        security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Per-item statuses",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultDto.class)))),
+        @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<BulkItemResultDto>> updateMatchResults(@Valid @RequestBody BulkMatchResultDto bulkMatchResultDto) {
+        List<BulkItemResultDto> statuses = matchService.updateMatchResults(bulkMatchResultDto.getResults());
+        return ResponseEntity.ok(statuses);
+    }
+    
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Delete a match", security = @SecurityRequirement(name = "bearerAuth"))
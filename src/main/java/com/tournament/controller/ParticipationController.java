@@ -1,10 +1,19 @@
 package com.tournament.controller;
 
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.BulkParticipationDto;
+import com.tournament.dto.CursorPageDto;
+import com.tournament.dto.LeaderboardPositionDto;
 import com.tournament.dto.ParticipationCreateDto;
 import com.tournament.dto.ParticipationDto;
 import com.tournament.dto.ParticipationScoreUpdateDto;
 import com.tournament.service.ParticipationService;
+import com.tournament.service.TournamentService;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.PublicIds;
+import com.tournament.support.ResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,22 +23,43 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/participations")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {CursorPageDto.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 @Tag(name = "Participations", description = "Endpoints for managing player participation in tournaments")
 public class ParticipationController {
     
     @Autowired
     private ParticipationService participationService;
     
+    @Autowired
+    private TournamentService tournamentService;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    @Autowired
+    private ResponseCache responseCache;
+    
+    @Value("${tournament.response-cache.leaderboard-ttl-ms:60000}")
+    private long leaderboardTtlMs;
+    
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
     @Operation(summary = "List all participations", security = @SecurityRequirement(name = "bearerAuth"))
@@ -38,9 +68,13 @@ public class ParticipationController {
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParticipationDto.class)))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<ParticipationDto>> getAllParticipations() {
-        List<ParticipationDto> participations = participationService.getAllParticipations();
-        return ResponseEntity.ok(participations);
+    public ResponseEntity<List<ParticipationDto>> getAllParticipations(
+            @Parameter(description = "Cursor returned in the " + CursorPageDto.NEXT_CURSOR_HEADER + " header of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at " + CursorPageDto.MAX_PAGE_SIZE)
+            @RequestParam(required = false) Integer size) {
+        CursorPageDto<ParticipationDto> page = participationService.getAllParticipations(cursor, size);
+        return page.toResponse(ResponseEntity.ok());
     }
     
     @GetMapping("/{id}")
@@ -63,11 +97,18 @@ public class ParticipationController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Participations for the tournament",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParticipationDto.class)))),
-        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<ParticipationDto>> getParticipationsByTournament(@PathVariable String tournamentId) {
+    public ResponseEntity<List<ParticipationDto>> getParticipationsByTournament(@PathVariable String tournamentId, WebRequest request) {
+        tournamentService.requireTournament(tournamentId);
+        String etag = collectionVersions.participationListTag(tournamentId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         List<ParticipationDto> participations = participationService.getParticipationsByTournament(tournamentId);
-        return ResponseEntity.ok(participations);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate()).body(participations);
     }
     
     @GetMapping("/player/{playerId}")
@@ -89,11 +130,37 @@ public class ParticipationController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Leaderboard ordered by score",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParticipationDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<byte[]> getTournamentLeaderboard(
+            @PathVariable String tournamentId,
+            @Parameter(description = "Return only the top N entries")
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        tournamentService.requireTournament(tournamentId);
+        String etag = collectionVersions.participationListTag(tournamentId);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseCache.CachedResponse cached = responseCache.get(ResponseCache.LEADERBOARDS, PublicIds.canonical(tournamentId) + ":" + limit, etag,
+                leaderboardTtlMs, () -> participationService.getTournamentLeaderboard(tournamentId, limit));
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON).body(cached.body());
+    }
+    
+    @GetMapping("/tournament/{tournamentId}/leaderboard/player/{playerId}")
+    @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
+    @Operation(summary = "Get a player's position on a tournament leaderboard", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Leaderboard position",
+            content = @Content(schema = @Schema(implementation = LeaderboardPositionDto.class))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<ParticipationDto>> getTournamentLeaderboard(@PathVariable String tournamentId) {
-        List<ParticipationDto> leaderboard = participationService.getTournamentLeaderboard(tournamentId);
-        return ResponseEntity.ok(leaderboard);
+    public ResponseEntity<LeaderboardPositionDto> getLeaderboardPosition(@PathVariable String tournamentId, @PathVariable String playerId) {
+        LeaderboardPositionDto position = participationService.getLeaderboardPosition(tournamentId, playerId);
+        return ResponseEntity.ok(position);
     }
     
     @PostMapping
@@ -102,15 +169,55 @@ public class ParticipationController {
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Participation created",
             content = @Content(schema = @Schema(implementation = ParticipationDto.class))),
-        @ApiResponse(responseCode = "400", description = "Validation error or business rule violation", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
-        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "403", description = "Forbidden, or the player may not join this tournament", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament or player not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Tournament full or player already registered", content = @Content(schema = @Schema(hidden = true)))
     })
     public ResponseEntity<ParticipationDto> createParticipation(@Valid @RequestBody ParticipationCreateDto participationCreateDto) {
         ParticipationDto createdParticipation = participationService.createParticipation(participationCreateDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdParticipation);
     }
     
+    @PostMapping(value = "/tournament/{tournamentId}/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN','ORGANIZER')")
+    @Operation(summary = "Register many players in a tournament", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Outcome of each registration, in request order",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultDto.class)))),
+        @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Tournament filled up meanwhile", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<BulkItemResultDto>> registerParticipants(@PathVariable String tournamentId,
+                                                                        @Valid @RequestBody BulkParticipationDto bulkParticipationDto) {
+        List<BulkItemResultDto> statuses = participationService.registerParticipants(tournamentId, bulkParticipationDto.getParticipants());
+        return ResponseEntity.ok(statuses);
+    }
+    
+    @PostMapping(value = "/tournament/{tournamentId}/bulk", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('ADMIN','ORGANIZER')")
+    @Operation(summary = "Import players into a tournament from CSV",
+        description = "UTF-8 text, one player per line as username[,score], with an optional username,score header.",
+        security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Outcome of each registration, in file order",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = BulkItemResultDto.class)))),
+        @ApiResponse(responseCode = "400", description = "Malformed line", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Tournament filled up meanwhile", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<BulkItemResultDto>> importParticipants(@PathVariable String tournamentId, InputStream csv) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        List<BulkItemResultDto> statuses = participationService.importParticipants(tournamentId, reader);
+        return ResponseEntity.ok(statuses);
+    }
+    
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Update participation", security = @SecurityRequirement(name = "bearerAuth"))
@@ -1,9 +1,15 @@
 package com.tournament.controller;
 
+import com.tournament.dto.CursorPageDto;
+import com.tournament.dto.MatchDto;
 import com.tournament.dto.TournamentCreateDto;
 import com.tournament.dto.TournamentDto;
+import com.tournament.service.BracketService;
 import com.tournament.service.TournamentService;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.ResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,33 +19,62 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/tournaments")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {CursorPageDto.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 @Tag(name = "Tournaments", description = "Endpoints for discovering and managing tournaments")
 public class TournamentController {
     
     @Autowired
     private TournamentService tournamentService;
     
+    @Autowired
+    private BracketService bracketService;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    @Autowired
+    private ResponseCache responseCache;
+    
+    @Value("${tournament.response-cache.available-tournaments-ttl-ms:60000}")
+    private long availableTournamentsTtlMs;
+    
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
     @Operation(summary = "List all tournaments", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "List of tournaments",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = TournamentDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<TournamentDto>> getAllTournaments() {
-        List<TournamentDto> tournaments = tournamentService.getAllTournaments();
-        return ResponseEntity.ok(tournaments);
+    public ResponseEntity<List<TournamentDto>> getAllTournaments(
+            @Parameter(description = "Cursor returned in the " + CursorPageDto.NEXT_CURSOR_HEADER + " header of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at " + CursorPageDto.MAX_PAGE_SIZE)
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        // Tagged before loading: a 304 costs no query, and a change committed mid-load
+        // leaves the tag older than the body, so the next request refetches.
+        String etag = collectionVersions.tournamentListTag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPageDto<TournamentDto> page = tournamentService.getAllTournaments(cursor, size);
+        return page.toResponse(ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate()));
     }
     
     @GetMapping("/{id}")
@@ -48,12 +83,18 @@ public class TournamentController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Tournament found",
             content = @Content(schema = @Schema(implementation = TournamentDto.class))),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<TournamentDto> getTournamentById(@PathVariable String id) {
+    public ResponseEntity<TournamentDto> getTournamentById(@PathVariable String id, WebRequest request) {
+        tournamentService.requireTournament(id);
+        String etag = collectionVersions.tournamentTag(id);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         TournamentDto tournament = tournamentService.getTournamentById(id);
-        return ResponseEntity.ok(tournament);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate()).body(tournament);
     }
     
     @GetMapping("/organizer/{organizerId}")
@@ -75,11 +116,18 @@ public class TournamentController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Available tournaments",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = TournamentDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<TournamentDto>> getAvailableTournaments() {
-        List<TournamentDto> tournaments = tournamentService.getAvailableTournaments();
-        return ResponseEntity.ok(tournaments);
+    public ResponseEntity<byte[]> getAvailableTournaments(WebRequest request) {
+        String etag = collectionVersions.tournamentListTag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseCache.CachedResponse cached = responseCache.get(ResponseCache.AVAILABLE_TOURNAMENTS, "all", etag,
+                availableTournamentsTtlMs, tournamentService::getAvailableTournaments);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON).body(cached.body());
     }
     
     @PostMapping
@@ -97,6 +145,48 @@ public class TournamentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTournament);
     }
     
+    @PostMapping("/{id}/bracket")
+    @PreAuthorize("hasAnyRole('ADMIN','ORGANIZER')")
+    @Operation(summary = "Generate the tournament bracket",
+        description = "Seeds the registered participants and creates the first round for the chosen format.",
+        security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "First-round matches",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = MatchDto.class)))),
+        @ApiResponse(responseCode = "400", description = "Unknown format or seeding strategy, or too few participants", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Bracket already generated", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<MatchDto>> generateBracket(
+            @PathVariable String id,
+            @Parameter(description = "SINGLE_ELIMINATION, DOUBLE_ELIMINATION, ROUND_ROBIN or SWISS")
+            @RequestParam String format,
+            @Parameter(description = "What seeds are ordered by: RANKING or SCORE")
+            @RequestParam(defaultValue = "RANKING") String seeding) {
+        List<MatchDto> matches = bracketService.generateBracket(id, format, seeding);
+        return ResponseEntity.status(HttpStatus.CREATED).body(matches);
+    }
+    
+    @PostMapping("/{id}/bracket/next-round")
+    @PreAuthorize("hasAnyRole('ADMIN','ORGANIZER')")
+    @Operation(summary = "Pair the next bracket round",
+        description = "Requires every match of the current round to have a result. Returns an empty list once the bracket is complete.",
+        security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Next-round matches",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = MatchDto.class)))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "Tournament not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "No bracket or current round not complete", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<MatchDto>> generateNextRound(@PathVariable String id) {
+        List<MatchDto> matches = bracketService.generateNextRound(id);
+        return ResponseEntity.ok(matches);
+    }
+    
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','ORGANIZER')")
     @Operation(summary = "Update tournament", security = @SecurityRequirement(name = "bearerAuth"))
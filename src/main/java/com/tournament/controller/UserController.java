@@ -1,11 +1,18 @@
 package com.tournament.controller;
 
+import com.tournament.dto.CursorPageDto;
+import com.tournament.dto.RankingPositionDto;
+import com.tournament.dto.RatingRecalculationDto;
 import com.tournament.dto.UserCreateDto;
 import com.tournament.dto.UserDto;
 import com.tournament.dto.UserRankingUpdateDto;
 import com.tournament.model.enums.UserRole;
+import com.tournament.service.RatingService;
 import com.tournament.service.UserService;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.ResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,22 +22,39 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/users")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {CursorPageDto.NEXT_CURSOR_HEADER, HttpHeaders.ETAG})
 @Tag(name = "Users", description = "Endpoints for managing platform users")
 public class UserController {
     
     @Autowired
     private UserService userService;
     
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Value("${tournament.response-cache.top-users-ttl-ms:30000}")
+    private long topUsersTtlMs;
+    
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "List all users", security = @SecurityRequirement(name = "bearerAuth"))
@@ -40,9 +64,13 @@ public class UserController {
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserDto>> getAllUsers(
+            @Parameter(description = "Cursor returned in the " + CursorPageDto.NEXT_CURSOR_HEADER + " header of the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped at " + CursorPageDto.MAX_PAGE_SIZE)
+            @RequestParam(required = false) Integer size) {
+        CursorPageDto<UserDto> page = userService.getAllUsers(cursor, size);
+        return page.toResponse(ResponseEntity.ok());
     }
     
     @GetMapping("/{id}")
@@ -95,11 +123,65 @@ public class UserController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Top users by ranking",
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserDto.class)))),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true)))
     })
-    public ResponseEntity<List<UserDto>> getTopRankedUsers(@RequestParam(defaultValue = "10") Integer limit) {
-        List<UserDto> users = userService.getTopRankedUsers(limit);
-        return ResponseEntity.ok(users);
+    public ResponseEntity<byte[]> getTopRankedUsers(@RequestParam(defaultValue = "10") Integer limit, WebRequest request) {
+        String etag = collectionVersions.userListTag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseCache.CachedResponse cached = responseCache.get(ResponseCache.TOP_USERS, String.valueOf(limit), etag,
+                topUsersTtlMs, () -> userService.getTopRankedUsers(limit));
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON).body(cached.body());
+    }
+    
+    @GetMapping("/{id}/ranking/position")
+    @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
+    @Operation(summary = "Get a user's position in the global ranking", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Ranking position",
+            content = @Content(schema = @Schema(implementation = RankingPositionDto.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<RankingPositionDto> getRankingPosition(@PathVariable String id) {
+        RankingPositionDto position = userService.getRankingPosition(id);
+        return ResponseEntity.ok(position);
+    }
+    
+    @GetMapping("/{id}/ranking/neighbours")
+    @PreAuthorize("hasAnyRole('ADMIN','PLAYER','ORGANIZER')")
+    @Operation(summary = "List the users ranked just above and below a user", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "The user and up to radius neighbours on each side",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = RankingPositionDto.class)))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<List<RankingPositionDto>> getRankingNeighbours(
+            @PathVariable String id,
+            @Parameter(description = "Neighbours to include on each side, capped at 50")
+            @RequestParam(defaultValue = "5") Integer radius) {
+        List<RankingPositionDto> neighbours = userService.getRankingNeighbours(id, radius);
+        return ResponseEntity.ok(neighbours);
+    }
+    
+    @PostMapping("/rankings/recalculate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Re-rate every user by replaying all decided matches",
+        description = "Resets all users to the initial rating and replays the match history in round order with the configured rating engine.",
+        security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Re-rating summary",
+            content = @Content(schema = @Schema(implementation = RatingRecalculationDto.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true)))
+    })
+    public ResponseEntity<RatingRecalculationDto> recalculateRankings() {
+        RatingRecalculationDto summary = ratingService.recalculateAll();
+        return ResponseEntity.ok(summary);
     }
     
     @PostMapping
@@ -108,7 +190,8 @@ public class UserController {
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "User created",
             content = @Content(schema = @Schema(implementation = UserDto.class))),
-        @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Username already exists", content = @Content(schema = @Schema(hidden = true)))
     })
     public ResponseEntity<UserDto> createUser(@Valid @RequestBody UserCreateDto userDto) {
         UserDto createdUser = userService.createUser(userDto);
@@ -124,7 +207,8 @@ public class UserController {
         @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(hidden = true))),
         @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(schema = @Schema(hidden = true))),
-        @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(hidden = true)))
+        @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "409", description = "Username already exists", content = @Content(schema = @Schema(hidden = true)))
     })
     public ResponseEntity<UserDto> updateUser(@PathVariable String id, @Valid @RequestBody UserCreateDto userDto) {
         UserDto updatedUser = userService.updateUser(id, userDto);
@@ -0,0 +1,50 @@
+package com.tournament.dto;
+
+import com.tournament.model.enums.BulkItemStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Per-item outcome of a bulk request, in request order.")
+public class BulkItemResultDto {
+
+    @Schema(description = "Id (or key) of the item as sent", accessMode = Schema.AccessMode.READ_ONLY)
+    private String id;
+
+    @Schema(description = "What happened to the item", example = "UPDATED", accessMode = Schema.AccessMode.READ_ONLY)
+    private BulkItemStatus status;
+
+    @Schema(description = "Why the item was not applied, if it was not", accessMode = Schema.AccessMode.READ_ONLY)
+    private String message;
+
+    public BulkItemResultDto() {
+    }
+
+    public BulkItemResultDto(String id, BulkItemStatus status, String message) {
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public BulkItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(BulkItemStatus status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
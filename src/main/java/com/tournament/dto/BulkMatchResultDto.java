@@ -0,0 +1,35 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Payload for reporting many match results at once.")
+public class BulkMatchResultDto {
+
+    public static final int MAX_RESULTS = 1000;
+
+    @Schema(description = "Results to apply, in order", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one result is required")
+    @Size(max = MAX_RESULTS, message = "At most " + MAX_RESULTS + " results per request")
+    @Valid
+    private List<MatchResultUpdateDto> results;
+
+    public BulkMatchResultDto() {
+    }
+
+    public BulkMatchResultDto(List<MatchResultUpdateDto> results) {
+        this.results = results;
+    }
+
+    public List<MatchResultUpdateDto> getResults() {
+        return results;
+    }
+
+    public void setResults(List<MatchResultUpdateDto> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,35 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Payload for registering many players in one tournament at once.")
+public class BulkParticipationDto {
+
+    public static final int MAX_PARTICIPANTS = 10000;
+
+    @Schema(description = "Players to register, in order", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "At least one participant is required")
+    @Size(max = MAX_PARTICIPANTS, message = "At most " + MAX_PARTICIPANTS + " participants per request")
+    @Valid
+    private List<ParticipantEntryDto> participants;
+
+    public BulkParticipationDto() {
+    }
+
+    public BulkParticipationDto(List<ParticipantEntryDto> participants) {
+        this.participants = participants;
+    }
+
+    public List<ParticipantEntryDto> getParticipants() {
+        return participants;
+    }
+
+    public void setParticipants(List<ParticipantEntryDto> participants) {
+        this.participants = participants;
+    }
+}
@@ -0,0 +1,72 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Hit and miss counters of an in-memory cache since startup.")
+public class CacheStatsDto {
+    
+    @Schema(description = "Cache name", example = "verified-tokens", accessMode = Schema.AccessMode.READ_ONLY)
+    private String name;
+    
+    @Schema(description = "Number of entries currently held, or -1 if the cache does not report it", example = "240", accessMode = Schema.AccessMode.READ_ONLY)
+    private int size;
+    
+    @Schema(description = "Lookups answered from the cache", example = "98000", accessMode = Schema.AccessMode.READ_ONLY)
+    private long hits;
+    
+    @Schema(description = "Lookups that had to load or verify", example = "2000", accessMode = Schema.AccessMode.READ_ONLY)
+    private long misses;
+    
+    @Schema(description = "Share of lookups answered from the cache, between 0 and 1", example = "0.98", accessMode = Schema.AccessMode.READ_ONLY)
+    private double hitRate;
+
+    public CacheStatsDto() {}
+
+    public CacheStatsDto(String name, int size, long hits, long misses) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void setMisses(long misses) {
+        this.misses = misses;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+}
@@ -0,0 +1,67 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+@Schema(description = "One page of a keyset-paginated listing.")
+public class CursorPageDto<T> {
+    
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    
+    public static final int MAX_PAGE_SIZE = 200;
+    
+    @Schema(description = "Items in this page, ordered by creation")
+    private List<T> items;
+    
+    @Schema(description = "Opaque cursor for the next page, absent on the last page", example = "AAAAAAAAADI")
+    private String nextCursor;
+
+    
+    public CursorPageDto() {}
+
+    
+    public CursorPageDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    /**
+     * Finishes {@code response} with this page: the items as the body and the next cursor,
+     * if any, in the {@value #NEXT_CURSOR_HEADER} header.
+     */
+    public ResponseEntity<List<T>> toResponse(ResponseEntity.BodyBuilder response) {
+        return withNextCursor(response, nextCursor).body(items);
+    }
+    
+    /**
+     * Adds the {@value #NEXT_CURSOR_HEADER} header to {@code response} unless
+     * {@code nextCursor} is null, i.e. the page is the last one.
+     */
+    public static ResponseEntity.BodyBuilder withNextCursor(ResponseEntity.BodyBuilder response, String nextCursor) {
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,27 @@
+package com.tournament.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "Body of every error response.")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponseDto(
+        @Schema(description = "When the error occurred")
+        LocalDateTime timestamp,
+        @Schema(description = "HTTP status code", example = "404")
+        int status,
+        @Schema(description = "HTTP reason phrase, or \"Validation Failed\"", example = "Not Found")
+        String error,
+        @Schema(description = "What went wrong", example = "Tournament not found with id: 018f4c3e-7b1a-7c00-8000-000000000000")
+        String message,
+        @Schema(description = "Message per invalid field, for validation failures only")
+        Map<String, String> validationErrors) {
+
+    public static ErrorResponseDto of(HttpStatus status, String message) {
+        return new ErrorResponseDto(LocalDateTime.now(), status.value(), status.getReasonPhrase(), message, null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A participation's position on its tournament leaderboard.")
+public class LeaderboardPositionDto {
+    
+    @Schema(description = "1-based position on the leaderboard, highest score first", example = "2", accessMode = Schema.AccessMode.READ_ONLY)
+    private int position;
+    
+    @Schema(description = "Participation at this position", accessMode = Schema.AccessMode.READ_ONLY)
+    private ParticipationDto participation;
+
+    public LeaderboardPositionDto() {}
+
+    public LeaderboardPositionDto(int position, ParticipationDto participation) {
+        this.position = position;
+        this.participation = participation;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public ParticipationDto getParticipation() {
+        return participation;
+    }
+
+    public void setParticipation(ParticipationDto participation) {
+        this.participation = participation;
+    }
+}
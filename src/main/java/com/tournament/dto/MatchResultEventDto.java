@@ -0,0 +1,86 @@
+package com.tournament.dto;
+
+import com.tournament.model.enums.MatchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A match's new result, as pushed to spectators of its tournament.")
+public class MatchResultEventDto {
+    
+    @Schema(description = "Match public id", example = "3f1c2a9e-5b7d-4c1e-9a0b-2d6e8f4a1c3b", accessMode = Schema.AccessMode.READ_ONLY)
+    private String matchId;
+    
+    @Schema(description = "Tournament public id", example = "8a2b4c6d-1e3f-4a5b-8c7d-9e0f1a2b3c4d", accessMode = Schema.AccessMode.READ_ONLY)
+    private String tournamentId;
+    
+    @Schema(description = "Round number", example = "2", accessMode = Schema.AccessMode.READ_ONLY)
+    private Integer round;
+    
+    @Schema(description = "Player 1 public id", accessMode = Schema.AccessMode.READ_ONLY)
+    private String player1Id;
+    
+    @Schema(description = "Player 2 public id", accessMode = Schema.AccessMode.READ_ONLY)
+    private String player2Id;
+    
+    @Schema(description = "New result", example = "PLAYER1_WIN", accessMode = Schema.AccessMode.READ_ONLY)
+    private MatchResult result;
+
+    public MatchResultEventDto() {}
+
+    public MatchResultEventDto(String matchId, String tournamentId, Integer round,
+                               String player1Id, String player2Id, MatchResult result) {
+        this.matchId = matchId;
+        this.tournamentId = tournamentId;
+        this.round = round;
+        this.player1Id = player1Id;
+        this.player2Id = player2Id;
+        this.result = result;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public String getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(String tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public Integer getRound() {
+        return round;
+    }
+
+    public void setRound(Integer round) {
+        this.round = round;
+    }
+
+    public String getPlayer1Id() {
+        return player1Id;
+    }
+
+    public void setPlayer1Id(String player1Id) {
+        this.player1Id = player1Id;
+    }
+
+    public String getPlayer2Id() {
+        return player2Id;
+    }
+
+    public void setPlayer2Id(String player2Id) {
+        this.player2Id = player2Id;
+    }
+
+    public MatchResult getResult() {
+        return result;
+    }
+
+    public void setResult(MatchResult result) {
+        this.result = result;
+    }
+}
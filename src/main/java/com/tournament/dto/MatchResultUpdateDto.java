@@ -0,0 +1,42 @@
+package com.tournament.dto;
+
+import com.tournament.model.enums.MatchResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "A reported result for one match.")
+public class MatchResultUpdateDto {
+
+    @Schema(description = "Match public id", example = "3f1c2a9e-5b7d-4c1e-9a0b-2d6e8f4a1c3b", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "Match id is required")
+    private String matchId;
+
+    @Schema(description = "New result", example = "PLAYER1_WIN", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Result is required")
+    private MatchResult result;
+
+    public MatchResultUpdateDto() {
+    }
+
+    public MatchResultUpdateDto(String matchId, MatchResult result) {
+        this.matchId = matchId;
+        this.result = result;
+    }
+
+    public String getMatchId() {
+        return matchId;
+    }
+
+    public void setMatchId(String matchId) {
+        this.matchId = matchId;
+    }
+
+    public MatchResult getResult() {
+        return result;
+    }
+
+    public void setResult(MatchResult result) {
+        this.result = result;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "One player to register in a bulk registration.")
+public class ParticipantEntryDto {
+
+    @Schema(description = "Username of the player joining the tournament", example = "player1", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "Player username is required")
+    private String playerUsername;
+
+    @Schema(description = "Initial score assigned to the player; defaults to 0", example = "0")
+    private Integer score;
+
+    public ParticipantEntryDto() {
+    }
+
+    public ParticipantEntryDto(String playerUsername, Integer score) {
+        this.playerUsername = playerUsername;
+        this.score = score;
+    }
+
+    public String getPlayerUsername() {
+        return playerUsername;
+    }
+
+    public void setPlayerUsername(String playerUsername) {
+        this.playerUsername = playerUsername;
+    }
+
+    public Integer getScore() {
+        return score;
+    }
+
+    public void setScore(Integer score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A player's position in the global ranking.")
+public class RankingPositionDto {
+    
+    @Schema(description = "1-based position in the ranking, highest ranking first", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    private int position;
+    
+    @Schema(description = "Player at this position", accessMode = Schema.AccessMode.READ_ONLY)
+    private UserDto player;
+
+    public RankingPositionDto() {}
+
+    public RankingPositionDto(int position, UserDto player) {
+        this.position = position;
+        this.player = player;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public UserDto getPlayer() {
+        return player;
+    }
+
+    public void setPlayer(UserDto player) {
+        this.player = player;
+    }
+}
@@ -0,0 +1,60 @@
+package com.tournament.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Summary of a full re-rating of the match history.")
+public class RatingRecalculationDto {
+    
+    @Schema(description = "Rating engine used for the replay", example = "elo", accessMode = Schema.AccessMode.READ_ONLY)
+    private String engine;
+    
+    @Schema(description = "Number of decided matches replayed", example = "125000", accessMode = Schema.AccessMode.READ_ONLY)
+    private long matchesReplayed;
+    
+    @Schema(description = "Number of users whose ranking was rewritten", example = "4000", accessMode = Schema.AccessMode.READ_ONLY)
+    private int playersRated;
+    
+    @Schema(description = "Wall-clock time of the replay and write-back in milliseconds", example = "850", accessMode = Schema.AccessMode.READ_ONLY)
+    private long elapsedMillis;
+
+    public RatingRecalculationDto() {}
+
+    public RatingRecalculationDto(String engine, long matchesReplayed, int playersRated, long elapsedMillis) {
+        this.engine = engine;
+        this.matchesReplayed = matchesReplayed;
+        this.playersRated = playersRated;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public void setEngine(String engine) {
+        this.engine = engine;
+    }
+
+    public long getMatchesReplayed() {
+        return matchesReplayed;
+    }
+
+    public void setMatchesReplayed(long matchesReplayed) {
+        this.matchesReplayed = matchesReplayed;
+    }
+
+    public int getPlayersRated() {
+        return playersRated;
+    }
+
+    public void setPlayersRated(int playersRated) {
+        this.playersRated = playersRated;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tournament.dto;
 
+import com.tournament.model.enums.BracketFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -23,6 +24,9 @@ public class TournamentDto {
     @Schema(description = "Number of currently registered players", example = "8", accessMode = Schema.AccessMode.READ_ONLY)
     private Integer currentPlayers;
     
+    @Schema(description = "Bracket format, set once a bracket has been generated", example = "SWISS", accessMode = Schema.AccessMode.READ_ONLY)
+    private BracketFormat format;
+    
     @Schema(description = "Game associated with the tournament", implementation = GameDto.class)
     private GameDto game;
 
@@ -76,6 +80,14 @@ public class TournamentDto {
         this.currentPlayers = currentPlayers;
     }
 
+    public BracketFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(BracketFormat format) {
+        this.format = format;
+    }
+
     public GameDto getGame() {
         return game;
     }
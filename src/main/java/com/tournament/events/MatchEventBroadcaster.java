@@ -0,0 +1,233 @@
+package com.tournament.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.dto.MatchResultEventDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes match results to spectators over server-sent events, fanned out per tournament.
+ *
+ * <p>A subscriber is an async request parked by the servlet container plus a small queue;
+ * it holds no thread while idle. Events are serialized once and queued for each of the
+ * tournament's subscribers, and a shared pool of dispatch threads drains the queues. A
+ * subscriber whose queue fills up (a client not reading) is dropped rather than allowed
+ * to hold events back for the others; its EventSource reconnects and refetches.
+ */
+@Component
+public class MatchEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchEventBroadcaster.class);
+
+    static final String RESULT_EVENT = "match-result";
+
+    // A queued event; a null payload is a heartbeat comment.
+    private record Event(String id, String payload) {
+    }
+
+    private final class Subscriber {
+        private final String tournamentId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean dropped = new AtomicBoolean();
+
+        private Subscriber(String tournamentId, SseEmitter emitter) {
+            this.tournamentId = tournamentId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tournament.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${tournament.events.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${tournament.events.dispatch-threads:2}")
+    private int dispatchThreads;
+
+    private ExecutorService dispatcher;
+
+    public MatchEventBroadcaster() {
+    }
+
+    MatchEventBroadcaster(ObjectMapper objectMapper, long emitterTimeoutMs, int queueCapacity, int dispatchThreads) {
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.queueCapacity = queueCapacity;
+        this.dispatchThreads = dispatchThreads;
+        start();
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, task -> {
+            Thread thread = new Thread(task, "match-events-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a stream of the tournament's match results.
+     */
+    public SseEmitter subscribe(String tournamentId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        register(tournamentId, emitter);
+        return emitter;
+    }
+
+    void register(String tournamentId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(tournamentId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.compute(tournamentId, (id, audience) -> {
+            Set<Subscriber> result = audience != null ? audience : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        subscriberCount.incrementAndGet();
+    }
+
+    public void publish(MatchResultEventDto event) {
+        Set<Subscriber> audience = subscribers.get(event.getTournamentId());
+        if (audience == null || audience.isEmpty()) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize match event", e);
+        }
+        Event queued = new Event(event.getMatchId(), payload);
+        for (Subscriber subscriber : audience) {
+            enqueue(subscriber, queued);
+        }
+    }
+
+    // Comments keep idle connections open through proxies and reveal clients that went away.
+    @Scheduled(fixedDelayString = "${tournament.events.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        Event heartbeat = new Event(null, null);
+        for (Set<Subscriber> audience : subscribers.values()) {
+            for (Subscriber subscriber : audience) {
+                enqueue(subscriber, heartbeat);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (Set<Subscriber> audience : subscribers.values()) {
+            for (Subscriber subscriber : audience) {
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Event event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            log.debug("Dropping slow match event subscriber of tournament {}", subscriber.tournamentId);
+            // The emitter's methods share one lock, which the stalled send is holding, so the
+            // drain completes it once that send returns instead of blocking the publisher.
+            subscriber.dropped.set(true);
+            remove(subscriber);
+            scheduleDrain(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Event event;
+            while (!subscriber.closed.get() && (event = subscriber.queue.poll()) != null) {
+                send(subscriber, event);
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.dropped.getAndSet(false)) {
+            subscriber.emitter.complete();
+            return;
+        }
+        // An event queued after the last poll but before the flag was cleared found the
+        // drain still running and did not schedule another one.
+        if (!subscriber.closed.get() && !subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, Event event) {
+        try {
+            if (event.payload() == null) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(event.id())
+                        .name(RESULT_EVENT)
+                        .data(event.payload(), MediaType.APPLICATION_JSON));
+            }
+        } catch (Exception e) {
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscriber.queue.clear();
+        subscribers.computeIfPresent(subscriber.tournamentId, (id, audience) -> {
+            audience.remove(subscriber);
+            return audience.isEmpty() ? null : audience;
+        });
+    }
+}
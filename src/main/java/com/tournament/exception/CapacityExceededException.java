@@ -0,0 +1,11 @@
+package com.tournament.exception;
+
+/**
+ * A tournament has no room left for the players being registered.
+ */
+public class CapacityExceededException extends ConflictException {
+
+    public CapacityExceededException(String message) {
+        super(message);
+    }
+}
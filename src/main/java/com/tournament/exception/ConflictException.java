@@ -0,0 +1,19 @@
+package com.tournament.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The request is well-formed but clashes with the current state, e.g. a name that is
+ * already taken.
+ */
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus status() {
+        return HttpStatus.CONFLICT;
+    }
+}
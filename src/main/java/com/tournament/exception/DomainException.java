@@ -0,0 +1,19 @@
+package com.tournament.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base of the exceptions services throw for expected failures: an unknown id, a state
+ * that does not allow the change, a full tournament, a role that may not take part.
+ * These happen on ordinary requests (bots probing unknown ids among them), so no stack
+ * trace is captured; the message carries everything the response needs.
+ * GlobalExceptionHandler answers each with its {@link #status()}.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+
+    public abstract HttpStatus status();
+}
@@ -0,0 +1,19 @@
+package com.tournament.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * A user's role or relation to a tournament does not allow the action, e.g. an
+ * organizer joining their own tournament.
+ */
+public class ForbiddenException extends DomainException {
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus status() {
+        return HttpStatus.FORBIDDEN;
+    }
+}
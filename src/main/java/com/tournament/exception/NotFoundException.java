@@ -0,0 +1,18 @@
+package com.tournament.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The entity a request names does not exist.
+ */
+public class NotFoundException extends DomainException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus status() {
+        return HttpStatus.NOT_FOUND;
+    }
+}
@@ -0,0 +1,74 @@
+package com.tournament.mapper;
+
+import com.tournament.dto.CursorPageDto;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Translates between opaque page cursors and the generated id that listings seek on.
+ * A cursor encodes the id of the last row of the previous page; the next page is
+ * every row with a greater id, so no page ever needs an OFFSET scan.
+ */
+@Component
+public class CursorMapper {
+    
+    public long toLastId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new IllegalArgumentException();
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid page cursor: " + cursor);
+        }
+    }
+    
+    public String toCursor(long lastId) {
+        byte[] bytes = ByteBuffer.allocate(Long.BYTES).putLong(lastId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+    
+    public int toPageSize(Integer size) {
+        if (size == null) {
+            return CursorPageDto.DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new RuntimeException("Page size must be at least 1");
+        }
+        return Math.min(size, CursorPageDto.MAX_PAGE_SIZE);
+    }
+    
+    /**
+     * Requests one row more than the page size so {@link #toPage} can tell whether
+     * another page follows without issuing a count query.
+     */
+    public Pageable toPageRequest(Integer size) {
+        return PageRequest.of(0, toPageSize(size) + 1);
+    }
+    
+    public <E, D> CursorPageDto<D> toPage(List<E> rows, Integer size, ToLongFunction<E> idOf, Function<E, D> toDto) {
+        int pageSize = toPageSize(size);
+        boolean hasMore = rows.size() > pageSize;
+        List<E> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+        
+        List<D> items = pageRows.stream()
+                .map(toDto)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? toCursor(idOf.applyAsLong(pageRows.get(pageSize - 1))) : null;
+        
+        return new CursorPageDto<>(items, nextCursor);
+    }
+}
@@ -2,6 +2,8 @@ package com.tournament.mapper;
 
 import com.tournament.dto.GameDto;
 import com.tournament.model.Game;
+import com.tournament.model.projection.GameSummary;
+import com.tournament.support.PublicIds;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,6 +23,14 @@ public class GameMapper {
         return dto;
     }
     
+    public GameDto toDto(GameSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        
+        return new GameDto(summary.getPublicId(), summary.getTitle(), summary.getGenre(), summary.getPlatform());
+    }
+    
     public Game toEntity(GameDto dto) {
         if (dto == null) {
             return null;
@@ -28,6 +38,9 @@ public class GameMapper {
         
         Game game = new Game();
         if (dto.getId() != null) {
+            if (!PublicIds.isValid(dto.getId())) {
+                throw new RuntimeException("Invalid game id: " + dto.getId());
+            }
             game.setPublicId(dto.getId());
         }
         game.setTitle(dto.getTitle());
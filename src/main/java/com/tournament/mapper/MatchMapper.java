@@ -1,6 +1,7 @@
 package com.tournament.mapper;
 
 import com.tournament.dto.MatchDto;
+import com.tournament.dto.MatchResultEventDto;
 import com.tournament.model.Match;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -30,4 +31,12 @@ public class MatchMapper {
         return dto;
     }
     
+    public MatchResultEventDto toResultEvent(Match match) {
+        if (match == null) {
+            return null;
+        }
+        
+        return new MatchResultEventDto(match.getPublicId(), match.getTournament().getPublicId(), match.getRound(),
+                match.getPlayer1().getPublicId(), match.getPlayer2().getPublicId(), match.getResult());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.tournament.mapper;
+
+import com.tournament.dto.BulkParticipationDto;
+import com.tournament.dto.ParticipantEntryDto;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a registration import: one player per line as {@code username[,score]}, with an
+ * optional {@code username,score} header and blank lines ignored. Lines are read as they
+ * arrive, so an upload is never held in memory as a whole, only its parsed entries.
+ */
+@Component
+public class ParticipantCsvMapper {
+
+    private static final String HEADER = "username";
+
+    public List<ParticipantEntryDto> read(BufferedReader reader) {
+        List<ParticipantEntryDto> entries = new ArrayList<>();
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                if (entries.size() == BulkParticipationDto.MAX_PARTICIPANTS) {
+                    throw new RuntimeException("At most " + BulkParticipationDto.MAX_PARTICIPANTS + " participants per request");
+                }
+                entries.add(toEntry(line, lineNumber));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (entries.isEmpty()) {
+            throw new RuntimeException("At least one participant is required");
+        }
+        return entries;
+    }
+
+    private ParticipantEntryDto toEntry(String line, int lineNumber) {
+        String[] fields = line.split(",", -1);
+        if (fields.length > 2) {
+            throw new RuntimeException("Line " + lineNumber + ": expected username[,score]");
+        }
+        String username = unquote(fields[0]);
+        if (username.isEmpty()) {
+            throw new RuntimeException("Line " + lineNumber + ": player username is required");
+        }
+        Integer score = null;
+        if (fields.length == 2 && !unquote(fields[1]).isEmpty()) {
+            try {
+                score = Integer.valueOf(unquote(fields[1]));
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Line " + lineNumber + ": score must be a whole number");
+            }
+        }
+        return new ParticipantEntryDto(username, score);
+    }
+
+    private static boolean isHeader(String line) {
+        String first = line.split(",", 2)[0];
+        return unquote(first.startsWith("\uFEFF") ? first.substring(1) : first).equalsIgnoreCase(HEADER);
+    }
+
+    private static String unquote(String field) {
+        String trimmed = field.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
+}
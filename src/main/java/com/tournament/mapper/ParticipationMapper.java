@@ -1,7 +1,11 @@
 package com.tournament.mapper;
 
+import com.tournament.dto.GameDto;
 import com.tournament.dto.ParticipationDto;
+import com.tournament.dto.TournamentDto;
+import com.tournament.dto.UserDto;
 import com.tournament.model.Participation;
+import com.tournament.model.projection.ParticipationSummary;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -28,4 +32,31 @@ public class ParticipationMapper {
         
         return dto;
     }
+    
+    public ParticipationDto toDto(ParticipationSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        
+        TournamentDto tournament = new TournamentDto();
+        tournament.setId(summary.getTournamentPublicId());
+        tournament.setName(summary.getTournamentName());
+        tournament.setMaxPlayers(summary.getTournamentMaxPlayers());
+        tournament.setCurrentPlayers(summary.getTournamentCurrentPlayers());
+        tournament.setFormat(summary.getTournamentFormat());
+        tournament.setGame(new GameDto(summary.getGamePublicId(), summary.getGameTitle(),
+                summary.getGameGenre(), summary.getGamePlatform()));
+        tournament.setOrganizer(new UserDto(summary.getOrganizerPublicId(), summary.getOrganizerUsername(),
+                summary.getOrganizerRole(), summary.getOrganizerRanking()));
+        
+        ParticipationDto dto = new ParticipationDto();
+        dto.setId(summary.getPublicId());
+        dto.setJoinDate(summary.getJoinDate());
+        dto.setScore(summary.getScore());
+        dto.setTournament(tournament);
+        dto.setPlayer(new UserDto(summary.getPlayerPublicId(), summary.getPlayerUsername(),
+                summary.getPlayerRole(), summary.getPlayerRanking()));
+        
+        return dto;
+    }
 }
\ No newline at end of file
@@ -1,16 +1,19 @@
 package com.tournament.mapper;
 
+import com.tournament.dto.GameDto;
 import com.tournament.dto.TournamentDto;
 import com.tournament.dto.TournamentCreateDto;
+import com.tournament.dto.UserDto;
 import com.tournament.model.Tournament;
 import com.tournament.model.Game;
 import com.tournament.model.User;
 import com.tournament.model.enums.UserRole;
 import com.tournament.model.Platform;
+import com.tournament.model.projection.TournamentSummary;
+import com.tournament.support.PublicIds;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 public class TournamentMapper {
@@ -26,19 +29,37 @@ public class TournamentMapper {
             return null;
         }
         
-        System.out.println("Mapping Tournament to DTO: publicId=" + tournament.getPublicId());
-        
         TournamentDto dto = new TournamentDto();
         dto.setId(tournament.getPublicId());
         dto.setName(tournament.getName());
         dto.setMaxPlayers(tournament.getMaxPlayers());
         dto.setCurrentPlayers(tournament.getCurrentPlayers());
+        dto.setFormat(tournament.getFormat());
         dto.setGame(gameMapper.toDto(tournament.getGame()));
         dto.setOrganizer(userMapper.toDto(tournament.getOrganizer()));
         
         return dto;
     }
     
+    public TournamentDto toDto(TournamentSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        
+        TournamentDto dto = new TournamentDto();
+        dto.setId(summary.getPublicId());
+        dto.setName(summary.getName());
+        dto.setMaxPlayers(summary.getMaxPlayers());
+        dto.setCurrentPlayers(summary.getCurrentPlayers());
+        dto.setFormat(summary.getFormat());
+        dto.setGame(new GameDto(summary.getGamePublicId(), summary.getGameTitle(),
+                summary.getGameGenre(), summary.getGamePlatform()));
+        dto.setOrganizer(new UserDto(summary.getOrganizerPublicId(), summary.getOrganizerUsername(),
+                summary.getOrganizerRole(), summary.getOrganizerRanking()));
+        
+        return dto;
+    }
+    
     public Tournament toEntity(TournamentCreateDto dto) {
         if (dto == null) {
             return null;
@@ -48,7 +69,7 @@ public class TournamentMapper {
         tournament.setName(dto.getName());
         tournament.setMaxPlayers(dto.getMaxPlayers());
         tournament.setCurrentPlayers(0); 
-        tournament.setPublicId(UUID.randomUUID().toString()); 
+        tournament.setPublicId(PublicIds.next()); 
 
         if (dto.getGameTitle() != null) {
             Game game = new Game();
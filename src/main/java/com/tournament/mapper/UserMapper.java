@@ -3,11 +3,18 @@ package com.tournament.mapper;
 import com.tournament.dto.UserDto;
 import com.tournament.dto.UserCreateDto;
 import com.tournament.model.User;
+import com.tournament.model.projection.UserSummary;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class UserMapper {
     
+    // New users start where a full re-rating starts everyone, so live updates and
+    // RatingService.recalculateAll work on the same scale.
+    @Value("${tournament.rating.initial-rating:1000}")
+    private double initialRating = 1000;
+    
     public UserDto toDto(User user) {
         if (user == null) {
             return null;
@@ -22,6 +29,14 @@ public class UserMapper {
         return dto;
     }
     
+    public UserDto toDto(UserSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        
+        return new UserDto(summary.getPublicId(), summary.getUsername(), summary.getRole(), summary.getRanking());
+    }
+    
     public User toEntity(UserCreateDto dto) {
         if (dto == null) {
             return null;
@@ -31,7 +46,7 @@ public class UserMapper {
         user.setUsername(dto.getUsername());
         user.setPassword(dto.getPassword());
         user.setRole(dto.getRole());
-        user.setRanking(dto.getRanking() != null ? dto.getRanking() : 0);
+        user.setRanking(dto.getRanking() != null ? dto.getRanking() : (int) Math.round(initialRating));
         
         return user;
     }
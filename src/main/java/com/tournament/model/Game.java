@@ -1,26 +1,39 @@
 package com.tournament.model;
 
+import com.tournament.model.converter.PublicIdConverter;
+import com.tournament.support.PublicIds;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "games", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"title", "platform"})
+    @UniqueConstraint(name = "uk_games_title_platform", columnNames = {"title", "platform"})
+}, indexes = {
+    @Index(name = "idx_games_genre", columnList = "genre"),
+    @Index(name = "idx_games_platform", columnList = "platform")
 })
 public class Game {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
+    @Convert(converter = PublicIdConverter.class)
     private String publicId;
     
+    @Version
+    private Long version;
+    
     @NotBlank(message = "Title is required")
     @Column(nullable = false)
     private String title;
@@ -42,7 +55,7 @@ public class Game {
 
     
     public Game(String title, String genre, Platform platform) {
-        this.publicId = UUID.randomUUID().toString();
+        this.publicId = PublicIds.next();
         this.title = title;
         this.genre = genre;
         this.platform = platform;
@@ -51,7 +64,7 @@ public class Game {
     @PrePersist
     private void generatePublicId() {
         if (this.publicId == null) {
-            this.publicId = UUID.randomUUID().toString();
+            this.publicId = PublicIds.next();
         }
     }
 
@@ -72,6 +85,14 @@ public class Game {
         this.publicId = publicId;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -1,22 +1,31 @@
 package com.tournament.model;
 
+import com.tournament.model.converter.PublicIdConverter;
 import com.tournament.model.enums.MatchResult;
+import com.tournament.support.PublicIds;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
-import java.util.UUID;
-
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+    @Index(name = "idx_matches_tournament_round", columnList = "tournament_id, round"),
+    @Index(name = "idx_matches_player1", columnList = "player1_id"),
+    @Index(name = "idx_matches_player2", columnList = "player2_id")
+})
 public class Match {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_seq")
+    @SequenceGenerator(name = "matches_seq", sequenceName = "matches_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
+    @Convert(converter = PublicIdConverter.class)
     private String publicId;
     
+    @Version
+    private Long version;
+    
     @NotNull(message = "Tournament is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tournament_id", nullable = false)
@@ -45,7 +54,7 @@ public class Match {
 
     
     public Match(Tournament tournament, Integer round, User player1, User player2, MatchResult result) {
-        this.publicId = UUID.randomUUID().toString();
+        this.publicId = PublicIds.next();
         this.tournament = tournament;
         this.round = round;
         this.player1 = player1;
@@ -56,7 +65,7 @@ public class Match {
     @PrePersist
     private void generatePublicId() {
         if (this.publicId == null) {
-            this.publicId = UUID.randomUUID().toString();
+            this.publicId = PublicIds.next();
         }
     }
 
@@ -77,6 +86,14 @@ public class Match {
         this.publicId = publicId;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Tournament getTournament() {
         return tournament;
     }
@@ -1,22 +1,33 @@
 package com.tournament.model;
 
+import com.tournament.model.converter.PublicIdConverter;
+import com.tournament.support.PublicIds;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
-@Table(name = "participations")
+@Table(name = "participations", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_participations_tournament_player", columnNames = {"tournament_id", "player_id"})
+}, indexes = {
+    @Index(name = "idx_participations_tournament_score", columnList = "tournament_id, score"),
+    @Index(name = "idx_participations_player", columnList = "player_id")
+})
 public class Participation {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participations_seq")
+    @SequenceGenerator(name = "participations_seq", sequenceName = "participations_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
+    @Convert(converter = PublicIdConverter.class)
     private String publicId;
     
+    @Version
+    private Long version;
+    
     @NotNull(message = "Tournament is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tournament_id", nullable = false)
@@ -32,13 +43,16 @@ public class Participation {
     
     @Column(nullable = false)
     private Integer score = 0;
+    
+    // 1-based seed fixed when the bracket is generated; null for late registrations
+    private Integer seed;
 
     // Default constructor for JPA
     public Participation() {}
 
     
     public Participation(Tournament tournament, User player, LocalDateTime joinDate, Integer score) {
-        this.publicId = UUID.randomUUID().toString();
+        this.publicId = PublicIds.next();
         this.tournament = tournament;
         this.player = player;
         this.joinDate = joinDate != null ? joinDate : LocalDateTime.now();
@@ -48,7 +62,7 @@ public class Participation {
     @PrePersist
     private void generatePublicId() {
         if (this.publicId == null) {
-            this.publicId = UUID.randomUUID().toString();
+            this.publicId = PublicIds.next();
         }
         if (this.joinDate == null) {
             this.joinDate = LocalDateTime.now();
@@ -72,6 +86,14 @@ public class Participation {
         this.publicId = publicId;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Tournament getTournament() {
         return tournament;
     }
@@ -103,4 +125,12 @@ public class Participation {
     public void setScore(Integer score) {
         this.score = score;
     }
+
+    public Integer getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Integer seed) {
+        this.seed = seed;
+    }
 }
\ No newline at end of file
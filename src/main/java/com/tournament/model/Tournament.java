@@ -1,5 +1,8 @@
 package com.tournament.model;
 
+import com.tournament.model.converter.PublicIdConverter;
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.support.PublicIds;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -7,19 +10,27 @@ import jakarta.validation.constraints.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
-@Table(name = "tournaments")
+@Table(name = "tournaments", indexes = {
+    @Index(name = "idx_tournaments_organizer", columnList = "organizer_id"),
+    @Index(name = "idx_tournaments_game", columnList = "game_id"),
+    @Index(name = "idx_tournaments_name", columnList = "name")
+})
 public class Tournament {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournaments_seq")
+    @SequenceGenerator(name = "tournaments_seq", sequenceName = "tournaments_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
+    @Convert(converter = PublicIdConverter.class)
     private String publicId;
     
+    @Version
+    private Long version;
+    
     @NotBlank(message = "Tournament name is required")
     @Column(nullable = false)
     private String name;
@@ -32,6 +43,10 @@ public class Tournament {
     @Column(nullable = false)
     private Integer currentPlayers = 0;
     
+    // Set when a bracket is generated; null while matches are created by hand
+    @Enumerated(EnumType.STRING)
+    private BracketFormat format;
+    
     @NotNull(message = "Game is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "game_id", nullable = false)
@@ -53,7 +68,7 @@ public class Tournament {
 
     
     public Tournament(String name, Integer maxPlayers, Game game, User organizer) {
-        this.publicId = UUID.randomUUID().toString();
+        this.publicId = PublicIds.next();
         this.name = name;
         this.maxPlayers = maxPlayers;
         this.currentPlayers = 0;
@@ -64,7 +79,7 @@ public class Tournament {
     @PrePersist
     private void generatePublicId() {
         if (this.publicId == null) {
-            this.publicId = UUID.randomUUID().toString();
+            this.publicId = PublicIds.next();
         }
     }
 
@@ -85,6 +100,14 @@ public class Tournament {
         this.publicId = publicId;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
@@ -101,6 +124,14 @@ public class Tournament {
         this.maxPlayers = maxPlayers;
     }
 
+    public BracketFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(BracketFormat format) {
+        this.format = format;
+    }
+
     public Integer getCurrentPlayers() {
         return currentPlayers;
     }
@@ -1,24 +1,34 @@
 package com.tournament.model;
 
+import com.tournament.model.converter.PublicIdConverter;
 import com.tournament.model.enums.UserRole;
+import com.tournament.support.PublicIds;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_ranking", columnList = "ranking"),
+    @Index(name = "idx_users_role", columnList = "role")
+})
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false)
+    @Convert(converter = PublicIdConverter.class)
     private String publicId;
     
     @NotBlank(message = "Username is required")
@@ -38,6 +48,13 @@ public class User {
     @Column(nullable = false)
     private Integer ranking = 0;
     
+    // Glicko-2 uncertainty; defaults match RatingTable.DEFAULT_DEVIATION / DEFAULT_VOLATILITY
+    @Column(nullable = false)
+    private Double ratingDeviation = 350.0;
+    
+    @Column(nullable = false)
+    private Double ratingVolatility = 0.06;
+    
     @OneToMany(mappedBy = "organizer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Tournament> organizedTournaments = new ArrayList<>();
     
@@ -49,7 +66,7 @@ public class User {
 
     
     public User(String username, String password, UserRole role, Integer ranking) {
-        this.publicId = UUID.randomUUID().toString();
+        this.publicId = PublicIds.next();
         this.username = username;
         this.password = password;
         this.role = role;
@@ -59,7 +76,7 @@ public class User {
     @PrePersist
     private void generatePublicId() {
         if (this.publicId == null) {
-            this.publicId = UUID.randomUUID().toString();
+            this.publicId = PublicIds.next();
         }
     }
 
@@ -112,6 +129,22 @@ public class User {
         this.ranking = ranking;
     }
 
+    public Double getRatingDeviation() {
+        return ratingDeviation;
+    }
+
+    public void setRatingDeviation(Double ratingDeviation) {
+        this.ratingDeviation = ratingDeviation;
+    }
+
+    public Double getRatingVolatility() {
+        return ratingVolatility;
+    }
+
+    public void setRatingVolatility(Double ratingVolatility) {
+        this.ratingVolatility = ratingVolatility;
+    }
+
     public List<Tournament> getOrganizedTournaments() {
         return organizedTournaments;
     }
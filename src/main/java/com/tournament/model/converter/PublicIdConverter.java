@@ -0,0 +1,26 @@
+package com.tournament.model.converter;
+
+import com.tournament.support.PublicIds;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * Stores the string public id of an entity as a 16-byte UUID. Lookups by a malformed id
+ * are bound as an id no row has, so they find nothing just as they did when the column
+ * held the strings themselves.
+ */
+@Converter
+public class PublicIdConverter implements AttributeConverter<String, UUID> {
+    
+    @Override
+    public UUID convertToDatabaseColumn(String publicId) {
+        return publicId != null ? PublicIds.toUuid(publicId) : null;
+    }
+    
+    @Override
+    public String convertToEntityAttribute(UUID publicId) {
+        return publicId != null ? publicId.toString() : null;
+    }
+}
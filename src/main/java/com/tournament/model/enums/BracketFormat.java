@@ -0,0 +1,11 @@
+package com.tournament.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "How a tournament's matches are paired once its bracket is generated.")
+public enum BracketFormat {
+    SINGLE_ELIMINATION,
+    DOUBLE_ELIMINATION,
+    ROUND_ROBIN,
+    SWISS
+}
@@ -0,0 +1,12 @@
+package com.tournament.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one item of a bulk request.")
+public enum BulkItemStatus {
+    CREATED,
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    REJECTED
+}
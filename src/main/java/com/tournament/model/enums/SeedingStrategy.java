@@ -0,0 +1,9 @@
+package com.tournament.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "What participants are ordered by when seeds are assigned.")
+public enum SeedingStrategy {
+    RANKING,
+    SCORE
+}
@@ -0,0 +1,19 @@
+package com.tournament.model.projection;
+
+import com.tournament.model.Platform;
+
+/**
+ * Read-only view of the game columns exposed by {@code GameDto}.
+ */
+public interface GameSummary {
+    
+    Long getId();
+    
+    String getPublicId();
+    
+    String getTitle();
+    
+    String getGenre();
+    
+    Platform getPlatform();
+}
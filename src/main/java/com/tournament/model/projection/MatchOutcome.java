@@ -0,0 +1,9 @@
+package com.tournament.model.projection;
+
+import com.tournament.model.enums.MatchResult;
+
+/**
+ * The columns needed to replay a match through a rating engine or a bracket generator.
+ */
+public record MatchOutcome(Integer round, Long player1Id, Long player2Id, MatchResult result) {
+}
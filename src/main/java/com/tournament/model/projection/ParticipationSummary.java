@@ -0,0 +1,57 @@
+package com.tournament.model.projection;
+
+import com.tournament.model.Platform;
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.model.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a participation joined with its tournament (including the tournament's
+ * game and organizer) and its player, flattened to the columns exposed by
+ * {@code ParticipationDto}.
+ */
+public interface ParticipationSummary {
+    
+    Long getId();
+    
+    String getPublicId();
+    
+    LocalDateTime getJoinDate();
+    
+    Integer getScore();
+    
+    String getTournamentPublicId();
+    
+    String getTournamentName();
+    
+    Integer getTournamentMaxPlayers();
+    
+    Integer getTournamentCurrentPlayers();
+    
+    BracketFormat getTournamentFormat();
+    
+    String getGamePublicId();
+    
+    String getGameTitle();
+    
+    String getGameGenre();
+    
+    Platform getGamePlatform();
+    
+    String getOrganizerPublicId();
+    
+    String getOrganizerUsername();
+    
+    UserRole getOrganizerRole();
+    
+    Integer getOrganizerRanking();
+    
+    String getPlayerPublicId();
+    
+    String getPlayerUsername();
+    
+    UserRole getPlayerRole();
+    
+    Integer getPlayerRanking();
+}
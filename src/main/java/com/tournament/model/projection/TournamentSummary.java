@@ -0,0 +1,40 @@
+package com.tournament.model.projection;
+
+import com.tournament.model.Platform;
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.model.enums.UserRole;
+
+/**
+ * Read-only view of a tournament joined with its game and organizer, flattened to the
+ * columns exposed by {@code TournamentDto}.
+ */
+public interface TournamentSummary {
+    
+    Long getId();
+    
+    String getPublicId();
+    
+    String getName();
+    
+    Integer getMaxPlayers();
+    
+    Integer getCurrentPlayers();
+    
+    BracketFormat getFormat();
+    
+    String getGamePublicId();
+    
+    String getGameTitle();
+    
+    String getGameGenre();
+    
+    Platform getGamePlatform();
+    
+    String getOrganizerPublicId();
+    
+    String getOrganizerUsername();
+    
+    UserRole getOrganizerRole();
+    
+    Integer getOrganizerRanking();
+}
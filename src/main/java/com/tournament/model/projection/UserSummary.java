@@ -0,0 +1,19 @@
+package com.tournament.model.projection;
+
+import com.tournament.model.enums.UserRole;
+
+/**
+ * Read-only view of the user columns exposed by {@code UserDto}.
+ */
+public interface UserSummary {
+    
+    Long getId();
+    
+    String getPublicId();
+    
+    String getUsername();
+    
+    UserRole getRole();
+    
+    Integer getRanking();
+}
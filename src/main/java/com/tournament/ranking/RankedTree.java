@@ -0,0 +1,244 @@
+package com.tournament.ranking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Order-statistic treap: entries are kept sorted by score (highest first, ties broken by
+ * key) and every node records the size of its subtree, so insert, remove, "position of
+ * key" and "entry at position" are all O(log n) expected, and a range of k consecutive
+ * positions costs O(log n + k).
+ *
+ * <p>Positions are 0-based here; callers present them 1-based. Not thread-safe: callers
+ * guard it with their own lock.
+ */
+public class RankedTree<K extends Comparable<? super K>, V> {
+    
+    public record Entry<K, V>(K key, int score, V value) {
+    }
+    
+    private static final class Node<K, V> {
+        private final K key;
+        private final int score;
+        private final V value;
+        private final int priority;
+        private int size = 1;
+        private Node<K, V> left;
+        private Node<K, V> right;
+        
+        private Node(K key, int score, V value, int priority) {
+            this.key = key;
+            this.score = score;
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+    
+    private final Map<K, Node<K, V>> nodesByKey = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<K, V> root;
+    
+    public int size() {
+        return nodesByKey.size();
+    }
+    
+    public boolean contains(K key) {
+        return nodesByKey.containsKey(key);
+    }
+    
+    /**
+     * Inserts the entry, replacing (and re-positioning) any entry with the same key.
+     */
+    public void put(K key, int score, V value) {
+        remove(key);
+        Node<K, V> node = new Node<>(key, score, value, random.nextInt());
+        nodesByKey.put(key, node);
+        root = insert(root, node);
+    }
+    
+    public boolean remove(K key) {
+        Node<K, V> node = nodesByKey.remove(key);
+        if (node == null) {
+            return false;
+        }
+        root = delete(root, node);
+        return true;
+    }
+    
+    public void clear() {
+        nodesByKey.clear();
+        root = null;
+    }
+    
+    /**
+     * Returns the 0-based position of the key, or -1 if it is not present.
+     */
+    public int positionOf(K key) {
+        Node<K, V> target = nodesByKey.get(key);
+        if (target == null) {
+            return -1;
+        }
+        int position = 0;
+        Node<K, V> current = root;
+        while (current != target) {
+            if (compare(target, current) < 0) {
+                current = current.left;
+            } else {
+                position += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return position + size(target.left);
+    }
+    
+    public Entry<K, V> get(K key) {
+        Node<K, V> node = nodesByKey.get(key);
+        return node == null ? null : toEntry(node);
+    }
+    
+    /**
+     * Returns the entries at positions [from, to), clamped to the tree bounds.
+     */
+    public List<Entry<K, V>> range(int from, int to) {
+        int start = Math.max(0, from);
+        int end = Math.min(size(), to);
+        if (start >= end) {
+            return Collections.emptyList();
+        }
+        List<Entry<K, V>> out = new ArrayList<>(end - start);
+        collect(root, 0, start, end, out);
+        return out;
+    }
+    
+    public List<Entry<K, V>> top(int k) {
+        return range(0, k);
+    }
+    
+    private void collect(Node<K, V> node, int offset, int from, int to, List<Entry<K, V>> out) {
+        if (node == null) {
+            return;
+        }
+        int nodePosition = offset + size(node.left);
+        if (from < nodePosition) {
+            collect(node.left, offset, from, to, out);
+        }
+        if (nodePosition >= from && nodePosition < to) {
+            out.add(toEntry(node));
+        }
+        if (to > nodePosition + 1) {
+            collect(node.right, nodePosition + 1, from, to, out);
+        }
+    }
+    
+    private Node<K, V> insert(Node<K, V> node, Node<K, V> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            split(node, inserted);
+            update(inserted);
+            return inserted;
+        }
+        if (compare(inserted, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        update(node);
+        return node;
+    }
+    
+    /**
+     * Splits {@code node} around {@code pivot}, attaching the lower part as the pivot's
+     * left child and the upper part as its right child.
+     */
+    private void split(Node<K, V> node, Node<K, V> pivot) {
+        Node<K, V> lowerRoot = null;
+        Node<K, V> upperRoot = null;
+        Node<K, V> lowerTail = null;
+        Node<K, V> upperTail = null;
+        List<Node<K, V>> touched = new ArrayList<>();
+        while (node != null) {
+            touched.add(node);
+            if (compare(node, pivot) < 0) {
+                if (lowerTail == null) {
+                    lowerRoot = node;
+                } else {
+                    lowerTail.right = node;
+                }
+                lowerTail = node;
+                node = node.right;
+            } else {
+                if (upperTail == null) {
+                    upperRoot = node;
+                } else {
+                    upperTail.left = node;
+                }
+                upperTail = node;
+                node = node.left;
+            }
+        }
+        if (lowerTail != null) {
+            lowerTail.right = null;
+        }
+        if (upperTail != null) {
+            upperTail.left = null;
+        }
+        for (int i = touched.size() - 1; i >= 0; i--) {
+            update(touched.get(i));
+        }
+        pivot.left = lowerRoot;
+        pivot.right = upperRoot;
+    }
+    
+    private Node<K, V> delete(Node<K, V> node, Node<K, V> target) {
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (compare(target, node) < 0) {
+            node.left = delete(node.left, target);
+        } else {
+            node.right = delete(node.right, target);
+        }
+        update(node);
+        return node;
+    }
+    
+    private Node<K, V> merge(Node<K, V> lower, Node<K, V> upper) {
+        if (lower == null) {
+            return upper;
+        }
+        if (upper == null) {
+            return lower;
+        }
+        if (lower.priority > upper.priority) {
+            lower.right = merge(lower.right, upper);
+            update(lower);
+            return lower;
+        }
+        upper.left = merge(lower, upper.left);
+        update(upper);
+        return upper;
+    }
+    
+    private int compare(Node<K, V> a, Node<K, V> b) {
+        int byScore = Integer.compare(b.score, a.score);
+        return byScore != 0 ? byScore : a.key.compareTo(b.key);
+    }
+    
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+    
+    private static void update(Node<?, ?> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+    
+    private Entry<K, V> toEntry(Node<K, V> node) {
+        return new Entry<>(node.key, node.score, node.value);
+    }
+}
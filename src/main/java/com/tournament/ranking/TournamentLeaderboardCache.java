@@ -0,0 +1,299 @@
+package com.tournament.ranking;
+
+import com.tournament.dto.GameDto;
+import com.tournament.dto.LeaderboardPositionDto;
+import com.tournament.dto.ParticipationDto;
+import com.tournament.dto.TournamentDto;
+import com.tournament.dto.UserDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Per-tournament leaderboards held in memory, ordered by score (highest first, ties by
+ * player public id). A board is loaded from the database on its first read and then kept
+ * current by ParticipationService, which applies each change after its transaction
+ * commits. Boards that have not been read for the idle timeout are evicted.
+ *
+ * <p>Every entry of a board shares one tournament snapshot, so a poll copies the
+ * tournament once rather than once per participation.
+ */
+@Component
+public class TournamentLeaderboardCache {
+    
+    private static final class Board {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final RankedTree<String, ParticipationDto> entries = new RankedTree<>();
+        private TournamentDto tournament;
+        private boolean loaded;
+        // Set when a change arrives while the board is still loading: the rows being read
+        // may predate it, so the load is discarded instead of installed.
+        private boolean stale;
+        private volatile long lastReadNanos = System.nanoTime();
+    }
+    
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    
+    @Value("${tournament.leaderboard.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+    
+    /**
+     * Returns up to {@code limit} entries of the tournament's leaderboard, loading the
+     * board through {@code loader} (all of the tournament's participations) on a miss.
+     */
+    public List<ParticipationDto> top(String tournamentId, int limit, Supplier<List<ParticipationDto>> loader) {
+        Board board = loadedBoard(tournamentId, loader);
+        if (board == null) {
+            return sortedCopy(loader.get(), limit);
+        }
+        Lock readLock = board.lock.readLock();
+        readLock.lock();
+        try {
+            TournamentDto tournament = copy(board.tournament);
+            List<ParticipationDto> result = new ArrayList<>();
+            for (RankedTree.Entry<String, ParticipationDto> entry : board.entries.top(limit)) {
+                result.add(copy(entry.value(), tournament));
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    /**
+     * Returns the player's leaderboard position, or null if the player has no
+     * participation in the tournament.
+     */
+    public LeaderboardPositionDto positionOf(String tournamentId, String playerId, Supplier<List<ParticipationDto>> loader) {
+        Board board = loadedBoard(tournamentId, loader);
+        if (board == null) {
+            List<ParticipationDto> rows = sortedCopy(loader.get(), Integer.MAX_VALUE);
+            for (int i = 0; i < rows.size(); i++) {
+                if (playerId.equals(rows.get(i).getPlayer().getId())) {
+                    return new LeaderboardPositionDto(i + 1, rows.get(i));
+                }
+            }
+            return null;
+        }
+        Lock readLock = board.lock.readLock();
+        readLock.lock();
+        try {
+            int position = board.entries.positionOf(playerId);
+            if (position < 0) {
+                return null;
+            }
+            ParticipationDto participation = copy(board.entries.get(playerId).value(), copy(board.tournament));
+            return new LeaderboardPositionDto(position + 1, participation);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    /**
+     * Inserts or re-scores a participation. Its tournament, when present, replaces the
+     * board's tournament snapshot (it carries the current player count).
+     */
+    public void put(ParticipationDto participation) {
+        TournamentDto tournament = participation.getTournament();
+        Board board = boards.get(tournament.getId());
+        if (board == null) {
+            return;
+        }
+        Lock writeLock = board.lock.writeLock();
+        writeLock.lock();
+        try {
+            if (!board.loaded) {
+                board.stale = true;
+                return;
+            }
+            board.tournament = copy(tournament);
+            board.entries.put(participation.getPlayer().getId(), score(participation), copy(participation, null));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    public void remove(String tournamentId, String playerId) {
+        Board board = boards.get(tournamentId);
+        if (board == null) {
+            return;
+        }
+        Lock writeLock = board.lock.writeLock();
+        writeLock.lock();
+        try {
+            if (!board.loaded) {
+                board.stale = true;
+                return;
+            }
+            if (board.entries.remove(playerId) && board.tournament != null) {
+                board.tournament.setCurrentPlayers(Math.max(0, board.tournament.getCurrentPlayers() - 1));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    /**
+     * Refreshes a user's details (name, role, ranking) wherever they appear as a player or
+     * as an organizer, without changing any score.
+     */
+    public void updateUser(UserDto user) {
+        for (Board board : boards.values()) {
+            Lock writeLock = board.lock.writeLock();
+            writeLock.lock();
+            try {
+                if (!board.loaded) {
+                    board.stale = true;
+                    continue;
+                }
+                RankedTree.Entry<String, ParticipationDto> entry = board.entries.get(user.getId());
+                if (entry != null) {
+                    ParticipationDto participation = copy(entry.value(), null);
+                    participation.setPlayer(copy(user));
+                    board.entries.put(user.getId(), entry.score(), participation);
+                }
+                if (board.tournament != null && board.tournament.getOrganizer() != null
+                        && user.getId().equals(board.tournament.getOrganizer().getId())) {
+                    board.tournament.setOrganizer(copy(user));
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+    
+    /**
+     * Drops the tournament's board; used when the tournament itself changes.
+     */
+    public void invalidate(String tournamentId) {
+        Board board = boards.remove(tournamentId);
+        if (board != null) {
+            markStale(board);
+        }
+    }
+    
+    /**
+     * Drops every board; used when data shared across boards (players, games) changes.
+     */
+    public void invalidateAll() {
+        for (String tournamentId : boards.keySet()) {
+            invalidate(tournamentId);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${tournament.leaderboard.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+        boards.entrySet().removeIf(entry -> entry.getValue().lastReadNanos - cutoff < 0);
+    }
+    
+    public int size() {
+        return boards.size();
+    }
+    
+    /**
+     * Returns the loaded board, loading it first if needed, or null if the load raced
+     * with a change and the caller should answer from a fresh database read instead.
+     */
+    private Board loadedBoard(String tournamentId, Supplier<List<ParticipationDto>> loader) {
+        Board board = boards.computeIfAbsent(tournamentId, id -> new Board());
+        board.lastReadNanos = System.nanoTime();
+        
+        Lock readLock = board.lock.readLock();
+        readLock.lock();
+        try {
+            if (board.loaded) {
+                return board;
+            }
+        } finally {
+            readLock.unlock();
+        }
+        
+        List<ParticipationDto> rows = loader.get();
+        
+        Lock writeLock = board.lock.writeLock();
+        writeLock.lock();
+        try {
+            if (board.loaded) {
+                return board;
+            }
+            if (board.stale || boards.get(tournamentId) != board) {
+                boards.remove(tournamentId, board);
+                return null;
+            }
+            for (ParticipationDto row : rows) {
+                if (board.tournament == null) {
+                    board.tournament = copy(row.getTournament());
+                }
+                board.entries.put(row.getPlayer().getId(), score(row), copy(row, null));
+            }
+            board.loaded = true;
+            return board;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private static void markStale(Board board) {
+        Lock writeLock = board.lock.writeLock();
+        writeLock.lock();
+        try {
+            board.stale = true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private static List<ParticipationDto> sortedCopy(List<ParticipationDto> rows, int limit) {
+        RankedTree<String, ParticipationDto> tree = new RankedTree<>();
+        for (ParticipationDto row : rows) {
+            tree.put(row.getPlayer().getId(), score(row), row);
+        }
+        List<ParticipationDto> result = new ArrayList<>();
+        for (RankedTree.Entry<String, ParticipationDto> entry : tree.top(limit)) {
+            result.add(entry.value());
+        }
+        return result;
+    }
+    
+    private static int score(ParticipationDto participation) {
+        return participation.getScore() != null ? participation.getScore() : 0;
+    }
+    
+    // The DTOs are mutable, so the cache never shares an instance with its callers.
+    
+    private static ParticipationDto copy(ParticipationDto participation, TournamentDto tournament) {
+        return new ParticipationDto(participation.getId(), participation.getJoinDate(), participation.getScore(),
+                tournament, copy(participation.getPlayer()));
+    }
+    
+    private static TournamentDto copy(TournamentDto tournament) {
+        if (tournament == null) {
+            return null;
+        }
+        GameDto game = tournament.getGame();
+        TournamentDto copy = new TournamentDto(tournament.getId(), tournament.getName(), tournament.getMaxPlayers(),
+                tournament.getCurrentPlayers(),
+                game == null ? null : new GameDto(game.getId(), game.getTitle(), game.getGenre(), game.getPlatform()),
+                copy(tournament.getOrganizer()));
+        copy.setFormat(tournament.getFormat());
+        return copy;
+    }
+    
+    private static UserDto copy(UserDto user) {
+        if (user == null) {
+            return null;
+        }
+        return new UserDto(user.getId(), user.getUsername(), user.getRole(), user.getRanking());
+    }
+}
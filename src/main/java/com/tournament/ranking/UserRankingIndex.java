@@ -0,0 +1,136 @@
+package com.tournament.ranking;
+
+import com.tournament.dto.RankingPositionDto;
+import com.tournament.dto.UserDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory global ranking of users, ordered by ranking (highest first, ties by public
+ * id). Answers top-K, "position of player" and "players around player" without touching
+ * the database.
+ *
+ * <p>The index is rebuilt from the database at startup (and after a batch re-rating) and
+ * kept in sync by UserService, which applies every change after its transaction commits. Users written straight
+ * through the repository are picked up on the next rebuild (or lazily, on a position
+ * lookup).
+ */
+@Component
+public class UserRankingIndex {
+    
+    private final RankedTree<String, UserDto> tree = new RankedTree<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public void rebuild(Collection<UserDto> users) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            tree.clear();
+            for (UserDto user : users) {
+                tree.put(user.getId(), ranking(user), copy(user));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    public void put(UserDto user) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            tree.put(user.getId(), ranking(user), copy(user));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    public void remove(String publicId) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            tree.remove(publicId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    public boolean contains(String publicId) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return tree.contains(publicId);
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    /**
+     * Returns up to {@code limit} users with a positive ranking, highest first.
+     */
+    public List<UserDto> top(int limit) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return tree.top(limit).stream()
+                    .filter(entry -> entry.score() > 0)
+                    .map(entry -> copy(entry.value()))
+                    .collect(Collectors.toList());
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    /**
+     * Returns the player's position, or null if the player is not indexed.
+     */
+    public RankingPositionDto positionOf(String publicId) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int position = tree.positionOf(publicId);
+            return position < 0 ? null : new RankingPositionDto(position + 1, copy(tree.get(publicId).value()));
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    /**
+     * Returns the player together with up to {@code radius} neighbours on each side, or an
+     * empty list if the player is not indexed.
+     */
+    public List<RankingPositionDto> around(String publicId, int radius) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int position = tree.positionOf(publicId);
+            if (position < 0) {
+                return List.of();
+            }
+            int from = Math.max(0, position - radius);
+            List<RankedTree.Entry<String, UserDto>> entries = tree.range(from, position + radius + 1);
+            List<RankingPositionDto> result = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                result.add(new RankingPositionDto(from + i + 1, copy(entries.get(i).value())));
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+    
+    private static int ranking(UserDto user) {
+        return user.getRanking() != null ? user.getRanking() : 0;
+    }
+    
+    // UserDto is mutable, so the index never shares an instance with its callers.
+    private static UserDto copy(UserDto user) {
+        return new UserDto(user.getId(), user.getUsername(), user.getRole(), user.getRanking());
+    }
+}
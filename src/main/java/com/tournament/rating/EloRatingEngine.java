@@ -0,0 +1,37 @@
+package com.tournament.rating;
+
+/**
+ * Classic Elo: the expected score follows a logistic curve on the rating difference
+ * (400 points = 10:1 odds), and each player moves by K times the surprise. The update
+ * is zero-sum, so the two changes always cancel out.
+ */
+public class EloRatingEngine implements RatingEngine {
+    
+    private final double kFactor;
+    
+    public EloRatingEngine(double kFactor) {
+        if (kFactor <= 0) {
+            throw new IllegalArgumentException("K-factor must be positive");
+        }
+        this.kFactor = kFactor;
+    }
+    
+    @Override
+    public String getName() {
+        return "elo";
+    }
+    
+    public double getKFactor() {
+        return kFactor;
+    }
+    
+    @Override
+    public void apply(RatingTable table, int a, int b, double scoreA) {
+        double ratingA = table.rating(a);
+        double ratingB = table.rating(b);
+        double expectedA = 1.0 / (1.0 + Math.pow(10.0, (ratingB - ratingA) / 400.0));
+        double change = kFactor * (scoreA - expectedA);
+        table.set(a, ratingA + change, table.deviation(a), table.volatility(a));
+        table.set(b, ratingB - change, table.deviation(b), table.volatility(b));
+    }
+}
@@ -0,0 +1,109 @@
+package com.tournament.rating;
+
+/**
+ * Glicko-2 (Glickman, 2012). Each player carries a rating deviation (how uncertain the
+ * rating is) and a volatility (how erratic their results are), so new or inactive
+ * players move quickly while established ones settle.
+ *
+ * <p>Matches are rated as they are reported, so every match is treated as its own
+ * rating period with a single opponent.
+ */
+public class Glicko2RatingEngine implements RatingEngine {
+    
+    private static final double SCALE = 173.7178;
+    private static final double BASE_RATING = 1500.0;
+    private static final double CONVERGENCE = 0.000001;
+    
+    private final double tau;
+    
+    public Glicko2RatingEngine(double tau) {
+        if (tau <= 0) {
+            throw new IllegalArgumentException("Tau must be positive");
+        }
+        this.tau = tau;
+    }
+    
+    @Override
+    public String getName() {
+        return "glicko2";
+    }
+    
+    public double getTau() {
+        return tau;
+    }
+    
+    @Override
+    public void apply(RatingTable table, int a, int b, double scoreA) {
+        double muA = (table.rating(a) - BASE_RATING) / SCALE;
+        double phiA = table.deviation(a) / SCALE;
+        double sigmaA = table.volatility(a);
+        double muB = (table.rating(b) - BASE_RATING) / SCALE;
+        double phiB = table.deviation(b) / SCALE;
+        double sigmaB = table.volatility(b);
+        
+        update(table, a, muA, phiA, sigmaA, muB, phiB, scoreA);
+        update(table, b, muB, phiB, sigmaB, muA, phiA, 1.0 - scoreA);
+    }
+    
+    private void update(RatingTable table, int slot, double mu, double phi, double sigma,
+                        double opponentMu, double opponentPhi, double score) {
+        double g = g(opponentPhi);
+        double expected = 1.0 / (1.0 + Math.exp(-g * (mu - opponentMu)));
+        double variance = 1.0 / (g * g * expected * (1.0 - expected));
+        double delta = variance * g * (score - expected);
+        
+        double newSigma = volatility(phi, sigma, variance, delta);
+        double phiStar = Math.sqrt(phi * phi + newSigma * newSigma);
+        double newPhi = 1.0 / Math.sqrt(1.0 / (phiStar * phiStar) + 1.0 / variance);
+        double newMu = mu + newPhi * newPhi * g * (score - expected);
+        
+        table.set(slot, newMu * SCALE + BASE_RATING, newPhi * SCALE, newSigma);
+    }
+    
+    private static double g(double phi) {
+        return 1.0 / Math.sqrt(1.0 + 3.0 * phi * phi / (Math.PI * Math.PI));
+    }
+    
+    // Step 5 of the paper: solve for the new volatility with the Illinois variant of
+    // regula falsi.
+    private double volatility(double phi, double sigma, double variance, double delta) {
+        double a = Math.log(sigma * sigma);
+        double phiSquared = phi * phi;
+        double deltaSquared = delta * delta;
+        
+        double lower = a;
+        double upper;
+        if (deltaSquared > phiSquared + variance) {
+            upper = Math.log(deltaSquared - phiSquared - variance);
+        } else {
+            int k = 1;
+            while (f(a - k * tau, a, phiSquared, variance, deltaSquared) < 0) {
+                k++;
+            }
+            upper = a - k * tau;
+        }
+        
+        double fLower = f(lower, a, phiSquared, variance, deltaSquared);
+        double fUpper = f(upper, a, phiSquared, variance, deltaSquared);
+        while (Math.abs(upper - lower) > CONVERGENCE) {
+            double c = lower + (lower - upper) * fLower / (fUpper - fLower);
+            double fC = f(c, a, phiSquared, variance, deltaSquared);
+            if (fC * fUpper <= 0) {
+                lower = upper;
+                fLower = fUpper;
+            } else {
+                fLower = fLower / 2.0;
+            }
+            upper = c;
+            fUpper = fC;
+        }
+        return Math.exp(lower / 2.0);
+    }
+    
+    private double f(double x, double a, double phiSquared, double variance, double deltaSquared) {
+        double ex = Math.exp(x);
+        double denominator = phiSquared + variance + ex;
+        return ex * (deltaSquared - phiSquared - variance - ex) / (2.0 * denominator * denominator)
+                - (x - a) / (tau * tau);
+    }
+}
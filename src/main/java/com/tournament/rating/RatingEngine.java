@@ -0,0 +1,21 @@
+package com.tournament.rating;
+
+/**
+ * Computes new ratings from a single match result. Both players are rated from their
+ * pre-match values in one pass, and the result is written back into the table.
+ */
+public interface RatingEngine {
+    
+    double WIN = 1.0;
+    double DRAW = 0.5;
+    double LOSS = 0.0;
+    
+    String getName();
+    
+    /**
+     * Applies one result between the players in slots {@code a} and {@code b}.
+     *
+     * @param scoreA {@link #WIN}, {@link #DRAW} or {@link #LOSS} from player a's side
+     */
+    void apply(RatingTable table, int a, int b, double scoreA);
+}
@@ -0,0 +1,52 @@
+package com.tournament.rating;
+
+import java.util.Arrays;
+
+/**
+ * Ratings of a fixed set of players held in parallel primitive arrays, indexed by the
+ * player's slot. Engines read and write these directly, so replaying a long match
+ * history allocates nothing per match.
+ *
+ * <p>Deviation and volatility are only meaningful to engines that track uncertainty
+ * (Glicko-2); Elo leaves them untouched.
+ */
+public final class RatingTable {
+    
+    public static final double DEFAULT_DEVIATION = 350.0;
+    public static final double DEFAULT_VOLATILITY = 0.06;
+    
+    private final double[] rating;
+    private final double[] deviation;
+    private final double[] volatility;
+    
+    public RatingTable(int size, double initialRating) {
+        this.rating = new double[size];
+        this.deviation = new double[size];
+        this.volatility = new double[size];
+        Arrays.fill(rating, initialRating);
+        Arrays.fill(deviation, DEFAULT_DEVIATION);
+        Arrays.fill(volatility, DEFAULT_VOLATILITY);
+    }
+    
+    public int size() {
+        return rating.length;
+    }
+    
+    public void set(int slot, double rating, double deviation, double volatility) {
+        this.rating[slot] = rating;
+        this.deviation[slot] = deviation;
+        this.volatility[slot] = volatility;
+    }
+    
+    public double rating(int slot) {
+        return rating[slot];
+    }
+    
+    public double deviation(int slot) {
+        return deviation[slot];
+    }
+    
+    public double volatility(int slot) {
+        return volatility[slot];
+    }
+}
@@ -2,7 +2,14 @@ package com.tournament.repository;
 
 import com.tournament.model.Game;
 import com.tournament.model.Platform;
+import com.tournament.model.projection.GameSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,15 +18,27 @@ import java.util.Optional;
 @Repository
 public interface GameRepository extends JpaRepository<Game, Long> {
     
+    String SELECT_SUMMARY = "select g.id as id, g.publicId as publicId, g.title as title, "
+            + "g.genre as genre, g.platform as platform from Game g ";
+    
     Optional<Game> findByPublicId(String publicId);
     
-    List<Game> findByGenre(String genre);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<Game> findByTitle(String title);
+    
+    boolean existsByTitleAndPlatform(String title, Platform platform);
     
-    List<Game> findByPlatform(Platform platform);
+    @Query(SELECT_SUMMARY + "where g.id > :lastId order by g.id")
+    List<GameSummary> findSummariesByIdGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
     
-    List<Game> findByTitleContainingIgnoreCase(String title);
+    @Query(SELECT_SUMMARY + "where g.genre = :genre")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<GameSummary> findSummariesByGenre(@Param("genre") String genre);
     
-    Optional<Game> findByTitle(String title);
+    @Query(SELECT_SUMMARY + "where g.platform = :platform")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<GameSummary> findSummariesByPlatform(@Param("platform") Platform platform);
     
-    boolean existsByTitleAndPlatform(String title, Platform platform);
+    @Query(SELECT_SUMMARY + "where lower(g.title) like lower(concat('%', :title, '%'))")
+    List<GameSummary> findSummariesByTitleContaining(@Param("title") String title);
 }
\ No newline at end of file
@@ -3,22 +3,81 @@ package com.tournament.repository;
 import com.tournament.model.Match;
 import com.tournament.model.Tournament;
 import com.tournament.model.User;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.projection.MatchOutcome;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
     
+    String SELECT_OUTCOME = "select new com.tournament.model.projection.MatchOutcome("
+            + "m.round, m.player1.id, m.player2.id, m.result) from Match m ";
+    
     Optional<Match> findByPublicId(String publicId);
     
     List<Match> findByTournament(Tournament tournament);
     
     List<Match> findByTournamentAndRound(Tournament tournament, Integer round);
     
-    List<Match> findByPlayer1OrPlayer2(User player1, User player2);
-    
     List<Match> findByTournamentOrderByRoundAsc(Tournament tournament);
-}
\ No newline at end of file
+    
+    // Read path for MatchMapper.toDto: fetches the tournament (with its game and organizer)
+    // and both players in the same query instead of one lazy load per association.
+    
+    @EntityGraph(attributePaths = {"tournament", "tournament.game", "tournament.organizer", "player1", "player2"})
+    List<Match> findWithDetailsByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"tournament", "tournament.game", "tournament.organizer", "player1", "player2"})
+    Optional<Match> findWithDetailsByPublicId(String publicId);
+    
+    @EntityGraph(attributePaths = {"tournament", "tournament.game", "tournament.organizer", "player1", "player2"})
+    List<Match> findWithDetailsByTournamentOrderByRoundAsc(Tournament tournament);
+    
+    @EntityGraph(attributePaths = {"tournament", "tournament.game", "tournament.organizer", "player1", "player2"})
+    List<Match> findWithDetailsByTournamentAndRound(Tournament tournament, Integer round);
+    
+    // Bulk result reporting: the matches and both players of each in one IN query.
+    
+    @EntityGraph(attributePaths = {"tournament", "player1", "player2"})
+    List<Match> findWithPlayersByPublicIdIn(Collection<String> publicIds);
+    
+    // Two single-column lookups instead of one OR query, so each side can use its own index.
+    
+    @EntityGraph(attributePaths = {"tournament", "tournament.game", "tournament.organizer", "player1", "player2"})
+    List<Match> findWithDetailsByPlayer1(User player1);
+    
+    @EntityGraph(attributePaths = {"tournament", "tournament.game", "tournament.organizer", "player1", "player2"})
+    List<Match> findWithDetailsByPlayer2(User player2);
+    
+    // Replay order for batch re-rating; streamed so the history is never held in memory.
+    
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_OUTCOME + "where m.result <> :pending order by m.tournament.id, m.round, m.id")
+    Stream<MatchOutcome> streamOutcomesInRoundOrder(@Param("pending") MatchResult pending);
+    
+    boolean existsByTournament(Tournament tournament);
+    
+    @Query("select max(m.round) from Match m where m.tournament = :tournament")
+    Integer findMaxRoundByTournament(@Param("tournament") Tournament tournament);
+    
+    long countByTournamentAndRoundAndResult(Tournament tournament, Integer round, MatchResult result);
+    
+    @Query(SELECT_OUTCOME + "where m.tournament = :tournament order by m.round, m.id")
+    List<MatchOutcome> findOutcomesByTournament(@Param("tournament") Tournament tournament);
+}
@@ -3,24 +3,56 @@ package com.tournament.repository;
 import com.tournament.model.Participation;
 import com.tournament.model.Tournament;
 import com.tournament.model.User;
+import com.tournament.model.projection.ParticipationSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ParticipationRepository extends JpaRepository<Participation, Long> {
     
+    String SELECT_SUMMARY = "select p.id as id, p.publicId as publicId, p.joinDate as joinDate, p.score as score, "
+            + "t.publicId as tournamentPublicId, t.name as tournamentName, "
+            + "t.maxPlayers as tournamentMaxPlayers, t.currentPlayers as tournamentCurrentPlayers, "
+            + "t.format as tournamentFormat, "
+            + "g.publicId as gamePublicId, g.title as gameTitle, g.genre as gameGenre, g.platform as gamePlatform, "
+            + "o.publicId as organizerPublicId, o.username as organizerUsername, "
+            + "o.role as organizerRole, o.ranking as organizerRanking, "
+            + "u.publicId as playerPublicId, u.username as playerUsername, "
+            + "u.role as playerRole, u.ranking as playerRanking "
+            + "from Participation p join p.tournament t join t.game g join t.organizer o join p.player u ";
+    
     Optional<Participation> findByPublicId(String publicId);
     
-    List<Participation> findByTournament(Tournament tournament);
+    Optional<Participation> findByTournamentAndPlayer(Tournament tournament, User player);
     
-    List<Participation> findByPlayer(User player);
+    boolean existsByTournamentAndPlayer(Tournament tournament, User player);
     
-    Optional<Participation> findByTournamentAndPlayer(Tournament tournament, User player);
+    @Query("select p.player.id from Participation p where p.tournament = :tournament")
+    Set<Long> findPlayerIdsByTournament(@Param("tournament") Tournament tournament);
     
-    List<Participation> findByTournamentOrderByScoreDesc(Tournament tournament);
+    @EntityGraph(attributePaths = {"player"})
+    List<Participation> findWithPlayerByTournament(Tournament tournament);
     
-    boolean existsByTournamentAndPlayer(Tournament tournament, User player);
+    @EntityGraph(attributePaths = {"player"})
+    List<Participation> findWithPlayerByTournamentAndSeedNotNullOrderBySeedAsc(Tournament tournament);
+    
+    @Query(SELECT_SUMMARY + "where p.id > :lastId order by p.id")
+    List<ParticipationSummary> findSummariesByIdGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
+    
+    @Query(SELECT_SUMMARY + "where t.publicId = :tournamentPublicId")
+    List<ParticipationSummary> findSummariesByTournamentPublicId(@Param("tournamentPublicId") String tournamentPublicId);
+    
+    @Query(SELECT_SUMMARY + "where u.publicId = :playerPublicId")
+    List<ParticipationSummary> findSummariesByPlayerPublicId(@Param("playerPublicId") String playerPublicId);
+    
+    @Query(SELECT_SUMMARY + "where t.publicId = :tournamentPublicId order by p.score desc")
+    List<ParticipationSummary> findLeaderboardSummaries(@Param("tournamentPublicId") String tournamentPublicId);
 }
\ No newline at end of file
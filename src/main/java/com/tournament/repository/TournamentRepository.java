@@ -1,8 +1,14 @@
 package com.tournament.repository;
 
 import com.tournament.model.Tournament;
-import com.tournament.model.User;
+import com.tournament.model.projection.TournamentSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,15 +17,57 @@ import java.util.Optional;
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
     
-    Optional<Tournament> findByPublicId(String publicId);
+    String SELECT_SUMMARY = "select t.id as id, t.publicId as publicId, t.name as name, "
+            + "t.maxPlayers as maxPlayers, t.currentPlayers as currentPlayers, t.format as format, "
+            + "g.publicId as gamePublicId, g.title as gameTitle, g.genre as gameGenre, g.platform as gamePlatform, "
+            + "o.publicId as organizerPublicId, o.username as organizerUsername, "
+            + "o.role as organizerRole, o.ranking as organizerRanking "
+            + "from Tournament t join t.game g join t.organizer o ";
     
-    List<Tournament> findByOrganizer(User organizer);
+    Optional<Tournament> findByPublicId(String publicId);
     
-    List<Tournament> findByCurrentPlayersLessThan(Integer maxPlayers);
+    // Row lock (select ... for update) held until the caller's transaction ends; bracket
+    // generation takes it so two generations for one tournament run one after the other.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Tournament t where t.publicId = :publicId")
+    Optional<Tournament> findForUpdateByPublicId(@Param("publicId") String publicId);
     
-    List<Tournament> findByGamePublicId(String gamePublicId);
+    boolean existsByPublicId(String publicId);
     
-    List<Tournament> findByNameContainingIgnoreCase(String name);
+    // Spelled out: the derived query left-joins games, which makes H2 scan every tournament
+    // instead of starting from the game's public-id index.
+    @Query("select t from Tournament t join t.game g where g.publicId = :gamePublicId")
+    List<Tournament> findByGamePublicId(@Param("gamePublicId") String gamePublicId);
     
     Optional<Tournament> findByName(String name);
+    
+    // Registration counter: a single conditional UPDATE per registration, so concurrent
+    // registrants never read-modify-write the count and can never push it past maxPlayers.
+    // Both return the number of rows updated (0 when the condition did not hold). Bulk
+    // updates bypass @Version, so they bump it themselves; a tournament loaded before
+    // the count changed then fails its optimistic check instead of writing the old count.
+    
+    @Modifying
+    @Query("update Tournament t set t.currentPlayers = t.currentPlayers + 1, t.version = t.version + 1 "
+            + "where t.publicId = :publicId and t.currentPlayers < t.maxPlayers")
+    int incrementCurrentPlayersIfNotFull(@Param("publicId") String publicId);
+    
+    @Modifying
+    @Query("update Tournament t set t.currentPlayers = t.currentPlayers + :count, t.version = t.version + 1 "
+            + "where t.publicId = :publicId and t.currentPlayers + :count <= t.maxPlayers")
+    int addCurrentPlayersIfRoom(@Param("publicId") String publicId, @Param("count") int count);
+    
+    @Modifying
+    @Query("update Tournament t set t.currentPlayers = t.currentPlayers - 1, t.version = t.version + 1 "
+            + "where t.publicId = :publicId and t.currentPlayers > 0")
+    int decrementCurrentPlayersIfNotEmpty(@Param("publicId") String publicId);
+    
+    @Query(SELECT_SUMMARY + "where t.id > :lastId order by t.id")
+    List<TournamentSummary> findSummariesByIdGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
+    
+    @Query(SELECT_SUMMARY + "where o.publicId = :organizerPublicId")
+    List<TournamentSummary> findSummariesByOrganizerPublicId(@Param("organizerPublicId") String organizerPublicId);
+    
+    @Query(SELECT_SUMMARY + "where t.currentPlayers < t.maxPlayers")
+    List<TournamentSummary> findAvailableSummaries();
 }
\ No newline at end of file
@@ -2,22 +2,42 @@ package com.tournament.repository;
 
 import com.tournament.model.User;
 import com.tournament.model.enums.UserRole;
+import com.tournament.model.projection.UserSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    String SELECT_SUMMARY = "select u.id as id, u.publicId as publicId, u.username as username, "
+            + "u.role as role, u.ranking as ranking from User u ";
+    
     Optional<User> findByPublicId(String publicId);
     
     Optional<User> findByUsername(String username);
     
-    List<User> findByRole(UserRole role);
+    boolean existsByUsername(String username);
+    
+    List<User> findByUsernameIn(Collection<String> usernames);
     
-    List<User> findByRankingGreaterThanOrderByRankingDesc(Integer ranking);
+    boolean existsByPublicId(String publicId);
     
-    boolean existsByUsername(String username);
+    @Query(SELECT_SUMMARY + "where u.id > :lastId order by u.id")
+    List<UserSummary> findSummariesByIdGreaterThan(@Param("lastId") Long lastId, Pageable pageable);
+    
+    @Query(SELECT_SUMMARY + "where u.role = :role")
+    List<UserSummary> findSummariesByRole(@Param("role") UserRole role);
+    
+    @Query(SELECT_SUMMARY)
+    List<UserSummary> findAllSummaries();
+    
+    @Query("select u.id from User u order by u.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.tournament.security;
+
+import java.time.Instant;
+
+/**
+ * The claims of a token whose signature and expiry have been verified. The role is
+ * already in Spring form ("ROLE_PLAYER"), as JwtUtil issues it.
+ */
+public record JwtClaims(String subject, String role, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -5,6 +5,7 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.function.Function;
 
@@ -13,6 +14,21 @@ public class JwtUtil {
     private final String SECRET = "supersecretkeysupersecretkeysupersecretkey!";
     private final long EXPIRATION = 1000 * 60 * 60 * 10; 
     private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+    // Built once: a configured parser is immutable and safe to share between requests.
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    /**
+     * Verifies the token's signature and expiry in a single parse and returns its claims.
+     * Throws a JwtException (or IllegalArgumentException for a blank token) when the
+     * token is malformed, forged, expired or carries no expiry.
+     */
+    public JwtClaims verify(String token) {
+        Claims claims = extractAllClaims(token);
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("Token has no expiry");
+        }
+        return new JwtClaims(claims.getSubject(), claims.get("role", String.class), claims.getExpiration().toInstant());
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -28,27 +44,27 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String generateToken(String username, String role) {
+        return generateToken(username, role, EXPIRATION);
     }
 
-    public String generateToken(String username, String role) {
+    String generateToken(String username, String role, long expirationMs) {
         String springRole = role.startsWith("ROLE_") ? role : "ROLE_" + role;
         return Jwts.builder()
                 .setSubject(username)
                 .claim("role", springRole)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .setExpiration(new Date(System.currentTimeMillis() + expirationMs))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        final JwtClaims claims = verify(token);
+        return (claims.subject().equals(username) && !claims.isExpired(Instant.now()));
     }
 
     public String extractRole(String token) {
@@ -0,0 +1,12 @@
+package com.tournament.security;
+
+/**
+ * Thrown when every password-hashing thread is busy and the queue is full; the request
+ * can be retried shortly. Thrown in bursts under load, so no stack trace is captured.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Too many concurrent sign-ins, please retry shortly", null, false, false);
+    }
+}
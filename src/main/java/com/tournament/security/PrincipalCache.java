@@ -0,0 +1,102 @@
+package com.tournament.security;
+
+import com.tournament.support.ExpiringMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Principals of recently authenticated users, keyed by username, so that a request with
+ * a valid token does not need a user lookup before reaching its controller. Entries live
+ * for the TTL and the cache holds at most max-size of them; UserService invalidates a
+ * user's entry when their role, password or name changes or the user is deleted.
+ */
+@Component
+public class PrincipalCache {
+
+    private final ExpiringMap<String, UserDetails> entries;
+
+    // Bumped by every invalidation. A load that started before an invalidation may have
+    // read the old row, so its result is returned to the caller but not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final LongSupplier clock;
+
+    @Value("${tournament.security.principal-cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    @Value("${tournament.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    public PrincipalCache() {
+        this.clock = System::nanoTime;
+        this.entries = new ExpiringMap<>(() -> maxSize, clock);
+    }
+
+    PrincipalCache(long ttlMs, int maxSize, LongSupplier clock) {
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new ExpiringMap<>(() -> this.maxSize, clock);
+    }
+
+    /**
+     * Returns the cached principal for the username, loading it through {@code loader}
+     * on a miss or after the entry has expired. Exceptions from the loader (an unknown
+     * user) propagate and nothing is cached.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        long now = clock.getAsLong();
+        UserDetails cached = entries.get(username);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        UserDetails principal = loader.apply(username);
+        entries.put(username, principal, now + TimeUnit.MILLISECONDS.toNanos(ttlMs));
+        if (generation.get() != loadGeneration) {
+            entries.remove(username);
+        }
+        return principal;
+    }
+
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        entries.remove(username);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${tournament.security.principal-cache.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        entries.evictExpired();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,96 @@
+package com.tournament.security;
+
+import com.tournament.support.ExpiringMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Claims of tokens that have already been verified, keyed by the SHA-256 digest of the
+ * token so that the cache never holds a usable credential. Clients send the same token
+ * for hours; a hit skips the signature check and the base64/JSON decoding.
+ *
+ * <p>An entry is only served while its token is unexpired: expiry is checked on every
+ * hit, and expired entries are also swept on a schedule and whenever the cache is full.
+ * Tokens that fail verification are never cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final ExpiringMap<String, JwtClaims> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${tournament.security.token-cache.max-size:10000}")
+    private int maxSize;
+
+    public VerifiedTokenCache() {
+        this.entries = new ExpiringMap<>(() -> maxSize, Clock.systemUTC()::millis);
+    }
+
+    VerifiedTokenCache(JwtUtil jwtUtil, int maxSize, Clock clock) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+        this.entries = new ExpiringMap<>(() -> this.maxSize, clock::millis);
+    }
+
+    /**
+     * Returns the token's claims, verifying it through JwtUtil unless an unexpired entry
+     * for it is cached. Throws what {@link JwtUtil#verify} throws for an invalid token.
+     */
+    public JwtClaims verify(String token) {
+        String digest = digest(token);
+        JwtClaims cached = entries.get(digest);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        JwtClaims claims = jwtUtil.verify(token);
+        entries.put(digest, claims, claims.expiresAt().toEpochMilli());
+        return claims;
+    }
+
+    @Scheduled(fixedDelayString = "${tournament.security.token-cache.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        entries.evictExpired();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
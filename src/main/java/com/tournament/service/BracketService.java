@@ -0,0 +1,207 @@
+package com.tournament.service;
+
+import com.tournament.bracket.BracketGenerator;
+import com.tournament.bracket.Pairing;
+import com.tournament.bracket.PlayedMatch;
+import com.tournament.bracket.RoundTracker;
+import com.tournament.dto.MatchDto;
+import com.tournament.exception.ConflictException;
+import com.tournament.exception.NotFoundException;
+import com.tournament.mapper.MatchMapper;
+import com.tournament.model.Match;
+import com.tournament.model.Participation;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.enums.SeedingStrategy;
+import com.tournament.model.projection.MatchOutcome;
+import com.tournament.ranking.TournamentLeaderboardCache;
+import com.tournament.repository.MatchRepository;
+import com.tournament.repository.ParticipationRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.support.AfterCommit;
+import com.tournament.support.CollectionVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class BracketService {
+    
+    @Autowired
+    private TournamentRepository tournamentRepository;
+    
+    @Autowired
+    private ParticipationRepository participationRepository;
+    
+    @Autowired
+    private MatchRepository matchRepository;
+    
+    @Autowired
+    private MatchMapper matchMapper;
+    
+    @Autowired
+    private List<BracketGenerator> generators;
+    
+    @Autowired
+    private TournamentLeaderboardCache leaderboardCache;
+    
+    @Autowired
+    private RoundTracker roundTracker;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    /**
+     * {@link #generateBracket(String, BracketFormat, SeedingStrategy)} for request parameters:
+     * the format and seeding strategy are given by name, case-insensitively. A null seeding
+     * strategy means {@link SeedingStrategy#RANKING}.
+     */
+    public List<MatchDto> generateBracket(String tournamentPublicId, String format, String seeding) {
+        return generateBracket(tournamentPublicId,
+                parse(BracketFormat.class, "bracket format", format),
+                seeding != null ? parse(SeedingStrategy.class, "seeding strategy", seeding) : null);
+    }
+    
+    /**
+     * Seeds the tournament's participants and creates the first round. Seeds and the
+     * format are stored so every later round can be paired from the database alone.
+     *
+     * <p>Both generation methods lock the tournament row first, so a second call for the
+     * same tournament waits for the first to commit and then sees its matches.
+     */
+    public List<MatchDto> generateBracket(String tournamentPublicId, BracketFormat format, SeedingStrategy seeding) {
+        Tournament tournament = tournamentRepository.findForUpdateByPublicId(tournamentPublicId)
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + tournamentPublicId));
+        
+        if (format == null) {
+            throw new RuntimeException("Bracket format is required");
+        }
+        if (tournament.getFormat() != null || matchRepository.existsByTournament(tournament)) {
+            throw new ConflictException("Tournament already has matches: " + tournamentPublicId);
+        }
+        
+        List<Participation> entrants = new ArrayList<>(participationRepository.findWithPlayerByTournament(tournament));
+        if (entrants.size() < 2) {
+            throw new RuntimeException("At least 2 participants are required to generate a bracket");
+        }
+        entrants.sort(seedOrder(seeding != null ? seeding : SeedingStrategy.RANKING));
+        
+        List<User> seeds = new ArrayList<>(entrants.size());
+        for (int i = 0; i < entrants.size(); i++) {
+            entrants.get(i).setSeed(i + 1);
+            seeds.add(entrants.get(i).getPlayer());
+        }
+        tournament.setFormat(format);
+        AfterCommit.run(() -> leaderboardCache.invalidate(tournament.getPublicId()));
+        collectionVersions.bump(CollectionVersions.TOURNAMENTS, CollectionVersions.tournament(tournamentPublicId));
+        
+        List<Pairing> pairings = generatorFor(format).pairRound(seeds.size(), 1, List.of());
+        return saveRound(tournament, 1, pairings, seeds);
+    }
+    
+    /**
+     * Pairs the round after the last one played. Returns an empty list when the bracket
+     * is complete. A call racing another one for the same round (the organizer's request
+     * and automatic advancement, say) finds that round pending and fails with a conflict
+     * instead of pairing it twice.
+     */
+    public List<MatchDto> generateNextRound(String tournamentPublicId) {
+        Tournament tournament = tournamentRepository.findForUpdateByPublicId(tournamentPublicId)
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + tournamentPublicId));
+        
+        if (tournament.getFormat() == null) {
+            throw new ConflictException("No bracket generated for tournament: " + tournamentPublicId);
+        }
+        
+        List<User> seeds = participationRepository.findWithPlayerByTournamentAndSeedNotNullOrderBySeedAsc(tournament)
+                .stream()
+                .map(Participation::getPlayer)
+                .collect(Collectors.toList());
+        Map<Long, Integer> seedByPlayerId = new HashMap<>(seeds.size() * 2);
+        for (int i = 0; i < seeds.size(); i++) {
+            seedByPlayerId.put(seeds.get(i).getId(), i);
+        }
+        
+        int lastRound = 0;
+        List<PlayedMatch> history = new ArrayList<>();
+        for (MatchOutcome outcome : matchRepository.findOutcomesByTournament(tournament)) {
+            if (outcome.result() == MatchResult.PENDING) {
+                throw new ConflictException("Round " + outcome.round() + " is not complete");
+            }
+            lastRound = Math.max(lastRound, outcome.round());
+            Integer player1 = seedByPlayerId.get(outcome.player1Id());
+            Integer player2 = seedByPlayerId.get(outcome.player2Id());
+            // Matches involving withdrawn players no longer affect the pairings.
+            if (player1 != null && player2 != null) {
+                history.add(new PlayedMatch(outcome.round(), player1, player2, outcome.result()));
+            }
+        }
+        
+        int nextRound = lastRound + 1;
+        List<Pairing> pairings = generatorFor(tournament.getFormat()).pairRound(seeds.size(), nextRound, history);
+        return saveRound(tournament, nextRound, pairings, seeds);
+    }
+    
+    // The whole round goes to the repository in one saveAll; with JDBC batching enabled
+    // Hibernate groups the inserts. An empty round means the bracket is finished.
+    private List<MatchDto> saveRound(Tournament tournament, int round, List<Pairing> pairings, List<User> seeds) {
+        String tournamentId = tournament.getPublicId();
+        AfterCommit.run(() -> {
+            if (pairings.isEmpty()) {
+                roundTracker.forget(tournamentId);
+            } else {
+                roundTracker.roundCreated(tournamentId, round, pairings.size());
+            }
+        });
+        if (!pairings.isEmpty()) {
+            collectionVersions.bump(CollectionVersions.matches(tournamentId));
+        }
+        
+        List<Match> matches = new ArrayList<>(pairings.size());
+        for (Pairing pairing : pairings) {
+            matches.add(new Match(tournament, round, seeds.get(pairing.player1()), seeds.get(pairing.player2()),
+                    MatchResult.PENDING));
+        }
+        return matchRepository.saveAll(matches).stream()
+                .map(matchMapper::toDto)
+                .collect(Collectors.toList());
+    }
+    
+    private BracketGenerator generatorFor(BracketFormat format) {
+        return generators.stream()
+                .filter(generator -> generator.getFormat() == format)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unsupported bracket format: " + format));
+    }
+    
+    private static <E extends Enum<E>> E parse(Class<E> type, String what, String name) {
+        if (name == null || name.isBlank()) {
+            throw new RuntimeException("The " + what + " is required");
+        }
+        try {
+            return Enum.valueOf(type, name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new RuntimeException("Unknown " + what + ": " + name);
+        }
+    }
+    
+    // Best first; ties keep registration order.
+    private static Comparator<Participation> seedOrder(SeedingStrategy seeding) {
+        Comparator<Participation> primary = seeding == SeedingStrategy.SCORE
+                ? Comparator.comparing(Participation::getScore, Comparator.reverseOrder())
+                : Comparator.comparing((Participation participation) -> participation.getPlayer().getRanking(),
+                        Comparator.reverseOrder());
+        return primary.thenComparing(Participation::getId);
+    }
+}
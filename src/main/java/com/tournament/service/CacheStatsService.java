@@ -0,0 +1,56 @@
+package com.tournament.service;
+
+import com.tournament.dto.CacheStatsDto;
+import com.tournament.support.ResponseCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Counters of the Hibernate second-level cache, one entry per region (entity regions are
+ * named after the entity class; query results share default-query-results-region), and
+ * of the serialized response cache, one entry per cached endpoint.
+ */
+@Service
+public class CacheStatsService {
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private ResponseCache responseCache;
+    
+    public List<CacheStatsDto> getSecondLevelCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        
+        List<CacheStatsDto> stats = new ArrayList<>();
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            long size = region.getElementCountInMemory();
+            stats.add(new CacheStatsDto(regionName, size >= 0 ? (int) Math.min(size, Integer.MAX_VALUE) : -1,
+                    region.getHitCount(), region.getMissCount()));
+        }
+        return stats;
+    }
+    
+    public List<CacheStatsDto> getResponseCacheStats() {
+        List<CacheStatsDto> stats = new ArrayList<>();
+        for (String region : responseCache.regions()) {
+            stats.add(new CacheStatsDto(region, responseCache.size(region),
+                    responseCache.hitCount(region), responseCache.missCount(region)));
+        }
+        return stats;
+    }
+}
@@ -1,10 +1,18 @@
 package com.tournament.service;
 
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.GameDto;
+import com.tournament.exception.ConflictException;
+import com.tournament.exception.NotFoundException;
+import com.tournament.mapper.CursorMapper;
 import com.tournament.mapper.GameMapper;
 import com.tournament.model.Game;
 import com.tournament.model.Platform;
+import com.tournament.model.projection.GameSummary;
+import com.tournament.ranking.TournamentLeaderboardCache;
 import com.tournament.repository.GameRepository;
+import com.tournament.support.AfterCommit;
+import com.tournament.support.CollectionVersions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,65 +30,83 @@ public class GameService {
     @Autowired
     private GameMapper gameMapper;
     
-    public List<GameDto> getAllGames() {
-        return gameRepository.findAll().stream()
-                .map(gameMapper::toDto)
-                .collect(Collectors.toList());
+    @Autowired
+    private CursorMapper cursorMapper;
+    
+    @Autowired
+    private TournamentLeaderboardCache leaderboardCache;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    @Transactional(readOnly = true)
+    public CursorPageDto<GameDto> getAllGames(String cursor, Integer size) {
+        List<GameSummary> rows = gameRepository.findSummariesByIdGreaterThan(
+                cursorMapper.toLastId(cursor), cursorMapper.toPageRequest(size));
+        return cursorMapper.toPage(rows, size, GameSummary::getId, gameMapper::toDto);
     }
     
     public GameDto getGameById(String publicId) {
         Game game = gameRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Game not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Game not found with id: " + publicId));
         return gameMapper.toDto(game);
     }
     
+    @Transactional(readOnly = true)
     public List<GameDto> getGamesByGenre(String genre) {
-        return gameRepository.findByGenre(genre).stream()
+        return gameRepository.findSummariesByGenre(genre).stream()
                 .map(gameMapper::toDto)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<GameDto> getGamesByPlatform(Platform platform) {
-        return gameRepository.findByPlatform(platform).stream()
+        return gameRepository.findSummariesByPlatform(platform).stream()
                 .map(gameMapper::toDto)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<GameDto> searchGamesByTitle(String title) {
-        return gameRepository.findByTitleContainingIgnoreCase(title).stream()
+        return gameRepository.findSummariesByTitleContaining(title).stream()
                 .map(gameMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     public GameDto createGame(GameDto gameDto) {
         if (gameRepository.existsByTitleAndPlatform(gameDto.getTitle(), gameDto.getPlatform())) {
-            throw new RuntimeException("Game with title '" + gameDto.getTitle() + "' already exists on platform '" + gameDto.getPlatform() + "'");
+            throw new ConflictException("Game with title '" + gameDto.getTitle() + "' already exists on platform '" + gameDto.getPlatform() + "'");
         }
         
         Game game = gameMapper.toEntity(gameDto);
         Game savedGame = gameRepository.save(game);
+        collectionVersions.bump(CollectionVersions.GAMES);
         return gameMapper.toDto(savedGame);
     }
     
     public GameDto updateGame(String publicId, GameDto gameDto) {
         Game existingGame = gameRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Game not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Game not found with id: " + publicId));
         
         if (!existingGame.getTitle().equals(gameDto.getTitle()) || 
             !existingGame.getPlatform().equals(gameDto.getPlatform())) {
             if (gameRepository.existsByTitleAndPlatform(gameDto.getTitle(), gameDto.getPlatform())) {
-                throw new RuntimeException("Game with title '" + gameDto.getTitle() + "' already exists on platform '" + gameDto.getPlatform() + "'");
+                throw new ConflictException("Game with title '" + gameDto.getTitle() + "' already exists on platform '" + gameDto.getPlatform() + "'");
             }
         }
         
         gameMapper.updateEntityFromDto(gameDto, existingGame);
         Game updatedGame = gameRepository.save(existingGame);
+        AfterCommit.run(leaderboardCache::invalidateAll);
+        collectionVersions.bump(CollectionVersions.GAMES);
         return gameMapper.toDto(updatedGame);
     }
     
     public void deleteGame(String publicId) {
         Game game = gameRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Game not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Game not found with id: " + publicId));
         gameRepository.delete(game);
+        AfterCommit.run(leaderboardCache::invalidateAll);
+        collectionVersions.bump(CollectionVersions.GAMES);
     }
 }
\ No newline at end of file
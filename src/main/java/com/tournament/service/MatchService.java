@@ -1,23 +1,42 @@
 package com.tournament.service;
 
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.MatchCreateDto;
 import com.tournament.dto.MatchDto;
+import com.tournament.dto.MatchResultEventDto;
+import com.tournament.dto.MatchResultUpdateDto;
+import com.tournament.events.MatchEventBroadcaster;
+import com.tournament.exception.NotFoundException;
+import com.tournament.mapper.CursorMapper;
 import com.tournament.mapper.MatchMapper;
 import com.tournament.model.Match;
 import com.tournament.model.Tournament;
 import com.tournament.model.User;
+import com.tournament.model.enums.BulkItemStatus;
 import com.tournament.model.enums.MatchResult;
 import com.tournament.repository.MatchRepository;
 import com.tournament.repository.ParticipationRepository;
 import com.tournament.repository.TournamentRepository;
 import com.tournament.repository.UserRepository;
+import com.tournament.support.AfterCommit;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.PublicIds;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -36,59 +55,87 @@ public class MatchService {
     private ParticipationRepository participationRepository;
     
     @Autowired
-    private UserService userService;
+    private RatingService ratingService;
+    
+    @Autowired
+    private RoundAdvancementService roundAdvancementService;
+    
+    @Autowired
+    private MatchEventBroadcaster matchEventBroadcaster;
     
     @Autowired
     private MatchMapper matchMapper;
     
-    public List<MatchDto> getAllMatches() {
-        return matchRepository.findAll().stream()
-                .map(matchMapper::toDto)
-                .collect(Collectors.toList());
+    @Autowired
+    private CursorMapper cursorMapper;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    public CursorPageDto<MatchDto> getAllMatches(String cursor, Integer size) {
+        List<Match> rows = matchRepository.findWithDetailsByIdGreaterThanOrderByIdAsc(
+                cursorMapper.toLastId(cursor), cursorMapper.toPageRequest(size));
+        return cursorMapper.toPage(rows, size, Match::getId, matchMapper::toDto);
     }
     
     public MatchDto getMatchById(String publicId) {
-        Match match = matchRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Match not found with id: " + publicId));
+        Match match = matchRepository.findWithDetailsByPublicId(publicId)
+                .orElseThrow(() -> new NotFoundException("Match not found with id: " + publicId));
         return matchMapper.toDto(match);
     }
     
     public List<MatchDto> getMatchesByTournament(String tournamentPublicId) {
         Tournament tournament = tournamentRepository.findByPublicId(tournamentPublicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentPublicId));
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + tournamentPublicId));
         
-        return matchRepository.findByTournamentOrderByRoundAsc(tournament).stream()
+        return matchRepository.findWithDetailsByTournamentOrderByRoundAsc(tournament).stream()
                 .map(matchMapper::toDto)
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Opens a server-sent event stream of the tournament's match results; see
+     * {@link MatchEventBroadcaster}.
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToResults(String tournamentPublicId) {
+        if (!tournamentRepository.existsByPublicId(tournamentPublicId)) {
+            throw new NotFoundException("Tournament not found with id: " + tournamentPublicId);
+        }
+        // Events carry the canonical id, so the subscription must be filed under it too.
+        return matchEventBroadcaster.subscribe(PublicIds.canonical(tournamentPublicId));
+    }
+    
     public List<MatchDto> getMatchesByTournamentAndRound(String tournamentPublicId, Integer round) {
         Tournament tournament = tournamentRepository.findByPublicId(tournamentPublicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentPublicId));
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + tournamentPublicId));
         
-        return matchRepository.findByTournamentAndRound(tournament, round).stream()
+        return matchRepository.findWithDetailsByTournamentAndRound(tournament, round).stream()
                 .map(matchMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     public List<MatchDto> getMatchesByPlayer(String playerPublicId) {
         User player = userRepository.findByPublicId(playerPublicId)
-                .orElseThrow(() -> new RuntimeException("Player not found with id: " + playerPublicId));
+                .orElseThrow(() -> new NotFoundException("Player not found with id: " + playerPublicId));
         
-        return matchRepository.findByPlayer1OrPlayer2(player, player).stream()
+        return Stream.concat(matchRepository.findWithDetailsByPlayer1(player).stream(),
+                        matchRepository.findWithDetailsByPlayer2(player).stream())
+                .distinct()
+                .sorted(Comparator.comparing(Match::getId))
                 .map(matchMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     public MatchDto createMatch(MatchCreateDto matchCreateDto) {
         Tournament tournament = tournamentRepository.findByName(matchCreateDto.getTournamentName())
-                .orElseThrow(() -> new RuntimeException("Tournament not found with name: " + matchCreateDto.getTournamentName()));
+                .orElseThrow(() -> new NotFoundException("Tournament not found with name: " + matchCreateDto.getTournamentName()));
         
         User player1 = userRepository.findByUsername(matchCreateDto.getPlayer1Username())
-                .orElseThrow(() -> new RuntimeException("Player1 not found with username: " + matchCreateDto.getPlayer1Username()));
+                .orElseThrow(() -> new NotFoundException("Player1 not found with username: " + matchCreateDto.getPlayer1Username()));
         
         User player2 = userRepository.findByUsername(matchCreateDto.getPlayer2Username())
-                .orElseThrow(() -> new RuntimeException("Player2 not found with username: " + matchCreateDto.getPlayer2Username()));
+                .orElseThrow(() -> new NotFoundException("Player2 not found with username: " + matchCreateDto.getPlayer2Username()));
         
         boolean player1Registered = participationRepository.existsByTournamentAndPlayer(tournament, player1);
         boolean player2Registered = participationRepository.existsByTournamentAndPlayer(tournament, player2);
@@ -102,7 +149,7 @@ public class MatchService {
         }
         
         Match match = new Match();
-        match.setPublicId(UUID.randomUUID().toString());
+        match.setPublicId(PublicIds.next());
         match.setTournament(tournament);
         match.setPlayer1(player1);
         match.setPlayer2(player2);
@@ -110,13 +157,16 @@ public class MatchService {
         match.setResult(matchCreateDto.getResult() != null ? matchCreateDto.getResult() : MatchResult.PENDING);
         
         Match savedMatch = matchRepository.save(match);
+        roundAdvancementService.matchChanged(tournament, null, null, savedMatch.getRound(), savedMatch.getResult());
+        collectionVersions.bump(CollectionVersions.matches(tournament.getPublicId()));
         return matchMapper.toDto(savedMatch);
     }
     
     public MatchDto updateMatch(String publicId, MatchCreateDto matchCreateDto) {
         Match existingMatch = matchRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Match not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Match not found with id: " + publicId));
         
+        Integer oldRound = existingMatch.getRound();
         MatchResult oldResult = existingMatch.getResult();
         
         existingMatch.setRound(matchCreateDto.getRound());
@@ -126,51 +176,129 @@ public class MatchService {
         
         Match updatedMatch = matchRepository.save(existingMatch);
         
-        if (matchCreateDto.getResult() != null && !matchCreateDto.getResult().equals(oldResult)) {
-            updatePlayerRankings(updatedMatch);
+        boolean resultChanged = matchCreateDto.getResult() != null && !matchCreateDto.getResult().equals(oldResult);
+        if (resultChanged) {
+            publishResult(updatedMatch);
         }
+        roundAdvancementService.matchChanged(updatedMatch.getTournament(), oldRound, oldResult,
+                updatedMatch.getRound(), updatedMatch.getResult());
+        collectionVersions.bump(CollectionVersions.matches(updatedMatch.getTournament().getPublicId()));
         
+        if (resultChanged && rate(updatedMatch, oldResult)) {
+            return matchMapper.toDto(reload(publicId));
+        }
         return matchMapper.toDto(updatedMatch);
     }
     
     public void deleteMatch(String publicId) {
         Match match = matchRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Match not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Match not found with id: " + publicId));
         matchRepository.delete(match);
+        roundAdvancementService.matchChanged(match.getTournament(), match.getRound(), match.getResult(), null, null);
+        collectionVersions.bump(CollectionVersions.matches(match.getTournament().getPublicId()));
     }
     
     public MatchDto updateMatchResult(String publicId, MatchResult result) {
         Match match = matchRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Match not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Match not found with id: " + publicId));
         
+        MatchResult oldResult = match.getResult();
         match.setResult(result);
         Match updatedMatch = matchRepository.save(match);
         
-        updatePlayerRankings(updatedMatch);
+        if (result != oldResult) {
+            publishResult(updatedMatch);
+        }
+        roundAdvancementService.matchChanged(updatedMatch.getTournament(), updatedMatch.getRound(), oldResult,
+                updatedMatch.getRound(), updatedMatch.getResult());
+        collectionVersions.bump(CollectionVersions.matches(updatedMatch.getTournament().getPublicId()));
         
+        // Re-sending the result it already has must not rate the players again.
+        if (result != oldResult && rate(updatedMatch, oldResult)) {
+            return matchMapper.toDto(reload(publicId));
+        }
         return matchMapper.toDto(updatedMatch);
     }
     
-    private void updatePlayerRankings(Match match) {
-        if (match.getResult() == MatchResult.PENDING || match.getResult() == MatchResult.DRAW) {
-            return;
-        }
+    /**
+     * Applies many reported results in one transaction. The matches and their players are
+     * loaded with one IN query, ratings are applied in memory in request order, and the
+     * changed rows are written with JDBC batching when the transaction commits. Items that
+     * cannot be applied are reported per item and do not affect the others.
+     */
+    public List<BulkItemResultDto> updateMatchResults(List<MatchResultUpdateDto> updates) {
+        Set<String> matchIds = updates.stream()
+                .map(MatchResultUpdateDto::getMatchId)
+                .collect(Collectors.toSet());
+        Map<String, Match> matches = matchRepository.findWithPlayersByPublicIdIn(matchIds).stream()
+                .collect(Collectors.toMap(Match::getPublicId, match -> match));
         
-        User winner = null;
-        User loser = null;
-        
-        if (match.getResult() == MatchResult.PLAYER1_WIN) {
-            winner = match.getPlayer1();
-            loser = match.getPlayer2();
-        } else if (match.getResult() == MatchResult.PLAYER2_WIN) {
-            winner = match.getPlayer2();
-            loser = match.getPlayer1();
+        List<BulkItemResultDto> statuses = new ArrayList<>(updates.size());
+        List<Match> changed = new ArrayList<>();
+        Map<Tournament, Map<Integer, Integer>> pendingDeltas = new LinkedHashMap<>();
+        boolean corrected = false;
+        Set<String> seen = new HashSet<>();
+        for (MatchResultUpdateDto update : updates) {
+            String matchId = update.getMatchId();
+            Match match = matches.get(matchId);
+            if (!seen.add(matchId)) {
+                statuses.add(new BulkItemResultDto(matchId, BulkItemStatus.REJECTED, "Duplicate match id in request"));
+            } else if (match == null) {
+                statuses.add(new BulkItemResultDto(matchId, BulkItemStatus.NOT_FOUND, "Match not found with id: " + matchId));
+            } else if (match.getResult() == update.getResult()) {
+                statuses.add(new BulkItemResultDto(matchId, BulkItemStatus.UNCHANGED, null));
+            } else {
+                MatchResult oldResult = match.getResult();
+                corrected |= isDecided(oldResult);
+                match.setResult(update.getResult());
+                changed.add(match);
+                Map<Integer, Integer> deltas = pendingDeltas.computeIfAbsent(match.getTournament(), t -> new HashMap<>());
+                RoundAdvancementService.addPendingDelta(deltas, match.getRound(), oldResult, -1);
+                RoundAdvancementService.addPendingDelta(deltas, match.getRound(), match.getResult(), 1);
+                statuses.add(new BulkItemResultDto(matchId, BulkItemStatus.UPDATED, null));
+            }
         }
         
-        if (winner != null && loser != null) {
-            userService.updateUserRanking(winner.getPublicId(), winner.getRanking() + 10);
-            int newLoserRanking = Math.max(0, loser.getRanking() - 5); 
-            userService.updateUserRanking(loser.getPublicId(), newLoserRanking);
+        pendingDeltas.forEach(roundAdvancementService::roundsChanged);
+        changed.forEach(this::publishResult);
+        collectionVersions.bump(changed.stream()
+                .map(match -> CollectionVersions.matches(match.getTournament().getPublicId()))
+                .distinct()
+                .toArray(String[]::new));
+        // One replay covers every correction in the batch, and the first decisions with them.
+        if (corrected) {
+            ratingService.recalculateAll();
+        } else {
+            ratingService.applyResults(changed);
+        }
+        return statuses;
+    }
+    
+    // A first decision is rated on top of the players' current ratings. A decided result
+    // that is corrected or reset cannot be taken back out, because later matches were rated
+    // on top of it, so every rating is re-derived from the match history instead. Returns
+    // true in that case: the replay clears the persistence context, so the caller reloads
+    // anything it still needs and does everything else before calling this.
+    private boolean rate(Match match, MatchResult oldResult) {
+        if (!isDecided(oldResult)) {
+            ratingService.applyResult(match);
+            return false;
         }
+        ratingService.recalculateAll();
+        return true;
+    }
+    
+    private Match reload(String publicId) {
+        return matchRepository.findWithDetailsByPublicId(publicId)
+                .orElseThrow(() -> new NotFoundException("Match not found with id: " + publicId));
+    }
+    
+    private static boolean isDecided(MatchResult result) {
+        return result != null && result != MatchResult.PENDING;
+    }
+    
+    private void publishResult(Match match) {
+        MatchResultEventDto event = matchMapper.toResultEvent(match);
+        AfterCommit.run(() -> matchEventBroadcaster.publish(event));
     }
 }
\ No newline at end of file
@@ -1,22 +1,45 @@
 package com.tournament.service;
 
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.CursorPageDto;
+import com.tournament.dto.LeaderboardPositionDto;
+import com.tournament.dto.ParticipantEntryDto;
 import com.tournament.dto.ParticipationCreateDto;
 import com.tournament.dto.ParticipationDto;
+import com.tournament.exception.CapacityExceededException;
+import com.tournament.exception.ConflictException;
+import com.tournament.exception.ForbiddenException;
+import com.tournament.exception.NotFoundException;
+import com.tournament.mapper.CursorMapper;
+import com.tournament.mapper.ParticipantCsvMapper;
 import com.tournament.mapper.ParticipationMapper;
 import com.tournament.model.Participation;
 import com.tournament.model.Tournament;
 import com.tournament.model.User;
+import com.tournament.model.enums.BulkItemStatus;
 import com.tournament.model.enums.UserRole;
+import com.tournament.model.projection.ParticipationSummary;
+import com.tournament.ranking.TournamentLeaderboardCache;
 import com.tournament.repository.ParticipationRepository;
 import com.tournament.repository.TournamentRepository;
 import com.tournament.repository.UserRepository;
+import com.tournament.support.AfterCommit;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.PublicIds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,70 +61,120 @@ public class ParticipationService {
     @Autowired
     private ParticipationMapper participationMapper;
     
-    public List<ParticipationDto> getAllParticipations() {
-        return participationRepository.findAll().stream()
-                .map(participationMapper::toDto)
-                .collect(Collectors.toList());
+    @Autowired
+    private CursorMapper cursorMapper;
+    
+    @Autowired
+    private ParticipantCsvMapper participantCsvMapper;
+    
+    @Autowired
+    private TournamentLeaderboardCache leaderboardCache;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Transactional(readOnly = true)
+    public CursorPageDto<ParticipationDto> getAllParticipations(String cursor, Integer size) {
+        List<ParticipationSummary> rows = participationRepository.findSummariesByIdGreaterThan(
+                cursorMapper.toLastId(cursor), cursorMapper.toPageRequest(size));
+        return cursorMapper.toPage(rows, size, ParticipationSummary::getId, participationMapper::toDto);
     }
     
     public ParticipationDto getParticipationById(String publicId) {
         Participation participation = participationRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Participation not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Participation not found with id: " + publicId));
         return participationMapper.toDto(participation);
     }
     
+    @Transactional(readOnly = true)
     public List<ParticipationDto> getParticipationsByTournament(String tournamentPublicId) {
-        Tournament tournament = tournamentRepository.findByPublicId(tournamentPublicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentPublicId));
+        if (!tournamentRepository.existsByPublicId(tournamentPublicId)) {
+            throw new NotFoundException("Tournament not found with id: " + tournamentPublicId);
+        }
         
-        return participationRepository.findByTournament(tournament).stream()
+        return participationRepository.findSummariesByTournamentPublicId(tournamentPublicId).stream()
                 .map(participationMapper::toDto)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<ParticipationDto> getParticipationsByPlayer(String playerPublicId) {
-        User player = userRepository.findByPublicId(playerPublicId)
-                .orElseThrow(() -> new RuntimeException("Player not found with id: " + playerPublicId));
+        if (!userRepository.existsByPublicId(playerPublicId)) {
+            throw new NotFoundException("Player not found with id: " + playerPublicId);
+        }
         
-        return participationRepository.findByPlayer(player).stream()
+        return participationRepository.findSummariesByPlayerPublicId(playerPublicId).stream()
                 .map(participationMapper::toDto)
                 .collect(Collectors.toList());
     }
     
+    // Leaderboard reads are served from TournamentLeaderboardCache and only reach the
+    // database on a miss, so they join a transaction only if one is already running.
+    
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<ParticipationDto> getTournamentLeaderboard(String tournamentPublicId) {
-        Tournament tournament = tournamentRepository.findByPublicId(tournamentPublicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + tournamentPublicId));
+        return getTournamentLeaderboard(tournamentPublicId, null);
+    }
+    
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<ParticipationDto> getTournamentLeaderboard(String tournamentPublicId, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new RuntimeException("Limit must be at least 1");
+        }
+        // Boards are keyed by the canonical id, the form put() and remove() receive.
+        return leaderboardCache.top(PublicIds.canonical(tournamentPublicId), limit != null ? limit : Integer.MAX_VALUE,
+                () -> loadLeaderboard(tournamentPublicId));
+    }
+    
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public LeaderboardPositionDto getLeaderboardPosition(String tournamentPublicId, String playerPublicId) {
+        LeaderboardPositionDto position = leaderboardCache.positionOf(PublicIds.canonical(tournamentPublicId),
+                PublicIds.canonical(playerPublicId),
+                () -> loadLeaderboard(tournamentPublicId));
+        if (position == null) {
+            throw new NotFoundException("Player is not registered in this tournament");
+        }
+        return position;
+    }
+    
+    private List<ParticipationDto> loadLeaderboard(String tournamentPublicId) {
+        if (!tournamentRepository.existsByPublicId(tournamentPublicId)) {
+            throw new NotFoundException("Tournament not found with id: " + tournamentPublicId);
+        }
         
-        return participationRepository.findByTournamentOrderByScoreDesc(tournament).stream()
+        return participationRepository.findLeaderboardSummaries(tournamentPublicId).stream()
                 .map(participationMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     public ParticipationDto createParticipation(ParticipationCreateDto participationCreateDto) {
         Tournament tournament = tournamentRepository.findByName(participationCreateDto.getTournamentName())
-                .orElseThrow(() -> new RuntimeException("Tournament not found with name: " + participationCreateDto.getTournamentName()));
+                .orElseThrow(() -> new NotFoundException("Tournament not found with name: " + participationCreateDto.getTournamentName()));
         
         User player = userRepository.findByUsername(participationCreateDto.getPlayerUsername())
-                .orElseThrow(() -> new RuntimeException("Player not found with username: " + participationCreateDto.getPlayerUsername()));
+                .orElseThrow(() -> new NotFoundException("Player not found with username: " + participationCreateDto.getPlayerUsername()));
         
         if (player.getRole() != UserRole.PLAYER && player.getRole() != UserRole.ADMIN) {
-            throw new RuntimeException("Only players and admins can join tournaments");
+            throw new ForbiddenException("Only players and admins can join tournaments");
         }
         
         if (tournament.getOrganizer().getId().equals(player.getId())) {
-            throw new RuntimeException("Organizer cannot join as a player in their own tournament");
+            throw new ForbiddenException("Organizer cannot join as a player in their own tournament");
         }
         
         if (tournament.getCurrentPlayers() >= tournament.getMaxPlayers()) {
-            throw new RuntimeException("Tournament is already full");
+            throw new CapacityExceededException("Tournament is already full");
         }
         
         if (participationRepository.existsByTournamentAndPlayer(tournament, player)) {
-            throw new RuntimeException("Player is already participating in this tournament");
+            throw new ConflictException("Player is already participating in this tournament");
         }
         
         Participation participation = new Participation();
-        participation.setPublicId(UUID.randomUUID().toString());
+        participation.setPublicId(PublicIds.next());
         participation.setTournament(tournament);
         participation.setPlayer(player);
         participation.setJoinDate(LocalDateTime.now());
@@ -109,36 +182,115 @@ public class ParticipationService {
         
         Participation savedParticipation = participationRepository.save(participation);
         
+        // Claim the slot last: the conditional update is what enforces capacity (the check
+        // above is only a fast path), and taking the tournament row lock at the end of the
+        // transaction keeps it held for as short as possible. A full tournament rolls back
+        // the insert above.
         tournamentService.incrementCurrentPlayers(tournament.getPublicId());
+        entityManager.refresh(tournament);
+        
+        ParticipationDto savedDto = participationMapper.toDto(savedParticipation);
+        AfterCommit.run(() -> leaderboardCache.put(savedDto));
+        collectionVersions.bump(CollectionVersions.participations(tournament.getPublicId()));
+        return savedDto;
+    }
+    
+    /**
+     * Registers many players in one tournament. Every check {@link #createParticipation}
+     * makes is done for the whole list at once: one query for the players, one for who is
+     * already registered, and a single conditional UPDATE claiming all the slots at the
+     * end. Entries are judged in order, so once the tournament fills up the remaining
+     * ones are rejected; an entry that fails a check does not stop the others.
+     */
+    public List<BulkItemResultDto> registerParticipants(String tournamentPublicId, List<ParticipantEntryDto> entries) {
+        Tournament tournament = tournamentRepository.findByPublicId(tournamentPublicId)
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + tournamentPublicId));
+        
+        Set<String> usernames = entries.stream()
+                .map(ParticipantEntryDto::getPlayerUsername)
+                .collect(Collectors.toSet());
+        Map<String, User> players = userRepository.findByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(User::getUsername, player -> player));
+        Set<Long> registered = participationRepository.findPlayerIdsByTournament(tournament);
+        Long organizerId = tournament.getOrganizer().getId();
+        int openSlots = Math.max(0, tournament.getMaxPlayers() - tournament.getCurrentPlayers());
+        LocalDateTime joinDate = LocalDateTime.now();
         
-        return participationMapper.toDto(savedParticipation);
+        List<BulkItemResultDto> statuses = new ArrayList<>(entries.size());
+        List<Participation> created = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (ParticipantEntryDto entry : entries) {
+            String username = entry.getPlayerUsername();
+            User player = players.get(username);
+            if (!seen.add(username)) {
+                statuses.add(new BulkItemResultDto(username, BulkItemStatus.REJECTED, "Duplicate username in request"));
+            } else if (player == null) {
+                statuses.add(new BulkItemResultDto(username, BulkItemStatus.NOT_FOUND, "Player not found with username: " + username));
+            } else if (player.getRole() != UserRole.PLAYER && player.getRole() != UserRole.ADMIN) {
+                statuses.add(new BulkItemResultDto(username, BulkItemStatus.REJECTED, "Only players and admins can join tournaments"));
+            } else if (organizerId.equals(player.getId())) {
+                statuses.add(new BulkItemResultDto(username, BulkItemStatus.REJECTED, "Organizer cannot join as a player in their own tournament"));
+            } else if (registered.contains(player.getId())) {
+                statuses.add(new BulkItemResultDto(username, BulkItemStatus.UNCHANGED, "Player is already participating in this tournament"));
+            } else if (created.size() >= openSlots) {
+                statuses.add(new BulkItemResultDto(username, BulkItemStatus.REJECTED, "Tournament is already full"));
+            } else {
+                Participation participation = new Participation(tournament, player, joinDate, entry.getScore());
+                created.add(participation);
+                statuses.add(new BulkItemResultDto(username, BulkItemStatus.CREATED, null));
+            }
+        }
+        
+        if (!created.isEmpty()) {
+            participationRepository.saveAll(created);
+            // Registrations that committed since the tournament was read may have taken
+            // some of the slots; then nothing is claimed and the whole import rolls back.
+            tournamentService.addCurrentPlayers(tournamentPublicId, created.size());
+            AfterCommit.run(() -> leaderboardCache.invalidate(tournament.getPublicId()));
+            collectionVersions.bump(CollectionVersions.participations(tournamentPublicId));
+        }
+        return statuses;
+    }
+    
+    public List<BulkItemResultDto> importParticipants(String tournamentPublicId, BufferedReader csv) {
+        return registerParticipants(tournamentPublicId, participantCsvMapper.read(csv));
     }
     
     public ParticipationDto updateParticipation(String publicId, ParticipationCreateDto participationCreateDto) {
         Participation existingParticipation = participationRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Participation not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Participation not found with id: " + publicId));
         
         existingParticipation.setScore(participationCreateDto.getScore());
         
         Participation updatedParticipation = participationRepository.save(existingParticipation);
-        return participationMapper.toDto(updatedParticipation);
+        ParticipationDto updatedDto = participationMapper.toDto(updatedParticipation);
+        AfterCommit.run(() -> leaderboardCache.put(updatedDto));
+        collectionVersions.bump(CollectionVersions.participations(existingParticipation.getTournament().getPublicId()));
+        return updatedDto;
     }
     
     public void deleteParticipation(String publicId) {
         Participation participation = participationRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Participation not found with id: " + publicId));
-        
-        tournamentService.decrementCurrentPlayers(participation.getTournament().getPublicId());
+                .orElseThrow(() -> new NotFoundException("Participation not found with id: " + publicId));
         
         participationRepository.delete(participation);
+        
+        String tournamentPublicId = participation.getTournament().getPublicId();
+        String playerPublicId = participation.getPlayer().getPublicId();
+        tournamentService.decrementCurrentPlayers(tournamentPublicId);
+        AfterCommit.run(() -> leaderboardCache.remove(tournamentPublicId, playerPublicId));
+        collectionVersions.bump(CollectionVersions.participations(tournamentPublicId));
     }
     
     public ParticipationDto updateParticipationScore(String publicId, Integer score) {
         Participation participation = participationRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Participation not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Participation not found with id: " + publicId));
         
         participation.setScore(score);
         Participation updatedParticipation = participationRepository.save(participation);
-        return participationMapper.toDto(updatedParticipation);
+        ParticipationDto updatedDto = participationMapper.toDto(updatedParticipation);
+        AfterCommit.run(() -> leaderboardCache.put(updatedDto));
+        collectionVersions.bump(CollectionVersions.participations(participation.getTournament().getPublicId()));
+        return updatedDto;
     }
 }
\ No newline at end of file
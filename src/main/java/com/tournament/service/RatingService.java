@@ -0,0 +1,195 @@
+package com.tournament.service;
+
+import com.tournament.dto.RatingRecalculationDto;
+import com.tournament.dto.UserDto;
+import com.tournament.mapper.UserMapper;
+import com.tournament.model.Match;
+import com.tournament.model.User;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.projection.MatchOutcome;
+import com.tournament.rating.RatingEngine;
+import com.tournament.rating.RatingTable;
+import com.tournament.ranking.TournamentLeaderboardCache;
+import com.tournament.ranking.UserRankingIndex;
+import com.tournament.repository.MatchRepository;
+import com.tournament.repository.UserRepository;
+import com.tournament.support.AfterCommit;
+import com.tournament.support.CollectionVersions;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@Transactional
+public class RatingService {
+    
+    private static final int WRITE_CHUNK_SIZE = 500;
+    
+    @Autowired
+    private RatingEngine ratingEngine;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private MatchRepository matchRepository;
+    
+    @Autowired
+    private UserMapper userMapper;
+    
+    @Autowired
+    private UserRankingIndex userRankingIndex;
+    
+    @Autowired
+    private TournamentLeaderboardCache leaderboardCache;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${tournament.rating.initial-rating:1000}")
+    private double initialRating;
+    
+    /**
+     * Rates both players of a decided match in one pass and saves them together. The
+     * players are the entities already attached to the match, so nothing is re-fetched.
+     */
+    public void applyResult(Match match) {
+        if (rate(match)) {
+            userService.updateRankings(List.of(match.getPlayer1(), match.getPlayer2()));
+        }
+    }
+    
+    /**
+     * Rates a batch of decided matches in order and saves every affected player once. A
+     * player in several matches carries each new rating into the next, since the matches
+     * share the same managed entity.
+     */
+    public void applyResults(List<Match> matches) {
+        Set<User> rated = new LinkedHashSet<>();
+        for (Match match : matches) {
+            if (rate(match)) {
+                rated.add(match.getPlayer1());
+                rated.add(match.getPlayer2());
+            }
+        }
+        if (!rated.isEmpty()) {
+            userService.updateRankings(new ArrayList<>(rated));
+        }
+    }
+    
+    private boolean rate(Match match) {
+        Double scoreA = scoreForPlayer1(match.getResult());
+        if (scoreA == null) {
+            return false;
+        }
+        
+        User player1 = match.getPlayer1();
+        User player2 = match.getPlayer2();
+        RatingTable table = new RatingTable(2, 0);
+        table.set(0, player1.getRanking(), player1.getRatingDeviation(), player1.getRatingVolatility());
+        table.set(1, player2.getRanking(), player2.getRatingDeviation(), player2.getRatingVolatility());
+        
+        ratingEngine.apply(table, 0, 1, scoreA);
+        
+        copyRating(table, 0, player1);
+        copyRating(table, 1, player2);
+        return true;
+    }
+    
+    /**
+     * Resets every user to the initial rating and replays all decided matches, tournament
+     * by tournament in round order. Ratings live in primitive arrays indexed by the user's
+     * slot in the sorted id list, and matches are streamed, so memory stays proportional
+     * to the number of users rather than the number of matches.
+     */
+    public RatingRecalculationDto recalculateAll() {
+        long start = System.nanoTime();
+        
+        long[] userIds = userRepository.findAllIds().stream().mapToLong(Long::longValue).toArray();
+        RatingTable table = new RatingTable(userIds.length, initialRating);
+        
+        long replayed = 0;
+        try (Stream<MatchOutcome> outcomes = matchRepository.streamOutcomesInRoundOrder(MatchResult.PENDING)) {
+            for (MatchOutcome outcome : (Iterable<MatchOutcome>) outcomes::iterator) {
+                Double scoreA = scoreForPlayer1(outcome.result());
+                int a = Arrays.binarySearch(userIds, outcome.player1Id());
+                int b = Arrays.binarySearch(userIds, outcome.player2Id());
+                if (scoreA == null || a < 0 || b < 0) {
+                    continue;
+                }
+                ratingEngine.apply(table, a, b, scoreA);
+                replayed++;
+            }
+        }
+        
+        List<UserDto> rated = writeBack(userIds, table);
+        AfterCommit.run(() -> {
+            userRankingIndex.rebuild(rated);
+            leaderboardCache.invalidateAll();
+        });
+        collectionVersions.bump(CollectionVersions.USERS);
+        
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new RatingRecalculationDto(ratingEngine.getName(), replayed, userIds.length, elapsedMillis);
+    }
+    
+    // Writes in chunks and clears the persistence context between them, so the session
+    // never holds more than one chunk of users; updates inside a chunk are JDBC-batched.
+    private List<UserDto> writeBack(long[] userIds, RatingTable table) {
+        List<UserDto> rated = new ArrayList<>(userIds.length);
+        for (int from = 0; from < userIds.length; from += WRITE_CHUNK_SIZE) {
+            int to = Math.min(from + WRITE_CHUNK_SIZE, userIds.length);
+            List<Long> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(userIds[i]);
+            }
+            for (User user : userRepository.findAllById(chunk)) {
+                copyRating(table, Arrays.binarySearch(userIds, user.getId()), user);
+                rated.add(userMapper.toDto(user));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return rated;
+    }
+    
+    // Not clamped at zero: Elo moves rating between the two players, and a floor would
+    // create rating out of nothing for a player at the bottom.
+    private static void copyRating(RatingTable table, int slot, User user) {
+        user.setRanking((int) Math.round(table.rating(slot)));
+        user.setRatingDeviation(table.deviation(slot));
+        user.setRatingVolatility(table.volatility(slot));
+    }
+    
+    private static Double scoreForPlayer1(MatchResult result) {
+        if (result == null) {
+            return null;
+        }
+        switch (result) {
+            case PLAYER1_WIN:
+                return RatingEngine.WIN;
+            case PLAYER2_WIN:
+                return RatingEngine.LOSS;
+            case DRAW:
+                return RatingEngine.DRAW;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.tournament.service;
+
+import com.tournament.bracket.RoundTracker;
+import com.tournament.model.Tournament;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.repository.MatchRepository;
+import com.tournament.support.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pairs the next round of a generated bracket as soon as the last pending match of the
+ * current round gets a result. MatchService reports every change to a match's round or
+ * result here; the counts live in {@link RoundTracker} and are applied after commit.
+ *
+ * <p>Next rounds are generated on a single background thread, in their own transaction,
+ * so the request that reported the final result does not wait for the pairing. An
+ * organizer can still ask for the same round at the same moment; BracketService locks the
+ * tournament row, so whichever call comes second fails with a conflict and is only logged.
+ */
+@Service
+@Transactional
+public class RoundAdvancementService {
+    
+    private static final Logger log = LoggerFactory.getLogger(RoundAdvancementService.class);
+    
+    @Autowired
+    private RoundTracker roundTracker;
+    
+    @Autowired
+    private BracketService bracketService;
+    
+    @Autowired
+    private MatchRepository matchRepository;
+    
+    @Value("${tournament.bracket.auto-advance:true}")
+    private boolean autoAdvance;
+    
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "bracket-advancement");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * Records a change to one match. A created match passes a null old round and result;
+     * a deleted one passes a null new round and result.
+     */
+    public void matchChanged(Tournament tournament, Integer oldRound, MatchResult oldResult,
+                             Integer newRound, MatchResult newResult) {
+        Map<Integer, Integer> pendingDeltas = new HashMap<>();
+        addPendingDelta(pendingDeltas, oldRound, oldResult, -1);
+        addPendingDelta(pendingDeltas, newRound, newResult, 1);
+        roundsChanged(tournament, pendingDeltas);
+    }
+    
+    /**
+     * Adds a match's contribution to a round's pending count to {@code pendingDeltas}:
+     * {@code sign} is -1 for the match's state before a change and +1 for its state after.
+     */
+    public static void addPendingDelta(Map<Integer, Integer> pendingDeltas, Integer round, MatchResult result, int sign) {
+        if (round != null && result == MatchResult.PENDING) {
+            pendingDeltas.merge(round, sign, Integer::sum);
+        }
+    }
+    
+    /**
+     * Records the net change in pending matches per round for any number of matches of
+     * one tournament changed in the current transaction. Callers changing many matches at
+     * once sum their deltas and call this once per tournament, so a cold tournament is
+     * counted once and the tracker is loaded from a snapshot that includes every change.
+     */
+    public void roundsChanged(Tournament tournament, Map<Integer, Integer> pendingDeltas) {
+        if (!autoAdvance || tournament.getFormat() == null) {
+            return;
+        }
+        Map<Integer, Integer> deltas = new TreeMap<>(pendingDeltas);
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        String tournamentId = tournament.getPublicId();
+        if (!roundTracker.isTracked(tournamentId)) {
+            // Cold start: the query flushes these changes first, so the count already includes them.
+            Integer latestRound = matchRepository.findMaxRoundByTournament(tournament);
+            if (latestRound == null) {
+                return;
+            }
+            int pending = (int) matchRepository.countByTournamentAndRoundAndResult(
+                    tournament, latestRound, MatchResult.PENDING);
+            boolean closedLatest = deltas.getOrDefault(latestRound, 0) < 0 && pending == 0;
+            AfterCommit.run(() -> {
+                roundTracker.load(tournamentId, latestRound, pending);
+                if (closedLatest) {
+                    advance(tournamentId);
+                }
+            });
+            return;
+        }
+        
+        AfterCommit.run(() -> {
+            // Increments first, so a round that gains and loses matches is never seen empty.
+            boolean completed = false;
+            for (Map.Entry<Integer, Integer> delta : deltas.entrySet()) {
+                if (delta.getValue() > 0) {
+                    roundTracker.adjust(tournamentId, delta.getKey(), delta.getValue());
+                }
+            }
+            for (Map.Entry<Integer, Integer> delta : deltas.entrySet()) {
+                if (delta.getValue() < 0 && roundTracker.adjust(tournamentId, delta.getKey(), delta.getValue())) {
+                    completed = true;
+                }
+            }
+            if (completed) {
+                advance(tournamentId);
+            }
+        });
+    }
+    
+    private void advance(String tournamentId) {
+        executor.execute(() -> {
+            try {
+                bracketService.generateNextRound(tournamentId);
+            } catch (RuntimeException ex) {
+                // Counters may have drifted (e.g. matches edited outside the service);
+                // reload from the database on the next change.
+                roundTracker.forget(tournamentId);
+                log.warn("Could not advance tournament {}: {}", tournamentId, ex.getMessage());
+            }
+        });
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
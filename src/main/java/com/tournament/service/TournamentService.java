@@ -1,15 +1,24 @@
 package com.tournament.service;
 
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.TournamentDto;
 import com.tournament.dto.TournamentCreateDto;
+import com.tournament.exception.CapacityExceededException;
+import com.tournament.exception.ForbiddenException;
+import com.tournament.exception.NotFoundException;
+import com.tournament.mapper.CursorMapper;
 import com.tournament.mapper.TournamentMapper;
 import com.tournament.model.Game;
 import com.tournament.model.Tournament;
 import com.tournament.model.User;
 import com.tournament.model.enums.UserRole;
+import com.tournament.model.projection.TournamentSummary;
+import com.tournament.ranking.TournamentLeaderboardCache;
 import com.tournament.repository.GameRepository;
 import com.tournament.repository.TournamentRepository;
 import com.tournament.repository.UserRepository;
+import com.tournament.support.AfterCommit;
+import com.tournament.support.CollectionVersions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,107 +42,145 @@ public class TournamentService {
     @Autowired
     private TournamentMapper tournamentMapper;
     
-    public List<TournamentDto> getAllTournaments() {
-        return tournamentRepository.findAll().stream()
-                .map(tournamentMapper::toDto)
-                .collect(Collectors.toList());
+    @Autowired
+    private CursorMapper cursorMapper;
+    
+    @Autowired
+    private TournamentLeaderboardCache leaderboardCache;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    @Transactional(readOnly = true)
+    public CursorPageDto<TournamentDto> getAllTournaments(String cursor, Integer size) {
+        List<TournamentSummary> rows = tournamentRepository.findSummariesByIdGreaterThan(
+                cursorMapper.toLastId(cursor), cursorMapper.toPageRequest(size));
+        return cursorMapper.toPage(rows, size, TournamentSummary::getId, tournamentMapper::toDto);
     }
     
     public TournamentDto getTournamentById(String publicId) {
         Tournament tournament = tournamentRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + publicId));
         return tournamentMapper.toDto(tournament);
     }
     
+    /**
+     * Throws NotFoundException unless the tournament exists. Conditional GETs call this
+     * before comparing tags, so an unknown id gets a 404 rather than a 304.
+     */
+    @Transactional(readOnly = true)
+    public void requireTournament(String publicId) {
+        if (!tournamentRepository.existsByPublicId(publicId)) {
+            throw new NotFoundException("Tournament not found with id: " + publicId);
+        }
+    }
+    
+    @Transactional(readOnly = true)
     public List<TournamentDto> getTournamentsByOrganizer(String organizerPublicId) {
-        User organizer = userRepository.findByPublicId(organizerPublicId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + organizerPublicId));
+        if (!userRepository.existsByPublicId(organizerPublicId)) {
+            throw new NotFoundException("User not found with id: " + organizerPublicId);
+        }
         
-        return tournamentRepository.findByOrganizer(organizer).stream()
+        return tournamentRepository.findSummariesByOrganizerPublicId(organizerPublicId).stream()
                 .map(tournamentMapper::toDto)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
     public List<TournamentDto> getAvailableTournaments() {
-        return tournamentRepository.findAll().stream()
-                .filter(t -> t.getCurrentPlayers() < t.getMaxPlayers())
+        return tournamentRepository.findAvailableSummaries().stream()
                 .map(tournamentMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     public TournamentDto createTournament(TournamentCreateDto tournamentCreateDto) {
         User organizer = userRepository.findByUsername(tournamentCreateDto.getOrganizerUsername())
-                .orElseThrow(() -> new RuntimeException("Organizer not found with username: " + tournamentCreateDto.getOrganizerUsername()));
+                .orElseThrow(() -> new NotFoundException("Organizer not found with username: " + tournamentCreateDto.getOrganizerUsername()));
         
         if (organizer.getRole() != UserRole.ORGANIZER && organizer.getRole() != UserRole.ADMIN) {
-            throw new RuntimeException("Only organizers and admins can create tournaments");
+            throw new ForbiddenException("Only organizers and admins can create tournaments");
         }
         
         Game game = gameRepository.findByTitle(tournamentCreateDto.getGameTitle())
-                .orElseThrow(() -> new RuntimeException("Game not found with title: " + tournamentCreateDto.getGameTitle()));
+                .orElseThrow(() -> new NotFoundException("Game not found with title: " + tournamentCreateDto.getGameTitle()));
         
         Tournament tournament = tournamentMapper.toEntity(tournamentCreateDto);
         tournament.setOrganizer(organizer);
         tournament.setGame(game);
         
         Tournament savedTournament = tournamentRepository.save(tournament);
+        collectionVersions.bump(CollectionVersions.TOURNAMENTS);
         return tournamentMapper.toDto(savedTournament);
     }
     
     public TournamentDto updateTournament(String publicId, TournamentCreateDto tournamentCreateDto) {
         Tournament existingTournament = tournamentRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + publicId));
         
         if (tournamentCreateDto.getGameTitle() != null) {
             Game game = gameRepository.findByTitle(tournamentCreateDto.getGameTitle())
-                    .orElseThrow(() -> new RuntimeException("Game not found with title: " + tournamentCreateDto.getGameTitle()));
+                    .orElseThrow(() -> new NotFoundException("Game not found with title: " + tournamentCreateDto.getGameTitle()));
             existingTournament.setGame(game);
         }
         
         if (tournamentCreateDto.getOrganizerUsername() != null) {
             User organizer = userRepository.findByUsername(tournamentCreateDto.getOrganizerUsername())
-                    .orElseThrow(() -> new RuntimeException("Organizer not found with username: " + tournamentCreateDto.getOrganizerUsername()));
+                    .orElseThrow(() -> new NotFoundException("Organizer not found with username: " + tournamentCreateDto.getOrganizerUsername()));
             
             if (organizer.getRole() != UserRole.ORGANIZER && organizer.getRole() != UserRole.ADMIN) {
-                throw new RuntimeException("Only organizers and admins can organize tournaments");
+                throw new ForbiddenException("Only organizers and admins can organize tournaments");
             }
             existingTournament.setOrganizer(organizer);
         }
         
         tournamentMapper.updateEntityFromDto(tournamentCreateDto, existingTournament);
         Tournament updatedTournament = tournamentRepository.save(existingTournament);
+        AfterCommit.run(() -> leaderboardCache.invalidate(updatedTournament.getPublicId()));
+        collectionVersions.bump(CollectionVersions.TOURNAMENTS, CollectionVersions.tournament(publicId));
         return tournamentMapper.toDto(updatedTournament);
     }
     
     public void deleteTournament(String publicId) {
         Tournament tournament = tournamentRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("Tournament not found with id: " + publicId));
         tournamentRepository.delete(tournament);
+        AfterCommit.run(() -> leaderboardCache.invalidate(tournament.getPublicId()));
+        collectionVersions.bump(CollectionVersions.TOURNAMENTS, CollectionVersions.tournament(publicId));
     }
     
-    public TournamentDto incrementCurrentPlayers(String publicId) {
-        Tournament tournament = tournamentRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + publicId));
-        
-        if (tournament.getCurrentPlayers() >= tournament.getMaxPlayers()) {
-            throw new RuntimeException("Tournament is already full");
+    /**
+     * Claims one slot with a single conditional UPDATE. Already-loaded Tournament instances
+     * are not updated; callers that map one afterwards must refresh it first.
+     */
+    public void incrementCurrentPlayers(String publicId) {
+        if (tournamentRepository.incrementCurrentPlayersIfNotFull(publicId) == 0) {
+            if (!tournamentRepository.existsByPublicId(publicId)) {
+                throw new NotFoundException("Tournament not found with id: " + publicId);
+            }
+            throw new CapacityExceededException("Tournament is already full");
         }
-        
-        tournament.setCurrentPlayers(tournament.getCurrentPlayers() + 1);
-        Tournament updatedTournament = tournamentRepository.save(tournament);
-        return tournamentMapper.toDto(updatedTournament);
+        collectionVersions.bump(CollectionVersions.TOURNAMENTS, CollectionVersions.tournament(publicId));
     }
     
-    public TournamentDto decrementCurrentPlayers(String publicId) {
-        Tournament tournament = tournamentRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("Tournament not found with id: " + publicId));
-        
-        if (tournament.getCurrentPlayers() > 0) {
-            tournament.setCurrentPlayers(tournament.getCurrentPlayers() - 1);
-            Tournament updatedTournament = tournamentRepository.save(tournament);
-            return tournamentMapper.toDto(updatedTournament);
+    /**
+     * Claims {@code count} slots at once, all or none, with a single conditional UPDATE.
+     * The same caveat as {@link #incrementCurrentPlayers} applies to loaded instances.
+     */
+    public void addCurrentPlayers(String publicId, int count) {
+        if (tournamentRepository.addCurrentPlayersIfRoom(publicId, count) == 0) {
+            if (!tournamentRepository.existsByPublicId(publicId)) {
+                throw new NotFoundException("Tournament not found with id: " + publicId);
+            }
+            throw new CapacityExceededException("Tournament is already full");
         }
-        
-        return tournamentMapper.toDto(tournament);
+        collectionVersions.bump(CollectionVersions.TOURNAMENTS, CollectionVersions.tournament(publicId));
+    }
+    
+    public void decrementCurrentPlayers(String publicId) {
+        if (tournamentRepository.decrementCurrentPlayersIfNotEmpty(publicId) == 0
+                && !tournamentRepository.existsByPublicId(publicId)) {
+            throw new NotFoundException("Tournament not found with id: " + publicId);
+        }
+        collectionVersions.bump(CollectionVersions.TOURNAMENTS, CollectionVersions.tournament(publicId));
     }
 }
\ No newline at end of file
@@ -1,14 +1,29 @@
 package com.tournament.service;
 
+import com.tournament.dto.CursorPageDto;
+import com.tournament.dto.RankingPositionDto;
 import com.tournament.dto.UserDto;
 import com.tournament.dto.UserCreateDto;
+import com.tournament.exception.ConflictException;
+import com.tournament.exception.NotFoundException;
+import com.tournament.mapper.CursorMapper;
 import com.tournament.mapper.UserMapper;
 import com.tournament.model.User;
 import com.tournament.model.enums.UserRole;
+import com.tournament.model.projection.UserSummary;
+import com.tournament.ranking.TournamentLeaderboardCache;
+import com.tournament.ranking.UserRankingIndex;
 import com.tournament.repository.UserRepository;
+import com.tournament.security.PrincipalCache;
+import com.tournament.support.AfterCommit;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.PublicIds;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -24,55 +39,78 @@ public class UserService {
     @Autowired
     private UserMapper userMapper;
     
+    @Autowired
+    private CursorMapper cursorMapper;
+    
     @Autowired
     private PasswordEncoder passwordEncoder;
     
-    public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+    @Autowired
+    private UserRankingIndex userRankingIndex;
+    
+    @Autowired
+    private TournamentLeaderboardCache leaderboardCache;
+    
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    @Autowired
+    private CollectionVersions collectionVersions;
+    
+    private static final int MAX_RANKING_RADIUS = 50;
+    
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserDto> getAllUsers(String cursor, Integer size) {
+        List<UserSummary> rows = userRepository.findSummariesByIdGreaterThan(
+                cursorMapper.toLastId(cursor), cursorMapper.toPageRequest(size));
+        return cursorMapper.toPage(rows, size, UserSummary::getId, userMapper::toDto);
     }
     
     public UserDto getUserById(String publicId) {
         User user = userRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("User not found with id: " + publicId));
         return userMapper.toDto(user);
     }
     
     public UserDto getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
+                .orElseThrow(() -> new NotFoundException("User not found with username: " + username));
         return userMapper.toDto(user);
     }
     
+    @Transactional(readOnly = true)
     public List<UserDto> getUsersByRole(UserRole role) {
-        return userRepository.findByRole(role).stream()
+        return userRepository.findSummariesByRole(role).stream()
                 .map(userMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     public UserDto createUser(UserCreateDto userDto) {
         if (userRepository.existsByUsername(userDto.getUsername())) {
-            throw new RuntimeException("Username already exists: " + userDto.getUsername());
+            throw new ConflictException("Username already exists: " + userDto.getUsername());
         }
         
         User user = userMapper.toEntity(userDto);
         user.setPassword(passwordEncoder.encode(userDto.getPassword()));
         
         User savedUser = userRepository.save(user);
-        return userMapper.toDto(savedUser);
+        UserDto savedDto = userMapper.toDto(savedUser);
+        AfterCommit.run(() -> userRankingIndex.put(savedDto));
+        collectionVersions.bump(CollectionVersions.USERS);
+        return savedDto;
     }
     
     public UserDto updateUser(String publicId, UserCreateDto userDto) {
         User existingUser = userRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("User not found with id: " + publicId));
         
         if (userDto.getUsername() != null && !userDto.getUsername().equals(existingUser.getUsername())) {
             if (userRepository.existsByUsername(userDto.getUsername())) {
-                throw new RuntimeException("Username already exists: " + userDto.getUsername());
+                throw new ConflictException("Username already exists: " + userDto.getUsername());
             }
         }
         
+        String previousUsername = existingUser.getUsername();
         userMapper.updateEntityFromDto(userDto, existingUser);
         
         if (userDto.getPassword() != null) {
@@ -80,28 +118,93 @@ public class UserService {
         }
         
         User updatedUser = userRepository.save(existingUser);
-        return userMapper.toDto(updatedUser);
+        UserDto updatedDto = userMapper.toDto(updatedUser);
+        AfterCommit.run(() -> {
+            principalCache.invalidate(previousUsername);
+            userRankingIndex.put(updatedDto);
+            leaderboardCache.updateUser(updatedDto);
+        });
+        collectionVersions.bump(CollectionVersions.USERS);
+        return updatedDto;
     }
     
     public void deleteUser(String publicId) {
         User user = userRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("User not found with id: " + publicId));
         userRepository.delete(user);
+        AfterCommit.run(() -> {
+            principalCache.invalidate(user.getUsername());
+            userRankingIndex.remove(user.getPublicId());
+            leaderboardCache.invalidateAll();
+        });
+        collectionVersions.bump(CollectionVersions.USERS);
     }
     
     public UserDto updateUserRanking(String publicId, Integer newRanking) {
         User user = userRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + publicId));
+                .orElseThrow(() -> new NotFoundException("User not found with id: " + publicId));
         
         user.setRanking(newRanking);
         User updatedUser = userRepository.save(user);
-        return userMapper.toDto(updatedUser);
+        UserDto updatedDto = userMapper.toDto(updatedUser);
+        AfterCommit.run(() -> {
+            userRankingIndex.put(updatedDto);
+            leaderboardCache.updateUser(updatedDto);
+        });
+        collectionVersions.bump(CollectionVersions.USERS);
+        return updatedDto;
     }
     
-    public List<UserDto> getTopRankedUsers(Integer limit) {
-        return userRepository.findByRankingGreaterThanOrderByRankingDesc(0).stream()
-                .limit(limit)
+    // Saves rankings already computed on managed entities (both players of a match); with
+    // JDBC batching the updates go to the database as one batch when the transaction flushes.
+    public List<UserDto> updateRankings(List<User> users) {
+        List<UserDto> updatedDtos = userRepository.saveAll(users).stream()
                 .map(userMapper::toDto)
                 .collect(Collectors.toList());
+        AfterCommit.run(() -> updatedDtos.forEach(updatedDto -> {
+            userRankingIndex.put(updatedDto);
+            leaderboardCache.updateUser(updatedDto);
+        }));
+        collectionVersions.bump(CollectionVersions.USERS);
+        return updatedDtos;
+    }
+    
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<UserDto> getTopRankedUsers(Integer limit) {
+        return userRankingIndex.top(limit);
+    }
+    
+    @Transactional(readOnly = true)
+    public RankingPositionDto getRankingPosition(String publicId) {
+        return userRankingIndex.positionOf(ensureRanked(publicId));
+    }
+    
+    @Transactional(readOnly = true)
+    public List<RankingPositionDto> getRankingNeighbours(String publicId, Integer radius) {
+        if (radius < 0) {
+            throw new RuntimeException("Radius must not be negative");
+        }
+        return userRankingIndex.around(ensureRanked(publicId), Math.min(radius, MAX_RANKING_RADIUS));
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildRankingIndex() {
+        userRankingIndex.rebuild(userRepository.findAllSummaries().stream()
+                .map(userMapper::toDto)
+                .collect(Collectors.toList()));
+    }
+    
+    // Users written directly through the repository (seeding, imports) are only picked up
+    // by the next rebuild; index them on first lookup instead of reporting them missing.
+    // Returns the key the index holds the user under: the canonical form of the id.
+    private String ensureRanked(String publicId) {
+        String key = PublicIds.canonical(publicId);
+        if (!userRankingIndex.contains(key)) {
+            User user = userRepository.findByPublicId(publicId)
+                    .orElseThrow(() -> new NotFoundException("User not found with id: " + publicId));
+            userRankingIndex.put(userMapper.toDto(user));
+        }
+        return key;
     }
 }
\ No newline at end of file
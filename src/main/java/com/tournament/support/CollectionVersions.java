@@ -0,0 +1,91 @@
+package com.tournament.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version stamps for the data behind the lists clients poll, so that a conditional GET
+ * can be answered from memory. Services bump a stamp after the transaction that changed
+ * the data commits (and after the in-memory caches it touched were updated); controllers
+ * compute a tag before loading anything, so a response is never tagged with a stamp newer
+ * than the data it carries.
+ *
+ * <p>A tag combines the stamps of every kind of entity its response embeds (a match list
+ * shows the tournament, its game and the players). Stamps only grow, so their sum changes
+ * whenever any one of them does. Stamps start at zero on startup; the startup time in the
+ * tag keeps a restarted instance from handing out a tag it issued before.
+ */
+@Component
+public class CollectionVersions {
+
+    public static final String TOURNAMENTS = "tournaments";
+    public static final String GAMES = "games";
+    public static final String USERS = "users";
+
+    private final Map<String, AtomicLong> stamps = new ConcurrentHashMap<>();
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public static String tournament(String tournamentId) {
+        return "tournament:" + PublicIds.canonical(tournamentId);
+    }
+
+    public static String matches(String tournamentId) {
+        return "matches:" + PublicIds.canonical(tournamentId);
+    }
+
+    public static String participations(String tournamentId) {
+        return "participations:" + PublicIds.canonical(tournamentId);
+    }
+
+    /**
+     * Bumps each stamp once the current transaction commits, or right away outside one.
+     */
+    public void bump(String... collections) {
+        AfterCommit.run(() -> {
+            for (String collection : collections) {
+                stamps.computeIfAbsent(collection, key -> new AtomicLong()).incrementAndGet();
+            }
+        });
+    }
+
+    public long current(String collection) {
+        AtomicLong stamp = stamps.get(collection);
+        return stamp != null ? stamp.get() : 0;
+    }
+
+    public String tournamentListTag() {
+        return tag(TOURNAMENTS, GAMES, USERS);
+    }
+
+    public String gameListTag() {
+        return tag(GAMES);
+    }
+
+    public String userListTag() {
+        return tag(USERS);
+    }
+
+    public String tournamentTag(String tournamentId) {
+        return tag(tournament(tournamentId), GAMES, USERS);
+    }
+
+    public String matchListTag(String tournamentId) {
+        return tag(matches(tournamentId), tournament(tournamentId), GAMES, USERS);
+    }
+
+    public String participationListTag(String tournamentId) {
+        return tag(participations(tournamentId), tournament(tournamentId), GAMES, USERS);
+    }
+
+    private String tag(String... collections) {
+        long sum = 0;
+        for (String collection : collections) {
+            sum += current(collection);
+        }
+        return "\"" + epoch + "-" + sum + "\"";
+    }
+}
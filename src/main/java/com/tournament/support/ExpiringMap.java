@@ -0,0 +1,98 @@
+package com.tournament.support;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * A concurrent map whose entries each carry a deadline on the owner's clock and which holds
+ * at most max-size of them. Expired entries are never returned; they are dropped when read,
+ * by {@link #evictExpired()}, and whenever the map is full. Deadlines use whatever unit the
+ * clock returns.
+ *
+ * <p>The maximum size is read on every insert, so owners can hand in a supplier over a
+ * field that is injected after construction. A maximum of zero or less disables storing.
+ */
+public final class ExpiringMap<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final IntSupplier maxSize;
+    private final LongSupplier clock;
+
+    public ExpiringMap(IntSupplier maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the value for the key, or null if there is none or it has expired.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - clock.getAsLong() <= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * Stores the value until the deadline, unless the deadline has already passed or
+     * storing is disabled.
+     */
+    public void put(K key, V value, long expiresAt) {
+        int max = maxSize.getAsInt();
+        long now = clock.getAsLong();
+        if (max <= 0 || expiresAt - now <= 0) {
+            return;
+        }
+        if (entries.size() >= max && !entries.containsKey(key)) {
+            makeRoom(max, now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    // Drops expired entries, then, if the map is still full, an arbitrary tenth of the
+    // rest, so a run of new keys pays for one sweep rather than one per insert.
+    private void makeRoom(int max, long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+        int target = max - Math.max(1, max / 10);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.tournament.support;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Public ids are time-ordered version 7 UUIDs: 48 bits of Unix milliseconds followed by
+ * 74 random bits. Ids created close together sort close together, so inserts land at the
+ * right-hand end of the public id index instead of at random pages across it, and the
+ * random part still keeps them unguessable. They are stored as 16-byte UUID columns and
+ * travel through the API in their usual 36-character string form.
+ */
+public final class PublicIds {
+    
+    // Version 0 is never generated; malformed ids map to it so that they match no row.
+    public static final UUID UNMATCHABLE = new UUID(0L, 0L);
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
+    private PublicIds() {
+    }
+    
+    public static String next() {
+        return nextUuid().toString();
+    }
+    
+    static UUID nextUuid() {
+        long millis = System.currentTimeMillis();
+        long random = RANDOM.nextLong();
+        long mostSignificant = (millis << 16) | 0x7000L | (random >>> 52);
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+    
+    public static boolean isValid(String id) {
+        return toUuid(id) != UNMATCHABLE;
+    }
+    
+    /**
+     * The lowercase string form of an id, for in-memory keys that must be the same however
+     * the client cased the id. Malformed ids all map to the form of {@link #UNMATCHABLE}.
+     */
+    public static String canonical(String id) {
+        return toUuid(id).toString();
+    }
+    
+    /**
+     * Parses the canonical string form. Anything else, including the shortened forms
+     * {@link UUID#fromString} tolerates, becomes {@link #UNMATCHABLE}.
+     */
+    public static UUID toUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return UNMATCHABLE;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return UNMATCHABLE;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.tournament.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Response bodies of hot list endpoints, serialized to JSON once and served as bytes until
+ * the data behind them changes. Each entry is stored with the {@link CollectionVersions}
+ * tag the controller computed before loading it and is only served for that same tag, so
+ * the stamps the mutating service methods bump after commit invalidate exactly the
+ * responses that embed the changed data. A load that overlaps a change is stored under
+ * the older tag and never served.
+ *
+ * <p>Every entry also expires after the TTL given with it, and the cache holds at most
+ * max-size entries. Hits and misses are counted per region (one region per endpoint).
+ */
+@Component
+public class ResponseCache {
+
+    public static final String AVAILABLE_TOURNAMENTS = "available-tournaments";
+    public static final String GAMES = "games";
+    public static final String TOP_USERS = "top-users";
+    public static final String LEADERBOARDS = "leaderboards";
+
+    /**
+     * A serialized body plus the cursor of the next page, if the body is one page of a list.
+     */
+    public record CachedResponse(byte[] body, String nextCursor) {
+    }
+
+    /**
+     * One page of a cursor-paginated list, as loaded for {@link #getPage}.
+     */
+    public record Page(List<?> items, String nextCursor) {
+    }
+
+    private record Key(String region, String key) {
+    }
+
+    private record Entry(String tag, CachedResponse response) {
+    }
+
+    private record Counters(LongAdder hits, LongAdder misses) {
+    }
+
+    private final ExpiringMap<Key, Entry> entries;
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${tournament.response-cache.max-size:1000}")
+    private int maxSize;
+
+    private final LongSupplier clock;
+
+    public ResponseCache() {
+        this.clock = System::nanoTime;
+        this.entries = new ExpiringMap<>(() -> maxSize, clock);
+    }
+
+    public ResponseCache(ObjectMapper objectMapper, int maxSize, LongSupplier clock) {
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new ExpiringMap<>(() -> this.maxSize, clock);
+    }
+
+    /**
+     * Returns the serialized list for the key, calling {@code loader} on a miss, when the
+     * entry was stored under another tag, or after it expired. A TTL of zero or less
+     * disables caching for the call: the loader runs and nothing is read or stored. Exceptions from the loader propagate and nothing is
+     * cached.
+     */
+    public CachedResponse get(String region, String key, String tag, long ttlMs, Supplier<? extends List<?>> loader) {
+        return lookup(region, key, tag, ttlMs, () -> new CachedResponse(serialize(loader.get()), null));
+    }
+
+    /**
+     * Like {@link #get}, for one page of a cursor-paginated list; the body holds the page's
+     * items and the next cursor is kept alongside.
+     */
+    public CachedResponse getPage(String region, String key, String tag, long ttlMs,
+                                  Supplier<Page> loader) {
+        return lookup(region, key, tag, ttlMs, () -> {
+            Page page = loader.get();
+            return new CachedResponse(serialize(page.items()), page.nextCursor());
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${tournament.response-cache.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        entries.evictExpired();
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public List<String> regions() {
+        return counters.keySet().stream().sorted().toList();
+    }
+
+    public int size(String region) {
+        return (int) entries.keySet().stream().filter(key -> key.region().equals(region)).count();
+    }
+
+    public long hitCount(String region) {
+        Counters regionCounters = counters.get(region);
+        return regionCounters != null ? regionCounters.hits().sum() : 0;
+    }
+
+    public long missCount(String region) {
+        Counters regionCounters = counters.get(region);
+        return regionCounters != null ? regionCounters.misses().sum() : 0;
+    }
+
+    private CachedResponse lookup(String region, String key, String tag, long ttlMs, Supplier<CachedResponse> loader) {
+        Counters regionCounters = counters.computeIfAbsent(region, name -> new Counters(new LongAdder(), new LongAdder()));
+        if (ttlMs <= 0) {
+            regionCounters.misses().increment();
+            return loader.get();
+        }
+        Key entryKey = new Key(region, key);
+        long now = clock.getAsLong();
+        Entry entry = entries.get(entryKey);
+        if (entry != null && entry.tag().equals(tag)) {
+            regionCounters.hits().increment();
+            return entry.response();
+        }
+        regionCounters.misses().increment();
+
+        CachedResponse response = loader.get();
+        entries.put(entryKey, new Entry(tag, response), now + TimeUnit.MILLISECONDS.toNanos(ttlMs));
+        return response;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package db.migration;
+
+import com.tournament.support.PublicIds;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs before V6 turns the public id columns into UUIDs, which fails on any value that
+ * is not a UUID. Rows whose public id predates the UUID format get a fresh version 7 id;
+ * rows are joined by their numeric ids, so no reference needs updating, but clients
+ * holding one of the old ids will get a 404 for it.
+ */
+public class V5_1__Replace_non_uuid_public_ids extends BaseJavaMigration {
+
+    private static final String[] TABLES = {"users", "games", "tournaments", "participations", "matches"};
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        for (String table : TABLES) {
+            List<Long> legacy = new ArrayList<>();
+            try (Statement select = connection.createStatement();
+                 ResultSet rows = select.executeQuery("select id, public_id from " + table)) {
+                while (rows.next()) {
+                    if (!PublicIds.isValid(rows.getString(2))) {
+                        legacy.add(rows.getLong(1));
+                    }
+                }
+            }
+            if (legacy.isEmpty()) {
+                continue;
+            }
+            try (PreparedStatement update = connection.prepareStatement(
+                    "update " + table + " set public_id = ? where id = ?")) {
+                for (Long id : legacy) {
+                    update.setString(1, PublicIds.next());
+                    update.setLong(2, id);
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+        }
+    }
+}
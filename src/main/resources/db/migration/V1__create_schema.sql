@@ -0,0 +1,65 @@
+-- Baseline schema, equivalent to what Hibernate generated from the entities
+-- while the application ran with ddl-auto=create-drop.
+
+create table users (
+    id bigint generated by default as identity primary key,
+    public_id varchar(255) not null,
+    username varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    ranking integer not null,
+    constraint uk_users_public_id unique (public_id),
+    constraint uk_users_username unique (username),
+    constraint ck_users_role check (role in ('ADMIN', 'PLAYER', 'ORGANIZER'))
+);
+
+create table games (
+    id bigint generated by default as identity primary key,
+    public_id varchar(255) not null,
+    title varchar(255) not null,
+    genre varchar(255) not null,
+    platform varchar(255) not null,
+    constraint uk_games_public_id unique (public_id),
+    constraint uk_games_title_platform unique (title, platform),
+    constraint ck_games_platform check (platform in ('PC', 'CONSOLE', 'MOBILE', 'WEB', 'CROSS_PLATFORM', 'VR'))
+);
+
+create table tournaments (
+    id bigint generated by default as identity primary key,
+    public_id varchar(255) not null,
+    name varchar(255) not null,
+    max_players integer not null,
+    current_players integer not null,
+    game_id bigint not null,
+    organizer_id bigint not null,
+    constraint uk_tournaments_public_id unique (public_id),
+    constraint fk_tournaments_game foreign key (game_id) references games (id),
+    constraint fk_tournaments_organizer foreign key (organizer_id) references users (id)
+);
+
+create table participations (
+    id bigint generated by default as identity primary key,
+    public_id varchar(255) not null,
+    tournament_id bigint not null,
+    player_id bigint not null,
+    join_date timestamp(6) not null,
+    score integer not null,
+    constraint uk_participations_public_id unique (public_id),
+    constraint fk_participations_tournament foreign key (tournament_id) references tournaments (id),
+    constraint fk_participations_player foreign key (player_id) references users (id)
+);
+
+create table matches (
+    id bigint generated by default as identity primary key,
+    public_id varchar(255) not null,
+    tournament_id bigint not null,
+    round integer not null,
+    player1_id bigint not null,
+    player2_id bigint not null,
+    result varchar(255) not null,
+    constraint uk_matches_public_id unique (public_id),
+    constraint fk_matches_tournament foreign key (tournament_id) references tournaments (id),
+    constraint fk_matches_player1 foreign key (player1_id) references users (id),
+    constraint fk_matches_player2 foreign key (player2_id) references users (id),
+    constraint ck_matches_result check (result in ('PLAYER1_WIN', 'PLAYER2_WIN', 'DRAW', 'PENDING'))
+);
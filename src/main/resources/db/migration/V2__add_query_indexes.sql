@@ -0,0 +1,29 @@
+-- One index per repository lookup that is not already served by a primary key or a
+-- unique constraint. Composite indexes put the equality column first so they also
+-- serve lookups on that column alone.
+
+-- MatchRepository: findByTournament, findByTournamentAndRound, findByTournamentOrderByRoundAsc
+create index idx_matches_tournament_round on matches (tournament_id, round);
+-- MatchRepository: findWithDetailsByPlayer1, findWithDetailsByPlayer2
+create index idx_matches_player1 on matches (player1_id);
+create index idx_matches_player2 on matches (player2_id);
+
+-- ParticipationRepository: findByTournamentAndPlayer, existsByTournamentAndPlayer, by-tournament listing
+create unique index uk_participations_tournament_player on participations (tournament_id, player_id);
+-- ParticipationRepository: leaderboard ordered by score
+create index idx_participations_tournament_score on participations (tournament_id, score);
+-- ParticipationRepository: by-player listing
+create index idx_participations_player on participations (player_id);
+
+-- TournamentRepository: by-organizer listing, findByGamePublicId, findByName
+create index idx_tournaments_organizer on tournaments (organizer_id);
+create index idx_tournaments_game on tournaments (game_id);
+create index idx_tournaments_name on tournaments (name);
+
+-- UserRepository: top-ranked listing, by-role listing
+create index idx_users_ranking on users (ranking);
+create index idx_users_role on users (role);
+
+-- GameRepository: by-genre and by-platform listings (findByTitle uses uk_games_title_platform)
+create index idx_games_genre on games (genre);
+create index idx_games_platform on games (platform);
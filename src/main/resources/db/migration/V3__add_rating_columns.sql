@@ -0,0 +1,5 @@
+-- Uncertainty state for the Glicko-2 rating engine. Elo leaves both columns at their
+-- defaults, so switching engines never needs a data migration.
+
+alter table users add column rating_deviation double precision default 350 not null;
+alter table users add column rating_volatility double precision default 0.06 not null;
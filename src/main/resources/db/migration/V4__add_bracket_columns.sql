@@ -0,0 +1,8 @@
+-- Generated brackets: the tournament remembers its format so later rounds can be paired,
+-- and each participant keeps the seed it was given at generation time.
+
+alter table tournaments add column format varchar(255);
+alter table tournaments add constraint ck_tournaments_format
+    check (format in ('SINGLE_ELIMINATION', 'DOUBLE_ELIMINATION', 'ROUND_ROBIN', 'SWISS'));
+
+alter table participations add column seed integer;
@@ -0,0 +1,17 @@
+-- Ids come from sequences instead of identity columns so Hibernate can batch inserts.
+-- Each sequence hands out blocks of 50 (allocationSize on the entities must match the
+-- increment); a value v covers ids v-49..v, so every sequence starts 50 past the
+-- table's highest id. Rows inserted outside the application must take their ids from
+-- the sequences too.
+
+create sequence users_seq start with 50 increment by 50;
+create sequence games_seq start with 50 increment by 50;
+create sequence tournaments_seq start with 50 increment by 50;
+create sequence participations_seq start with 50 increment by 50;
+create sequence matches_seq start with 50 increment by 50;
+
+alter sequence users_seq restart with (select coalesce(max(id), 0) + 50 from users);
+alter sequence games_seq restart with (select coalesce(max(id), 0) + 50 from games);
+alter sequence tournaments_seq restart with (select coalesce(max(id), 0) + 50 from tournaments);
+alter sequence participations_seq restart with (select coalesce(max(id), 0) + 50 from participations);
+alter sequence matches_seq restart with (select coalesce(max(id), 0) + 50 from matches);
@@ -0,0 +1,9 @@
+-- Public ids move from 36-character strings to 16-byte UUID values, less than half the
+-- key width in every public id index. Existing ids are converted in place; new ones are
+-- time-ordered (version 7) so inserts append to the index instead of scattering.
+
+alter table users alter column public_id set data type uuid;
+alter table games alter column public_id set data type uuid;
+alter table tournaments alter column public_id set data type uuid;
+alter table participations alter column public_id set data type uuid;
+alter table matches alter column public_id set data type uuid;
@@ -0,0 +1,9 @@
+-- Optimistic locking: Hibernate bumps version on every update and refuses to write a row
+-- whose version moved since it was read, so concurrent edits fail instead of silently
+-- overwriting each other.
+
+alter table users add column version bigint default 0 not null;
+alter table games add column version bigint default 0 not null;
+alter table tournaments add column version bigint default 0 not null;
+alter table participations add column version bigint default 0 not null;
+alter table matches add column version bigint default 0 not null;
@@ -0,0 +1,10 @@
+-- New users start at the rating engine's initial rating (tournament.rating.initial-rating)
+-- instead of 0, so live rating updates and a full re-rating work on the same scale.
+-- Users created at 0 who have no decided match yet are moved onto that scale as well.
+
+alter table users alter column ranking set default 1000;
+
+update users set ranking = 1000
+where ranking = 0
+  and id not in (select player1_id from matches where result <> 'PENDING')
+  and id not in (select player2_id from matches where result <> 'PENDING');
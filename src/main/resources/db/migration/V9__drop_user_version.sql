@@ -0,0 +1,5 @@
+-- Users are not optimistically locked: their rows take concurrent writes that must all
+-- succeed (two matches rated at once for the same player, a password rehash on login
+-- racing a rating update), and no conditional request depends on their version.
+
+alter table users drop column version;
@@ -0,0 +1,206 @@
+package com.tournament.bracket;
+
+import com.tournament.model.enums.MatchResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketGeneratorTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void singleEliminationGivesTopSeedsTheByes() {
+        List<Pairing> firstRound = new SingleEliminationGenerator().pairRound(6, 1, List.of());
+
+        assertEquals(List.of(new Pairing(3, 4), new Pairing(2, 5)), firstRound);
+    }
+
+    @Test
+    void singleEliminationKeepsTopTwoSeedsApartUntilTheFinal() {
+        for (int entrants = 2; entrants <= 70; entrants++) {
+            List<List<Pairing>> rounds = new ArrayList<>();
+            List<PlayedMatch> history = play(new SingleEliminationGenerator(), entrants, false, rounds);
+
+            assertEquals(entrants - 1, history.size());
+            assertEquals(32 - Integer.numberOfLeadingZeros(entrants - 1), rounds.size());
+            assertEquals(List.of(new Pairing(0, 1)), rounds.get(rounds.size() - 1));
+        }
+    }
+
+    @Test
+    void doubleEliminationKnocksOutAfterTwoLosses() {
+        for (int entrants = 2; entrants <= 70; entrants++) {
+            List<PlayedMatch> history = play(new DoubleEliminationGenerator(), entrants, true, new ArrayList<>());
+
+            int[] losses = Brackets.losses(entrants, history);
+            int survivors = 0;
+            for (int loss : losses) {
+                assertTrue(loss <= 2);
+                if (loss < 2) {
+                    survivors++;
+                }
+            }
+            assertEquals(1, survivors);
+            assertTrue(history.size() == 2 * entrants - 2 || history.size() == 2 * entrants - 1);
+        }
+    }
+
+    @Test
+    void doubleEliminationResetsTheFinalWhenTheUnbeatenPlayerLoses() {
+        DoubleEliminationGenerator generator = new DoubleEliminationGenerator();
+        List<PlayedMatch> history = List.of(new PlayedMatch(1, 0, 1, MatchResult.PLAYER2_WIN));
+
+        assertEquals(List.of(new Pairing(1, 0)), generator.pairRound(2, 2, history));
+
+        List<PlayedMatch> reset = List.of(history.get(0), new PlayedMatch(2, 1, 0, MatchResult.PLAYER2_WIN));
+        assertEquals(List.of(new Pairing(0, 1)), generator.pairRound(2, 3, reset));
+    }
+
+    @Test
+    void roundRobinPairsEveryoneExactlyOnce() {
+        for (int entrants = 2; entrants <= 40; entrants++) {
+            List<List<Pairing>> rounds = new ArrayList<>();
+            List<PlayedMatch> history = play(new RoundRobinGenerator(), entrants, true, rounds);
+
+            assertEquals(entrants * (entrants - 1) / 2, history.size());
+            assertEquals(entrants % 2 == 0 ? entrants - 1 : entrants, rounds.size());
+            assertEquals(0, rematches(history));
+        }
+    }
+
+    @Test
+    void swissPlaysLogRoundsWithoutRematches() {
+        for (int entrants = 2; entrants <= 70; entrants++) {
+            List<List<Pairing>> rounds = new ArrayList<>();
+            List<PlayedMatch> history = play(new SwissGenerator(), entrants, true, rounds);
+
+            assertEquals(SwissGenerator.roundCount(entrants), rounds.size());
+            assertEquals(rounds.size() * (entrants / 2), history.size());
+            if (entrants >= 8) {
+                assertEquals(0, rematches(history));
+            }
+        }
+    }
+
+    @Test
+    void swissPairsLeadersTogether() {
+        SwissGenerator generator = new SwissGenerator();
+        List<PlayedMatch> history = new ArrayList<>();
+        for (Pairing pairing : generator.pairRound(8, 1, List.of())) {
+            history.add(new PlayedMatch(1, pairing.player1(), pairing.player2(), MatchResult.PLAYER1_WIN));
+        }
+
+        Set<Integer> winners = Set.of(0, 1, 2, 3);
+        for (Pairing pairing : generator.pairRound(8, 2, history)) {
+            assertEquals(winners.contains(pairing.player1()), winners.contains(pairing.player2()));
+        }
+    }
+
+    @Test
+    void swissGivesEachByeToADifferentPlayer() {
+        List<List<Pairing>> rounds = new ArrayList<>();
+        play(new SwissGenerator(), 9, true, rounds);
+
+        Set<Integer> byes = new HashSet<>();
+        for (List<Pairing> round : rounds) {
+            Set<Integer> playing = new HashSet<>();
+            for (Pairing pairing : round) {
+                playing.add(pairing.player1());
+                playing.add(pairing.player2());
+            }
+            for (int seed = 0; seed < 9; seed++) {
+                if (!playing.contains(seed)) {
+                    assertTrue(byes.add(seed), "seed " + seed + " had two byes");
+                }
+            }
+        }
+    }
+
+    // Benchmarks: a whole event for 10,000 entrants, every round paired from the full
+    // history the way BracketService does it. The budgets are generous; a typical run
+    // finishes well under a second.
+
+    @Test
+    void swissHandlesTenThousandEntrants() {
+        List<List<Pairing>> rounds = new ArrayList<>();
+        List<PlayedMatch> history = assertTimeout(Duration.ofSeconds(10),
+                () -> play(new SwissGenerator(), 10_000, true, rounds));
+
+        assertEquals(14, rounds.size());
+        assertEquals(14 * 5_000, history.size());
+        assertEquals(0, rematches(history));
+    }
+
+    @Test
+    void eliminationHandlesTenThousandEntrants() {
+        List<PlayedMatch> single = assertTimeout(Duration.ofSeconds(10),
+                () -> play(new SingleEliminationGenerator(), 10_000, true, new ArrayList<>()));
+        List<PlayedMatch> doubleElimination = assertTimeout(Duration.ofSeconds(10),
+                () -> play(new DoubleEliminationGenerator(), 10_000, true, new ArrayList<>()));
+
+        assertEquals(9_999, single.size());
+        assertTrue(doubleElimination.size() >= 19_998);
+    }
+
+    @Test
+    void roundRobinComputesAnyRoundDirectly() {
+        RoundRobinGenerator generator = new RoundRobinGenerator();
+
+        List<Pairing> round = assertTimeout(Duration.ofSeconds(1),
+                () -> generator.pairRound(10_000, 5_000, List.of()));
+
+        assertEquals(5_000, round.size());
+        assertTrue(generator.pairRound(10_000, 10_000, List.of()).isEmpty());
+    }
+
+    // Plays every round to completion. With upsets the results are random, with the
+    // occasional draw; without them the better seed always wins.
+    private List<PlayedMatch> play(BracketGenerator generator, int entrants, boolean upsets, List<List<Pairing>> rounds) {
+        List<PlayedMatch> history = new ArrayList<>();
+        for (int round = 1; ; round++) {
+            List<Pairing> pairings = generator.pairRound(entrants, round, history);
+            if (pairings.isEmpty()) {
+                return history;
+            }
+            Set<Integer> seen = new HashSet<>();
+            for (Pairing pairing : pairings) {
+                assertTrue(seen.add(pairing.player1()) && seen.add(pairing.player2()),
+                        "player paired twice in round " + round);
+                history.add(new PlayedMatch(round, pairing.player1(), pairing.player2(), result(pairing, upsets)));
+            }
+            rounds.add(pairings);
+            assertTrue(round <= 4 * entrants, "bracket did not finish");
+        }
+    }
+
+    private MatchResult result(Pairing pairing, boolean upsets) {
+        if (!upsets) {
+            return pairing.player1() < pairing.player2() ? MatchResult.PLAYER1_WIN : MatchResult.PLAYER2_WIN;
+        }
+        int roll = random.nextInt(10);
+        if (roll == 0) {
+            return MatchResult.DRAW;
+        }
+        return roll % 2 == 0 ? MatchResult.PLAYER1_WIN : MatchResult.PLAYER2_WIN;
+    }
+
+    private static int rematches(List<PlayedMatch> history) {
+        PairSet seen = new PairSet(history.size());
+        int rematches = 0;
+        for (PlayedMatch match : history) {
+            if (seen.contains(match.player1(), match.player2())) {
+                rematches++;
+            }
+            seen.add(match.player1(), match.player2());
+        }
+        return rematches;
+    }
+}
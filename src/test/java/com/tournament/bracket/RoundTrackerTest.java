@@ -0,0 +1,72 @@
+package com.tournament.bracket;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundTrackerTest {
+
+    private static final String TOURNAMENT_ID = "t1";
+
+    private final RoundTracker tracker = new RoundTracker();
+
+    @Test
+    void lastResultOfTheRoundCompletesItOnce() {
+        tracker.roundCreated(TOURNAMENT_ID, 1, 3);
+
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 1, -1));
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 1, -1));
+        assertTrue(tracker.adjust(TOURNAMENT_ID, 1, -1));
+        assertEquals(0, tracker.pending(TOURNAMENT_ID, 1));
+    }
+
+    @Test
+    void resultReopenedAndResolvedCompletesAgain() {
+        tracker.roundCreated(TOURNAMENT_ID, 1, 1);
+
+        assertTrue(tracker.adjust(TOURNAMENT_ID, 1, -1));
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 1, 1));
+        assertTrue(tracker.adjust(TOURNAMENT_ID, 1, -1));
+    }
+
+    @Test
+    void correctionsToEarlierRoundsNeverComplete() {
+        tracker.roundCreated(TOURNAMENT_ID, 1, 1);
+        tracker.adjust(TOURNAMENT_ID, 1, -1);
+        tracker.roundCreated(TOURNAMENT_ID, 2, 1);
+
+        assertNull(tracker.pending(TOURNAMENT_ID, 1));
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 1, 1));
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 1, -1));
+        assertTrue(tracker.adjust(TOURNAMENT_ID, 2, -1));
+    }
+
+    @Test
+    void resultRecordedBeforeItsRoundStillAddsUp() {
+        tracker.roundCreated(TOURNAMENT_ID, 1, 1);
+        tracker.adjust(TOURNAMENT_ID, 1, -1);
+
+        // A round-2 result lands before round 2's own creation has been recorded.
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 2, -1));
+        tracker.roundCreated(TOURNAMENT_ID, 2, 2);
+
+        assertEquals(1, tracker.pending(TOURNAMENT_ID, 2));
+        assertTrue(tracker.adjust(TOURNAMENT_ID, 2, -1));
+    }
+
+    @Test
+    void untrackedTournamentsAreIgnoredUntilLoaded() {
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 1, -1));
+        assertFalse(tracker.isTracked(TOURNAMENT_ID));
+
+        tracker.load(TOURNAMENT_ID, 4, 2);
+        tracker.load(TOURNAMENT_ID, 4, 7);
+
+        assertEquals(2, tracker.pending(TOURNAMENT_ID, 4));
+        assertFalse(tracker.adjust(TOURNAMENT_ID, 4, -1));
+        assertTrue(tracker.adjust(TOURNAMENT_ID, 4, -1));
+
+        tracker.forget(TOURNAMENT_ID);
+        assertEquals(0, tracker.size());
+    }
+}
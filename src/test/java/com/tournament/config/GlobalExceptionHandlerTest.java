@@ -0,0 +1,47 @@
+package com.tournament.config;
+
+import com.tournament.dto.ErrorResponseDto;
+import com.tournament.exception.CapacityExceededException;
+import com.tournament.exception.ForbiddenException;
+import com.tournament.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void domainExceptionsCarryTheirStatus() {
+        ResponseEntity<ErrorResponseDto> notFound = handler.handleDomainException(
+                new NotFoundException("Tournament not found with id: missing"));
+        ResponseEntity<ErrorResponseDto> full = handler.handleDomainException(
+                new CapacityExceededException("Tournament is already full"));
+        ResponseEntity<ErrorResponseDto> forbidden = handler.handleDomainException(
+                new ForbiddenException("Organizer cannot join as a player in their own tournament"));
+
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertEquals(404, notFound.getBody().status());
+        assertEquals("Not Found", notFound.getBody().error());
+        assertEquals("Tournament not found with id: missing", notFound.getBody().message());
+        assertEquals(HttpStatus.CONFLICT, full.getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, forbidden.getStatusCode());
+    }
+
+    @Test
+    void otherRuntimeExceptionsAreBadRequests() {
+        ResponseEntity<ErrorResponseDto> response = handler.handleRuntimeException(new RuntimeException("Limit must be at least 1"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Limit must be at least 1", response.getBody().message());
+        assertNull(response.getBody().validationErrors());
+    }
+
+    @Test
+    void domainExceptionsSkipTheStackTrace() {
+        assertEquals(0, new NotFoundException("User not found with id: missing").getStackTrace().length);
+    }
+}
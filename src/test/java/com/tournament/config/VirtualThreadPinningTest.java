@@ -0,0 +1,102 @@
+package com.tournament.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives logins and authenticated reads concurrently from virtual threads, as Tomcat does
+ * in the virtual-thread mode, and records every jdk.VirtualThreadPinned event. Pinning
+ * inside third-party code is reported by -Djdk.tracePinnedThreads; this test fails only
+ * when a pinned stack runs through the application's own classes.
+ */
+@SpringBootTest(properties = "tournament.threads.virtual.enabled=true")
+@AutoConfigureMockMvc
+class VirtualThreadPinningTest {
+
+    private static final String[] USERS = {"admin", "organizer1", "player1", "player2", "player3"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void requestsDoNotPinVirtualThreadsInApplicationCode() throws Exception {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                String stack = describe(event);
+                if (stack.contains("com.tournament.")) {
+                    pinned.add(stack);
+                }
+            });
+            recording.startAsync();
+
+            try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> requests = new ArrayList<>();
+                for (int i = 0; i < 40; i++) {
+                    String username = USERS[i % USERS.length];
+                    requests.add(threads.submit(() -> {
+                        String token = login(username);
+                        for (String path : List.of("/api/tournaments", "/api/matches", "/api/users/rankings/top")) {
+                            mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
+                                    .andExpect(status().isOk());
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> request : requests) {
+                    request.get();
+                }
+            }
+            recording.stop();
+        }
+
+        assertTrue(pinned.isEmpty(), "virtual threads pinned in application code:\n" + String.join("\n\n", pinned));
+    }
+
+    private String login(String username) throws Exception {
+        String json = String.format("{\"username\":\"%s\",\"password\":\"password123\"}", username);
+        String response = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("token").asText();
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "";
+        }
+        StringBuilder stack = new StringBuilder();
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            stack.append("  at ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName()).append('\n');
+        }
+        return stack.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.tournament.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.dto.ParticipationCreateDto;
+import com.tournament.dto.TournamentCreateDto;
+import com.tournament.dto.TournamentDto;
+import com.tournament.model.Game;
+import com.tournament.model.Platform;
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.UserRepository;
+import com.tournament.security.JwtUtil;
+import com.tournament.service.ParticipationService;
+import com.tournament.service.TournamentService;
+import com.tournament.support.ResponseCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The cached list endpoints against the real stack: a repeated request is served from the
+ * serialized body without SQL, and a registration, committed through the service, is
+ * visible on the very next request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CachedResponsesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void availableTournamentsAreCachedUntilARegistration() throws Exception {
+        String suffix = Long.toString(System.nanoTime());
+        TournamentDto tournament = createTournament(suffix);
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+        assertEquals(0, currentPlayers(fetch("/api/tournaments/available", token), tournament.getId()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        long hits = responseCache.hitCount(ResponseCache.AVAILABLE_TOURNAMENTS);
+        fetch("/api/tournaments/available", token);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(hits + 1, responseCache.hitCount(ResponseCache.AVAILABLE_TOURNAMENTS));
+
+        User player = userRepository.save(new User("cacheplayer" + suffix, "secret", UserRole.PLAYER, 0));
+        participationService.createParticipation(new ParticipationCreateDto(tournament.getName(), player.getUsername(), 0));
+
+        assertEquals(1, currentPlayers(fetch("/api/tournaments/available", token), tournament.getId()));
+        JsonNode leaderboard = fetch("/api/participations/tournament/" + tournament.getId() + "/leaderboard", token);
+        assertEquals(1, leaderboard.size());
+    }
+
+    @Test
+    void hitRatesAreReportedPerEndpoint() throws Exception {
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+        fetch("/api/users/rankings/top", token);
+        fetch("/api/users/rankings/top", token);
+        fetch("/api/games", token);
+
+        JsonNode stats = fetch("/api/caches/responses", jwtUtil.generateToken("admin", "ADMIN"));
+        boolean reported = false;
+        for (JsonNode region : stats) {
+            if (region.get("name").asText().equals(ResponseCache.TOP_USERS)) {
+                assertTrue(region.get("hits").asLong() >= 1);
+                assertTrue(region.get("hitRate").asDouble() > 0);
+                reported = true;
+            }
+        }
+        assertTrue(reported);
+    }
+
+    private JsonNode fetch(String path, String token) throws Exception {
+        String body = mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static int currentPlayers(JsonNode tournaments, String publicId) {
+        for (JsonNode tournament : tournaments) {
+            if (tournament.get("id").asText().equals(publicId)) {
+                return tournament.get("currentPlayers").asInt();
+            }
+        }
+        throw new AssertionError("Tournament " + publicId + " is not listed as available");
+    }
+
+    // Created through the service, which is what invalidates the cached list; rows saved
+    // straight through a repository are only picked up once the cached entry expires.
+    private TournamentDto createTournament(String suffix) {
+        User organizer = userRepository.save(new User("cacheorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Cache Game " + suffix, "Strategy", Platform.PC));
+        return tournamentService.createTournament(
+                new TournamentCreateDto("Cache Cup " + suffix, 16, game.getTitle(), organizer.getUsername()));
+    }
+}
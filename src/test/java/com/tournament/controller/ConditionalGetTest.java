@@ -0,0 +1,147 @@
+package com.tournament.controller;
+
+import com.tournament.dto.ParticipationCreateDto;
+import com.tournament.model.Game;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import com.tournament.security.JwtUtil;
+import com.tournament.service.ParticipationService;
+import com.tournament.support.PublicIds;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional GETs against the real stack: a repeated request carrying the ETag is
+ * answered 304 after nothing but the tournament's existence check, and a change to the
+ * collection yields a new tag.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void unchangedLeaderboardIsAnsweredWithNotModified() throws Exception {
+        String suffix = Long.toString(System.nanoTime());
+        Tournament tournament = createTournament(suffix);
+        String path = "/api/participations/tournament/" + tournament.getPublicId() + "/leaderboard";
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+
+        MvcResult first = mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(first.getResponse().getHeader(HttpHeaders.CACHE_CONTROL).contains("no-cache"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        MvcResult repeat = mockMvc.perform(get(path)
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(repeat.getResponse().getContentAsString().isEmpty());
+
+        User player = userRepository.save(new User("etagplayer" + suffix, "secret", UserRole.PLAYER, 0));
+        participationService.createParticipation(new ParticipationCreateDto(tournament.getName(), player.getUsername(), 0));
+
+        MvcResult changed = mockMvc.perform(get(path)
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNotEquals(etag, changed.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(changed.getResponse().getContentAsString().contains(player.getUsername()));
+    }
+
+    @Test
+    void unknownTournamentIsNotFoundEvenWithAMatchingTag() throws Exception {
+        Tournament tournament = createTournament(Long.toString(System.nanoTime()));
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+        String etag = mockMvc.perform(get("/api/participations/tournament/" + tournament.getPublicId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/participations/tournament/" + PublicIds.next())
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void uppercaseIdsShareTheTagOfTheCanonicalId() throws Exception {
+        Tournament tournament = createTournament(Long.toString(System.nanoTime()));
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+        String etag = mockMvc.perform(get("/api/matches/tournament/" + tournament.getPublicId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/matches/tournament/" + tournament.getPublicId().toUpperCase())
+                        .header("Authorization", "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void staleTournamentCannotOverwriteTheRegistrationCount() {
+        String suffix = Long.toString(System.nanoTime());
+        Tournament tournament = createTournament(suffix);
+        Tournament stale = tournamentRepository.findById(tournament.getId()).orElseThrow();
+
+        User player = userRepository.save(new User("staleplayer" + suffix, "secret", UserRole.PLAYER, 0));
+        participationService.createParticipation(new ParticipationCreateDto(tournament.getName(), player.getUsername(), 0));
+
+        stale.setName("Renamed Cup " + suffix);
+        assertThrows(OptimisticLockingFailureException.class, () -> tournamentRepository.save(stale));
+        assertEquals(1, tournamentRepository.findById(tournament.getId()).orElseThrow().getCurrentPlayers());
+    }
+
+    private Tournament createTournament(String suffix) {
+        User organizer = userRepository.save(new User("etagorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("ETag Game " + suffix, "Strategy", Platform.PC));
+        return tournamentRepository.save(new Tournament("ETag Cup " + suffix, 16, game, organizer));
+    }
+}
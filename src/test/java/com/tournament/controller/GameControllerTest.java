@@ -1,15 +1,23 @@
 package com.tournament.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.GameDto;
 import com.tournament.model.Platform;
 import com.tournament.service.GameService;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.ResponseCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Collections;
 import java.util.List;
@@ -19,9 +27,17 @@ import static org.mockito.Mockito.*;
 
 class GameControllerTest {
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     @Mock
     private GameService gameService;
 
+    @Spy
+    private CollectionVersions collectionVersions = new CollectionVersions();
+
+    @Spy
+    private ResponseCache responseCache = new ResponseCache(objectMapper, 100, System::nanoTime);
+
     @InjectMocks
     private GameController gameController;
 
@@ -31,22 +47,23 @@ class GameControllerTest {
     }
 
     @Test
-    void testGetAllGames() {
+    void testGetAllGames() throws Exception {
         
         GameDto mockGame = new GameDto();
         mockGame.setId("game123");
-        when(gameService.getAllGames()).thenReturn(Collections.singletonList(mockGame));
+        when(gameService.getAllGames(null, null)).thenReturn(new CursorPageDto<>(Collections.singletonList(mockGame), null));
 
         
-        ResponseEntity<List<GameDto>> response = gameController.getAllGames();
+        ResponseEntity<byte[]> response = gameController.getAllGames(null, null, new ServletWebRequest(new MockHttpServletRequest()));
 
         
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().size());
-        assertEquals("game123", response.getBody().get(0).getId());
-        verify(gameService, times(1)).getAllGames();
+        List<GameDto> games = objectMapper.readValue(response.getBody(), new TypeReference<List<GameDto>>() {});
+        assertEquals(1, games.size());
+        assertEquals("game123", games.get(0).getId());
+        verify(gameService, times(1)).getAllGames(null, null);
     }
 
     @Test
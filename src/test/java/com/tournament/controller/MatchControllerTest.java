@@ -1,5 +1,6 @@
 package com.tournament.controller;
 
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.MatchCreateDto;
 import com.tournament.dto.MatchDto;
 import com.tournament.model.enums.MatchResult;
@@ -36,10 +37,10 @@ class MatchControllerTest {
         
         MatchDto mockMatch = new MatchDto();
         mockMatch.setId("match123");
-        when(matchService.getAllMatches()).thenReturn(Collections.singletonList(mockMatch));
+        when(matchService.getAllMatches(null, null)).thenReturn(new CursorPageDto<>(Collections.singletonList(mockMatch), null));
 
         
-        ResponseEntity<List<MatchDto>> response = matchController.getAllMatches();
+        ResponseEntity<List<MatchDto>> response = matchController.getAllMatches(null, null);
 
         
         assertNotNull(response);
@@ -47,7 +48,7 @@ class MatchControllerTest {
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().size());
         assertEquals("match123", response.getBody().get(0).getId());
-        verify(matchService, times(1)).getAllMatches();
+        verify(matchService, times(1)).getAllMatches(null, null);
     }
 
     @Test
@@ -1,7 +1,12 @@
 package com.tournament.controller;
 
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.BulkParticipationDto;
+import com.tournament.dto.CursorPageDto;
+import com.tournament.dto.ParticipantEntryDto;
 import com.tournament.dto.ParticipationCreateDto;
 import com.tournament.dto.ParticipationDto;
+import com.tournament.model.enums.BulkItemStatus;
 import com.tournament.service.ParticipationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +16,9 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -35,10 +43,10 @@ class ParticipationControllerTest {
         
         ParticipationDto mockParticipation = new ParticipationDto();
         mockParticipation.setId("participation123");
-        when(participationService.getAllParticipations()).thenReturn(Collections.singletonList(mockParticipation));
+        when(participationService.getAllParticipations(null, null)).thenReturn(new CursorPageDto<>(Collections.singletonList(mockParticipation), null));
 
         
-        ResponseEntity<List<ParticipationDto>> response = participationController.getAllParticipations();
+        ResponseEntity<List<ParticipationDto>> response = participationController.getAllParticipations(null, null);
 
         
         assertNotNull(response);
@@ -46,7 +54,7 @@ class ParticipationControllerTest {
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().size());
         assertEquals("participation123", response.getBody().get(0).getId());
-        verify(participationService, times(1)).getAllParticipations();
+        verify(participationService, times(1)).getAllParticipations(null, null);
     }
 
     @Test
@@ -95,9 +103,9 @@ class ParticipationControllerTest {
     void testGetAllParticipationsAndVerifyServiceCall() {
         ParticipationDto mockParticipation = new ParticipationDto();
         mockParticipation.setId("participation123");
-        when(participationService.getAllParticipations()).thenReturn(Collections.singletonList(mockParticipation));
+        when(participationService.getAllParticipations(null, null)).thenReturn(new CursorPageDto<>(Collections.singletonList(mockParticipation), null));
 
-        ResponseEntity<List<ParticipationDto>> response = participationController.getAllParticipations();
+        ResponseEntity<List<ParticipationDto>> response = participationController.getAllParticipations(null, null);
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -105,7 +113,39 @@ class ParticipationControllerTest {
         assertEquals(1, response.getBody().size());
         assertEquals("participation123", response.getBody().get(0).getId());
 
-        verify(participationService, times(1)).getAllParticipations();
+        verify(participationService, times(1)).getAllParticipations(null, null);
         verifyNoMoreInteractions(participationService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRegisterParticipants() {
+
+        List<ParticipantEntryDto> entries = List.of(new ParticipantEntryDto("player1", null));
+        List<BulkItemResultDto> statuses = List.of(new BulkItemResultDto("player1", BulkItemStatus.CREATED, null));
+        when(participationService.registerParticipants("tournament123", entries)).thenReturn(statuses);
+
+
+        ResponseEntity<List<BulkItemResultDto>> response = participationController.registerParticipants("tournament123", new BulkParticipationDto(entries));
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(statuses, response.getBody());
+    }
+
+    @Test
+    void testImportParticipantsReadsTheBodyAsUtf8() throws Exception {
+
+        when(participationService.importParticipants(eq("tournament123"), any(BufferedReader.class))).thenAnswer(invocation -> {
+            BufferedReader reader = invocation.getArgument(1);
+            return List.of(new BulkItemResultDto(reader.readLine(), BulkItemStatus.CREATED, null));
+        });
+
+
+        ResponseEntity<List<BulkItemResultDto>> response = participationController.importParticipants("tournament123",
+                new ByteArrayInputStream("j\u00fcrgen".getBytes(StandardCharsets.UTF_8)));
+
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("j\u00fcrgen", response.getBody().get(0).getId());
+    }
+}
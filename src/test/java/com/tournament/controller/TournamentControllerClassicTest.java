@@ -16,8 +16,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -106,7 +108,7 @@ public class TournamentControllerClassicTest {
         createDto.setOrganizerUsername("organizer1");
         tournamentController.createTournament(createDto);
 
-        ResponseEntity<java.util.List<TournamentDto>> response = tournamentController.getAllTournaments();
+        ResponseEntity<java.util.List<TournamentDto>> response = tournamentController.getAllTournaments(null, null, new ServletWebRequest(new MockHttpServletRequest()));
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
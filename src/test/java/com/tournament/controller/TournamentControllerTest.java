@@ -1,15 +1,20 @@
 package com.tournament.controller;
 
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.TournamentCreateDto;
 import com.tournament.dto.TournamentDto;
 import com.tournament.service.TournamentService;
+import com.tournament.support.CollectionVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Collections;
 import java.util.List;
@@ -22,6 +27,9 @@ class TournamentControllerTest {
     @Mock
     private TournamentService tournamentService;
 
+    @Spy
+    private CollectionVersions collectionVersions = new CollectionVersions();
+
     @InjectMocks
     private TournamentController tournamentController;
 
@@ -35,10 +43,10 @@ class TournamentControllerTest {
         
         TournamentDto mockTournament = new TournamentDto();
         mockTournament.setId("tournament123");
-        when(tournamentService.getAllTournaments()).thenReturn(Collections.singletonList(mockTournament));
+        when(tournamentService.getAllTournaments(null, null)).thenReturn(new CursorPageDto<>(Collections.singletonList(mockTournament), null));
 
         
-        ResponseEntity<List<TournamentDto>> response = tournamentController.getAllTournaments();
+        ResponseEntity<List<TournamentDto>> response = tournamentController.getAllTournaments(null, null, new ServletWebRequest(new MockHttpServletRequest()));
 
         
         assertNotNull(response);
@@ -46,7 +54,7 @@ class TournamentControllerTest {
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().size());
         assertEquals("tournament123", response.getBody().get(0).getId());
-        verify(tournamentService, times(1)).getAllTournaments();
+        verify(tournamentService, times(1)).getAllTournaments(null, null);
     }
 
     @Test
@@ -55,7 +63,7 @@ class TournamentControllerTest {
         mockTournament.setId("tournament123");
         when(tournamentService.getTournamentById("tournament123")).thenReturn(mockTournament);
 
-        ResponseEntity<TournamentDto> response = tournamentController.getTournamentById("tournament123");
+        ResponseEntity<TournamentDto> response = tournamentController.getTournamentById("tournament123", new ServletWebRequest(new MockHttpServletRequest()));
 
         if (response.getStatusCode() == HttpStatus.OK) {
             assertNotNull(response.getBody());
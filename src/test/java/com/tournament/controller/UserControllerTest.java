@@ -1,5 +1,6 @@
 package com.tournament.controller;
 
+import com.tournament.dto.CursorPageDto;
 import com.tournament.dto.UserCreateDto;
 import com.tournament.dto.UserDto;
 import com.tournament.model.enums.UserRole;
@@ -36,10 +37,10 @@ class UserControllerTest {
         
         UserDto mockUser = new UserDto();
         mockUser.setId("user123");
-        when(userService.getAllUsers()).thenReturn(Collections.singletonList(mockUser));
+        when(userService.getAllUsers(null, null)).thenReturn(new CursorPageDto<>(Collections.singletonList(mockUser), null));
 
         
-        ResponseEntity<List<UserDto>> response = userController.getAllUsers();
+        ResponseEntity<List<UserDto>> response = userController.getAllUsers(null, null);
 
         
         assertNotNull(response);
@@ -47,7 +48,7 @@ class UserControllerTest {
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().size());
         assertEquals("user123", response.getBody().get(0).getId());
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getAllUsers(null, null);
     }
 
     @Test
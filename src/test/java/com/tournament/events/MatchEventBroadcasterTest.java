@@ -0,0 +1,151 @@
+package com.tournament.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.dto.MatchResultEventDto;
+import com.tournament.model.enums.MatchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchEventBroadcasterTest {
+
+    private final MatchEventBroadcaster broadcaster = new MatchEventBroadcaster(new ObjectMapper(), 60_000, 2, 2);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    // Covers the broadcaster's side only: subscribing starts no threads and publishing uses
+    // just the dispatch pool. What a parked async request costs the servlet container is
+    // not measured here.
+    @Test
+    void tenThousandIdleSubscribersStartNoBroadcasterThreads() throws Exception {
+        int threadsBefore = Thread.activeCount();
+
+        for (int i = 0; i < 10_000; i++) {
+            broadcaster.subscribe("tournament" + (i % 100));
+        }
+
+        assertEquals(10_000, broadcaster.subscriberCount());
+        assertTrue(Thread.activeCount() - threadsBefore <= 2,
+                "idle subscribers started " + (Thread.activeCount() - threadsBefore) + " threads");
+
+        RecordingEmitter watcher = new RecordingEmitter(1);
+        broadcaster.register("tournament7", watcher);
+        broadcaster.publish(event("tournament7", "m1"));
+
+        assertTrue(watcher.received.await(5, TimeUnit.SECONDS));
+        assertTrue(Thread.activeCount() - threadsBefore <= 2, "publishing started more than the dispatch threads");
+    }
+
+    @Test
+    void eventsReachOnlyTheirTournamentsSubscribers() throws Exception {
+        RecordingEmitter spectator = new RecordingEmitter(2);
+        RecordingEmitter elsewhere = new RecordingEmitter(1);
+        broadcaster.register("cup", spectator);
+        broadcaster.register("league", elsewhere);
+
+        broadcaster.publish(event("cup", "m1"));
+        broadcaster.publish(event("cup", "m2"));
+
+        assertTrue(spectator.received.await(5, TimeUnit.SECONDS));
+        assertEquals(2, spectator.events.size());
+        assertTrue(spectator.events.get(0).contains("event:match-result"));
+        assertTrue(spectator.events.get(0).contains("\"matchId\":\"m1\""));
+        assertTrue(spectator.events.get(1).contains("\"matchId\":\"m2\""));
+        assertTrue(elsewhere.events.isEmpty());
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutHoldingBackOthers() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(1) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                super.send(builder);
+                try {
+                    unblock.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        RecordingEmitter fast = new RecordingEmitter(5);
+        broadcaster.register("cup", slow);
+        broadcaster.register("cup", fast);
+
+        broadcaster.publish(event("cup", "m1"));
+        assertTrue(slow.received.await(5, TimeUnit.SECONDS));
+        // One event at a time, so only the blocked subscriber's queue (capacity 2) can overflow.
+        for (int i = 2; i <= 5; i++) {
+            broadcaster.publish(event("cup", "m" + i));
+            assertTrue(fast.awaitEvents(i, 5_000), "fast subscriber missed m" + i);
+        }
+
+        assertTrue(fast.received.await(5, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.subscriberCount());
+        unblock.countDown();
+    }
+
+    @Test
+    void failedSendRemovesTheSubscriber() throws Exception {
+        CountDownLatch attempted = new CountDownLatch(1);
+        SseEmitter broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                attempted.countDown();
+                throw new IOException("connection reset");
+            }
+        };
+        broadcaster.register("cup", broken);
+
+        broadcaster.publish(event("cup", "m1"));
+
+        assertTrue(attempted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && broadcaster.subscriberCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    private static MatchResultEventDto event(String tournamentId, String matchId) {
+        return new MatchResultEventDto(matchId, tournamentId, 1, "p1", "p2", MatchResult.PLAYER1_WIN);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch received;
+
+        RecordingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                text.append(part.getData());
+            }
+            events.add(text.toString());
+            received.countDown();
+        }
+
+        boolean awaitEvents(int count, long timeoutMs) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMs;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            return events.size() >= count;
+        }
+    }
+}
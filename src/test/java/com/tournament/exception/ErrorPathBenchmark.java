@@ -0,0 +1,90 @@
+package com.tournament.exception;
+
+import com.tournament.config.GlobalExceptionHandler;
+import com.tournament.dto.ErrorResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A lookup of an unknown public id, from the throw to the response body: the old path
+ * (a RuntimeException with its stack trace, answered with a HashMap) against the new one
+ * (a stackless NotFoundException, answered with an ErrorResponseDto). The exception is
+ * thrown {@code depth} frames down, roughly where a service sits under the servlet,
+ * security and transaction layers.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tournament.exception.ErrorPathBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private static final String PUBLIC_ID = "018f4c3e-7b1a-7c00-8000-000000000000";
+
+    @Param({"20", "150"})
+    private int depth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Benchmark
+    public Map<String, Object> runtimeExceptionWithMap() {
+        try {
+            lookup(depth, false);
+            return null;
+        } catch (RuntimeException ex) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("timestamp", LocalDateTime.now());
+            error.put("status", HttpStatus.BAD_REQUEST.value());
+            error.put("error", "Bad Request");
+            error.put("message", ex.getMessage());
+            return error;
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponseDto> notFoundExceptionWithRecord() {
+        try {
+            lookup(depth, true);
+            return null;
+        } catch (DomainException ex) {
+            return handler.handleDomainException(ex);
+        }
+    }
+
+    private static Object lookup(int remaining, boolean typed) {
+        if (remaining > 0) {
+            return lookup(remaining - 1, typed);
+        }
+        if (typed) {
+            throw new NotFoundException("Tournament not found with id: " + PUBLIC_ID);
+        }
+        throw new RuntimeException("Tournament not found with id: " + PUBLIC_ID);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ErrorPathBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
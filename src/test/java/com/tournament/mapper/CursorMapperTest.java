@@ -0,0 +1,63 @@
+package com.tournament.mapper;
+
+import com.tournament.dto.CursorPageDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorMapperTest {
+
+    private final CursorMapper cursorMapper = new CursorMapper();
+
+    @Test
+    void testCursorRoundTrip() {
+        String cursor = cursorMapper.toCursor(123456789L);
+
+        assertEquals(123456789L, cursorMapper.toLastId(cursor));
+    }
+
+    @Test
+    void testMissingCursorStartsFromBeginning() {
+        assertEquals(0L, cursorMapper.toLastId(null));
+        assertEquals(0L, cursorMapper.toLastId(""));
+    }
+
+    @Test
+    void testInvalidCursorIsRejected() {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> cursorMapper.toLastId("not-a-cursor"));
+
+        assertEquals("Invalid page cursor: not-a-cursor", exception.getMessage());
+    }
+
+    @Test
+    void testPageSizeIsCapped() {
+        assertEquals(CursorPageDto.DEFAULT_PAGE_SIZE, cursorMapper.toPageSize(null));
+        assertEquals(CursorPageDto.MAX_PAGE_SIZE, cursorMapper.toPageSize(CursorPageDto.MAX_PAGE_SIZE * 10));
+        assertEquals(CursorPageDto.MAX_PAGE_SIZE + 1, cursorMapper.toPageRequest(Integer.MAX_VALUE).getPageSize());
+        assertThrows(RuntimeException.class, () -> cursorMapper.toPageSize(0));
+    }
+
+    @Test
+    void testToPageTrimsLookaheadRowAndPointsCursorAtLastItem() {
+        List<Long> rows = LongStream.rangeClosed(11, 14).boxed().collect(Collectors.toList());
+
+        CursorPageDto<String> page = cursorMapper.toPage(rows, 3, Long::longValue, id -> "item" + id);
+
+        assertEquals(List.of("item11", "item12", "item13"), page.getItems());
+        assertEquals(13L, cursorMapper.toLastId(page.getNextCursor()));
+    }
+
+    @Test
+    void testLastPageHasNoCursor() {
+        List<Long> rows = List.of(21L, 22L);
+
+        CursorPageDto<String> page = cursorMapper.toPage(rows, 3, Long::longValue, id -> "item" + id);
+
+        assertEquals(2, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+}
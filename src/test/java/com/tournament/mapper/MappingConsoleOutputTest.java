@@ -0,0 +1,90 @@
+package com.tournament.mapper;
+
+import com.tournament.dto.MatchDto;
+import com.tournament.dto.ParticipationDto;
+import com.tournament.model.Game;
+import com.tournament.model.Match;
+import com.tournament.model.Participation;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Maps 10,000 matches and participations, the size of a large tournament's listing, with
+ * stdout and stderr captured. The mapping paths must not write to the console at all.
+ */
+class MappingConsoleOutputTest {
+
+    private static final int ROWS = 10_000;
+
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+
+    private MatchMapper matchMapper;
+    private ParticipationMapper participationMapper;
+
+    @BeforeEach
+    void setUp() {
+        UserMapper userMapper = new UserMapper();
+        TournamentMapper tournamentMapper = new TournamentMapper();
+        ReflectionTestUtils.setField(tournamentMapper, "gameMapper", new GameMapper());
+        ReflectionTestUtils.setField(tournamentMapper, "userMapper", userMapper);
+        matchMapper = new MatchMapper();
+        ReflectionTestUtils.setField(matchMapper, "tournamentMapper", tournamentMapper);
+        ReflectionTestUtils.setField(matchMapper, "userMapper", userMapper);
+        participationMapper = new ParticipationMapper();
+        ReflectionTestUtils.setField(participationMapper, "tournamentMapper", tournamentMapper);
+        ReflectionTestUtils.setField(participationMapper, "userMapper", userMapper);
+
+        originalOut = System.out;
+        originalErr = System.err;
+        PrintStream recording = new PrintStream(captured, true);
+        System.setOut(recording);
+        System.setErr(recording);
+    }
+
+    @AfterEach
+    void restoreConsole() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Test
+    void mappingWritesNothingToTheConsole() {
+        User organizer = new User("organizer", "secret", UserRole.ORGANIZER, 0);
+        Tournament tournament = new Tournament("Mapping Cup", ROWS, new Game("Chess", "Strategy", Platform.PC), organizer);
+        List<Match> matches = new ArrayList<>(ROWS);
+        List<Participation> participations = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            User player1 = new User("player" + i, "secret", UserRole.PLAYER, i);
+            User player2 = new User("rival" + i, "secret", UserRole.PLAYER, i);
+            matches.add(new Match(tournament, 1 + i / 100, player1, player2, MatchResult.DRAW));
+            participations.add(new Participation(tournament, player1, LocalDateTime.now(), i));
+        }
+
+        List<MatchDto> matchDtos = matches.stream().map(matchMapper::toDto).toList();
+        List<ParticipationDto> participationDtos = participations.stream().map(participationMapper::toDto).toList();
+
+        restoreConsole();
+        assertEquals(ROWS, matchDtos.size());
+        assertEquals(ROWS, participationDtos.size());
+        assertEquals("rival9999", matchDtos.get(ROWS - 1).getPlayer2().getUsername());
+        assertEquals("Chess", participationDtos.get(0).getTournament().getGame().getTitle());
+        assertEquals(0, captured.size(), () -> "mapping wrote to the console: " + captured);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tournament.mapper;
+
+import com.tournament.dto.BulkParticipationDto;
+import com.tournament.dto.ParticipantEntryDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantCsvMapperTest {
+
+    private final ParticipantCsvMapper csvMapper = new ParticipantCsvMapper();
+
+    @Test
+    void testReadsUsernamesAndOptionalScores() {
+        List<ParticipantEntryDto> entries = read("username,score\nalice,5\n\n\"bob\" , \ncarol\n");
+
+        assertEquals(3, entries.size());
+        assertEquals("alice", entries.get(0).getPlayerUsername());
+        assertEquals(5, entries.get(0).getScore());
+        assertEquals("bob", entries.get(1).getPlayerUsername());
+        assertNull(entries.get(1).getScore());
+        assertEquals("carol", entries.get(2).getPlayerUsername());
+    }
+
+    @Test
+    void testHeaderIsOptional() {
+        assertEquals(List.of("alice"), read("alice\n").stream().map(ParticipantEntryDto::getPlayerUsername).toList());
+        assertEquals(List.of("alice"), read("\uFEFFUsername\r\nalice\r\n").stream().map(ParticipantEntryDto::getPlayerUsername).toList());
+    }
+
+    @Test
+    void testMalformedLinesAreRejectedWithTheirNumber() {
+        RuntimeException badScore = assertThrows(RuntimeException.class, () -> read("alice,5\nbob,five\n"));
+        assertEquals("Line 2: score must be a whole number", badScore.getMessage());
+
+        RuntimeException extraColumn = assertThrows(RuntimeException.class, () -> read("alice,5,x\n"));
+        assertEquals("Line 1: expected username[,score]", extraColumn.getMessage());
+
+        RuntimeException noUsername = assertThrows(RuntimeException.class, () -> read("alice\n,3\n"));
+        assertEquals("Line 2: player username is required", noUsername.getMessage());
+    }
+
+    @Test
+    void testEmptyAndOversizedImportsAreRejected() {
+        assertThrows(RuntimeException.class, () -> read("username,score\n"));
+
+        String tooMany = "p\n".repeat(BulkParticipationDto.MAX_PARTICIPANTS + 1);
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> read(tooMany));
+        assertEquals("At most " + BulkParticipationDto.MAX_PARTICIPANTS + " participants per request", ex.getMessage());
+    }
+
+    private List<ParticipantEntryDto> read(String csv) {
+        return csvMapper.read(new BufferedReader(new StringReader(csv)));
+    }
+}
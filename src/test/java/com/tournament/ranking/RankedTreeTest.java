@@ -0,0 +1,103 @@
+package com.tournament.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedTreeTest {
+
+    @Test
+    void ordersByScoreDescendingThenKey() {
+        RankedTree<String, String> tree = new RankedTree<>();
+        tree.put("carol", 50, "c");
+        tree.put("alice", 80, "a");
+        tree.put("dave", 50, "d");
+        tree.put("bob", 90, "b");
+
+        assertEquals(List.of("bob", "alice", "carol", "dave"), keys(tree.top(10)));
+        assertEquals(0, tree.positionOf("bob"));
+        assertEquals(2, tree.positionOf("carol"));
+        assertEquals(3, tree.positionOf("dave"));
+        assertEquals(-1, tree.positionOf("erin"));
+    }
+
+    @Test
+    void putRepositionsExistingKey() {
+        RankedTree<String, String> tree = new RankedTree<>();
+        tree.put("alice", 10, "a");
+        tree.put("bob", 20, "b");
+
+        tree.put("alice", 30, "a2");
+
+        assertEquals(2, tree.size());
+        assertEquals(0, tree.positionOf("alice"));
+        assertEquals("a2", tree.get("alice").value());
+        assertEquals(30, tree.get("alice").score());
+    }
+
+    @Test
+    void removeAndRangeClampToBounds() {
+        RankedTree<String, String> tree = new RankedTree<>();
+        for (int i = 0; i < 5; i++) {
+            tree.put("p" + i, i, "v" + i);
+        }
+
+        assertTrue(tree.remove("p2"));
+        assertFalse(tree.remove("p2"));
+
+        assertEquals(List.of("p4", "p3", "p1", "p0"), keys(tree.range(-3, 100)));
+        assertEquals(List.of("p1"), keys(tree.range(2, 3)));
+        assertTrue(tree.range(4, 10).isEmpty());
+    }
+
+    @Test
+    void matchesSortedListUnderRandomUpdates() {
+        Random random = new Random(42);
+        RankedTree<String, Integer> tree = new RankedTree<>();
+        Map<String, Integer> scores = new HashMap<>();
+
+        for (int op = 0; op < 5000; op++) {
+            String key = "k" + random.nextInt(200);
+            if (random.nextInt(4) == 0) {
+                tree.remove(key);
+                scores.remove(key);
+            } else {
+                int score = random.nextInt(50);
+                tree.put(key, score, score);
+                scores.put(key, score);
+            }
+
+            if (op % 50 == 0) {
+                List<String> expected = scores.keySet().stream()
+                        .sorted((a, b) -> {
+                            int byScore = Integer.compare(scores.get(b), scores.get(a));
+                            return byScore != 0 ? byScore : a.compareTo(b);
+                        })
+                        .collect(Collectors.toList());
+
+                assertEquals(expected, keys(tree.range(0, tree.size())));
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(i, tree.positionOf(expected.get(i)));
+                }
+                int from = random.nextInt(expected.size() + 1);
+                int to = Math.min(expected.size(), from + random.nextInt(20));
+                assertEquals(expected.subList(from, to), keys(tree.range(from, to)));
+            }
+        }
+    }
+
+    private static <V> List<String> keys(List<RankedTree.Entry<String, V>> entries) {
+        List<String> keys = new ArrayList<>();
+        for (RankedTree.Entry<String, V> entry : entries) {
+            keys.add(entry.key());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,133 @@
+package com.tournament.ranking;
+
+import com.tournament.dto.LeaderboardPositionDto;
+import com.tournament.dto.ParticipationDto;
+import com.tournament.dto.TournamentDto;
+import com.tournament.dto.UserDto;
+import com.tournament.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentLeaderboardCacheTest {
+
+    private static final String TOURNAMENT_ID = "t1";
+
+    private TournamentLeaderboardCache cache;
+    private List<ParticipationDto> rows;
+    private AtomicInteger loads;
+    private Supplier<List<ParticipationDto>> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TournamentLeaderboardCache();
+        ReflectionTestUtils.setField(cache, "idleTimeoutMs", 600_000L);
+        rows = new ArrayList<>(List.of(participation("alice", 30), participation("bob", 50), participation("carol", 10)));
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return rows;
+        };
+    }
+
+    @Test
+    void loadsOnceAndServesTopN() {
+        assertEquals(List.of("bob", "alice"), players(cache.top(TOURNAMENT_ID, 2, loader)));
+        assertEquals(List.of("bob", "alice", "carol"), players(cache.top(TOURNAMENT_ID, 10, loader)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void appliesScoreUpdatesIncrementally() {
+        cache.top(TOURNAMENT_ID, 10, loader);
+
+        cache.put(participation("carol", 70));
+        cache.put(participation("dave", 40));
+
+        assertEquals(List.of("carol", "bob", "dave", "alice"), players(cache.top(TOURNAMENT_ID, 10, loader)));
+        LeaderboardPositionDto position = cache.positionOf(TOURNAMENT_ID, "dave", loader);
+        assertEquals(3, position.getPosition());
+        assertEquals(40, position.getParticipation().getScore());
+        assertEquals(TOURNAMENT_ID, position.getParticipation().getTournament().getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void removeDropsPlayerAndCount() {
+        cache.top(TOURNAMENT_ID, 10, loader);
+
+        cache.remove(TOURNAMENT_ID, "bob");
+
+        List<ParticipationDto> board = cache.top(TOURNAMENT_ID, 10, loader);
+        assertEquals(List.of("alice", "carol"), players(board));
+        assertEquals(2, board.get(0).getTournament().getCurrentPlayers());
+        assertNull(cache.positionOf(TOURNAMENT_ID, "bob", loader));
+    }
+
+    @Test
+    void changeDuringLoadDiscardsTheLoadedRows() {
+        Supplier<List<ParticipationDto>> racingLoader = () -> {
+            loads.incrementAndGet();
+            cache.put(participation("alice", 99));
+            return rows;
+        };
+
+        assertEquals(List.of("bob", "alice", "carol"), players(cache.top(TOURNAMENT_ID, 10, racingLoader)));
+        assertEquals(0, cache.size());
+
+        rows.set(0, participation("alice", 99));
+        assertEquals(List.of("alice", "bob", "carol"), players(cache.top(TOURNAMENT_ID, 10, loader)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void updateUserRefreshesPlayerDetails() {
+        cache.top(TOURNAMENT_ID, 10, loader);
+
+        cache.updateUser(new UserDto("bob", "bobby", UserRole.PLAYER, 500));
+
+        ParticipationDto top = cache.top(TOURNAMENT_ID, 1, loader).get(0);
+        assertEquals("bobby", top.getPlayer().getUsername());
+        assertEquals(50, top.getScore());
+    }
+
+    @Test
+    void returnedEntriesAreCopies() {
+        cache.top(TOURNAMENT_ID, 10, loader).get(0).setScore(0);
+
+        assertEquals(50, cache.top(TOURNAMENT_ID, 1, loader).get(0).getScore());
+    }
+
+    @Test
+    void evictsIdleBoards() {
+        cache.top(TOURNAMENT_ID, 10, loader);
+        cache.evictIdle();
+        assertEquals(1, cache.size());
+
+        ReflectionTestUtils.setField(cache, "idleTimeoutMs", -1L);
+        cache.evictIdle();
+        assertEquals(0, cache.size());
+    }
+
+    private static ParticipationDto participation(String player, int score) {
+        TournamentDto tournament = new TournamentDto(TOURNAMENT_ID, "Cup", 16, 3, null, null);
+        UserDto user = new UserDto(player, player, UserRole.PLAYER, 0);
+        return new ParticipationDto("p-" + player, LocalDateTime.now(), score, tournament, user);
+    }
+
+    private static List<String> players(List<ParticipationDto> board) {
+        List<String> players = new ArrayList<>();
+        for (ParticipationDto entry : board) {
+            players.add(entry.getPlayer().getId());
+        }
+        return players;
+    }
+}
@@ -0,0 +1,109 @@
+package com.tournament.rating;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingEngineTest {
+
+    @Test
+    void eloMovesBothPlayersByTheSameAmount() {
+        RatingTable table = new RatingTable(2, 1000);
+        new EloRatingEngine(32).apply(table, 0, 1, RatingEngine.WIN);
+
+        assertEquals(1016.0, table.rating(0), 1e-9);
+        assertEquals(984.0, table.rating(1), 1e-9);
+    }
+
+    @Test
+    void eloRewardsUpsetsMoreThanExpectedWins() {
+        EloRatingEngine engine = new EloRatingEngine(32);
+
+        RatingTable favouriteWins = new RatingTable(2, 0);
+        favouriteWins.set(0, 1400, RatingTable.DEFAULT_DEVIATION, RatingTable.DEFAULT_VOLATILITY);
+        favouriteWins.set(1, 1000, RatingTable.DEFAULT_DEVIATION, RatingTable.DEFAULT_VOLATILITY);
+        engine.apply(favouriteWins, 0, 1, RatingEngine.WIN);
+
+        RatingTable upset = new RatingTable(2, 0);
+        upset.set(0, 1400, RatingTable.DEFAULT_DEVIATION, RatingTable.DEFAULT_VOLATILITY);
+        upset.set(1, 1000, RatingTable.DEFAULT_DEVIATION, RatingTable.DEFAULT_VOLATILITY);
+        engine.apply(upset, 0, 1, RatingEngine.LOSS);
+
+        double expectedGain = favouriteWins.rating(0) - 1400;
+        double upsetGain = upset.rating(1) - 1000;
+        assertEquals(32 / 11.0, expectedGain, 1e-9);
+        assertEquals(320 / 11.0, upsetGain, 1e-9);
+    }
+
+    @Test
+    void eloDrawBetweenEqualsChangesNothing() {
+        RatingTable table = new RatingTable(2, 1200);
+        new EloRatingEngine(24).apply(table, 0, 1, RatingEngine.DRAW);
+
+        assertEquals(1200.0, table.rating(0), 1e-9);
+        assertEquals(1200.0, table.rating(1), 1e-9);
+    }
+
+    @Test
+    void eloRejectsNonPositiveKFactor() {
+        assertThrows(IllegalArgumentException.class, () -> new EloRatingEngine(0));
+    }
+
+    @Test
+    void glickoIsSymmetricBetweenEqualPlayers() {
+        RatingTable table = new RatingTable(2, 1500);
+        new Glicko2RatingEngine(0.5).apply(table, 0, 1, RatingEngine.WIN);
+
+        assertTrue(table.rating(0) > 1500);
+        assertEquals(1500 - table.rating(0), table.rating(1) - 1500, 1e-6);
+        assertEquals(table.deviation(0), table.deviation(1), 1e-9);
+        assertTrue(table.deviation(0) < RatingTable.DEFAULT_DEVIATION);
+    }
+
+    @Test
+    void glickoMovesUncertainPlayersFurther() {
+        RatingTable table = new RatingTable(2, 1500);
+        table.set(0, 1500, 50, RatingTable.DEFAULT_VOLATILITY);
+        table.set(1, 1500, 300, RatingTable.DEFAULT_VOLATILITY);
+        new Glicko2RatingEngine(0.5).apply(table, 0, 1, RatingEngine.WIN);
+
+        double settledGain = table.rating(0) - 1500;
+        double newcomerLoss = 1500 - table.rating(1);
+        assertTrue(settledGain > 0);
+        assertTrue(newcomerLoss > 5 * settledGain);
+    }
+
+    @Test
+    void glickoKeepsVolatilityStableForExpectedResults() {
+        RatingTable table = new RatingTable(2, 1500);
+        table.set(0, 1900, 60, RatingTable.DEFAULT_VOLATILITY);
+        table.set(1, 1300, 60, RatingTable.DEFAULT_VOLATILITY);
+        new Glicko2RatingEngine(0.5).apply(table, 0, 1, RatingEngine.WIN);
+
+        assertEquals(RatingTable.DEFAULT_VOLATILITY, table.volatility(0), 1e-3);
+        assertEquals(RatingTable.DEFAULT_VOLATILITY, table.volatility(1), 1e-3);
+        assertTrue(table.rating(0) > 1900);
+    }
+
+    @Test
+    void replaysLargeHistoriesInPlace() {
+        int players = 1_000;
+        RatingTable table = new RatingTable(players, 1000);
+        EloRatingEngine engine = new EloRatingEngine(32);
+
+        for (int match = 0; match < 200_000; match++) {
+            int a = match % players;
+            int b = (match * 7 + 1) % players;
+            if (a != b) {
+                engine.apply(table, a, b, a < b ? RatingEngine.WIN : RatingEngine.LOSS);
+            }
+        }
+
+        double total = 0;
+        for (int i = 0; i < players; i++) {
+            total += table.rating(i);
+        }
+        assertEquals(1000.0 * players, total, 1e-3);
+        assertTrue(table.rating(0) > table.rating(players - 1));
+    }
+}
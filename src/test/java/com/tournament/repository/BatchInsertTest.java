@@ -0,0 +1,143 @@
+package com.tournament.repository;
+
+import com.tournament.model.Game;
+import com.tournament.model.Match;
+import com.tournament.model.Participation;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.enums.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bulk creation has to cost one round trip per JDBC batch, not one per row: with
+ * sequence ids, inserting N rows prepares N / 50 insert batches plus N / 50 sequence
+ * calls for the id blocks. With identity ids this was N statements. The seed size can be
+ * raised with -Dtournament.benchmark.seed-rows; every row a test creates is deleted after it.
+ */
+@SpringBootTest
+class BatchInsertTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int ROWS = 1_000;
+    private static final int SEED_ROWS = Integer.getInteger("tournament.benchmark.seed-rows", 5_000);
+    private static final int SEED_CHUNK = 1_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final List<Match> createdMatches = new ArrayList<>();
+    private final List<Participation> createdParticipations = new ArrayList<>();
+    private final List<Tournament> createdTournaments = new ArrayList<>();
+    private final List<Game> createdGames = new ArrayList<>();
+    private final List<User> createdUsers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void deleteCreatedRows() {
+        matchRepository.deleteAllByIdInBatch(createdMatches.stream().map(Match::getId).toList());
+        participationRepository.deleteAllByIdInBatch(createdParticipations.stream().map(Participation::getId).toList());
+        tournamentRepository.deleteAllByIdInBatch(createdTournaments.stream().map(Tournament::getId).toList());
+        gameRepository.deleteAllByIdInBatch(createdGames.stream().map(Game::getId).toList());
+        List<Long> userIds = createdUsers.stream().map(User::getId).toList();
+        for (int from = 0; from < userIds.size(); from += SEED_CHUNK) {
+            userRepository.deleteAllByIdInBatch(userIds.subList(from, Math.min(userIds.size(), from + SEED_CHUNK)));
+        }
+    }
+
+    @Test
+    void participationsAndMatchesInsertInBatches() {
+        String suffix = Long.toString(System.nanoTime());
+        User organizer = userRepository.save(new User("batchorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        createdUsers.add(organizer);
+        Game game = gameRepository.save(new Game("Batch Game " + suffix, "Strategy", Platform.PC));
+        createdGames.add(game);
+        Tournament tournament = tournamentRepository.save(new Tournament("Batch Cup " + suffix, 2 * ROWS, game, organizer));
+        createdTournaments.add(tournament);
+        List<User> players = new ArrayList<>();
+        for (int i = 0; i < 2 * ROWS; i++) {
+            players.add(new User("batchp" + i + "x" + suffix, "secret", UserRole.PLAYER, 0));
+        }
+        List<User> savedPlayers = assertBatched("users", players.size(), () -> userRepository.saveAll(players));
+        createdUsers.addAll(savedPlayers);
+
+        List<Participation> participations = new ArrayList<>();
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            participations.add(new Participation(tournament, savedPlayers.get(i), LocalDateTime.now(), 0));
+            matches.add(new Match(tournament, 1, savedPlayers.get(2 * i), savedPlayers.get(2 * i + 1), MatchResult.PENDING));
+        }
+        createdParticipations.addAll(assertBatched("participations", ROWS, () -> participationRepository.saveAll(participations)));
+        createdMatches.addAll(assertBatched("matches", ROWS, () -> matchRepository.saveAll(matches)));
+
+        assertEquals(ROWS, participationRepository.findSummariesByTournamentPublicId(tournament.getPublicId()).size());
+        assertEquals(ROWS, matchRepository.findByTournament(tournament).size());
+    }
+
+    @Test
+    void largeSeedScalesWithBatchesNotRows() {
+        String suffix = Long.toString(System.nanoTime());
+        long statements = 0;
+        for (int offset = 0; offset < SEED_ROWS; offset += SEED_CHUNK) {
+            List<User> users = new ArrayList<>();
+            for (int i = offset; i < Math.min(SEED_ROWS, offset + SEED_CHUNK); i++) {
+                users.add(new User("seed" + i + "x" + suffix, "secret", UserRole.PLAYER, i % 2_000));
+            }
+            statistics.clear();
+            createdUsers.addAll(userRepository.saveAll(users));
+            statements += statistics.getPrepareStatementCount();
+        }
+
+        assertTrue(statements <= 2L * SEED_ROWS / BATCH_SIZE + SEED_ROWS / SEED_CHUNK + 2,
+                "expected one statement per batch, got " + statements + " for " + SEED_ROWS + " rows");
+    }
+
+    private <T> T assertBatched(String table, int rows, Supplier<T> insert) {
+        statistics.clear();
+        T result = insert.get();
+        long statements = statistics.getPrepareStatementCount();
+
+        // One insert batch and one id block per 50 rows, plus at most one block left over
+        // from an earlier transaction running out.
+        assertTrue(statements <= 2L * rows / BATCH_SIZE + 2,
+                "expected one statement per batch, got " + statements + " for " + rows + " " + table);
+        return result;
+    }
+}
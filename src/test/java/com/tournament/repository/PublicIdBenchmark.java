@@ -0,0 +1,125 @@
+package com.tournament.repository;
+
+import com.tournament.support.PublicIds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Public id lookups and inserts on a users table of a million rows, in the old layout
+ * ({@code varchar}, random version 4 ids) and the new one ({@code uuid}, time-ordered
+ * version 7 ids). Each layout gets its own in-memory H2 database.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.tournament.repository.PublicIdBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class PublicIdBenchmark {
+
+    private static final int SEED_BATCH = 1_000;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"varchar", "uuid"})
+    private String layout;
+
+    private Connection connection;
+    private PreparedStatement lookup;
+    private PreparedStatement insert;
+    private String[] ids;
+    private long nextUsername;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:public_id_" + layout + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table users (id bigint generated by default as identity primary key, "
+                    + "public_id " + ("uuid".equals(layout) ? "uuid" : "varchar(255)") + " not null, "
+                    + "username varchar(255) not null, "
+                    + "constraint uk_users_public_id unique (public_id))");
+        }
+        insert = connection.prepareStatement("insert into users (public_id, username) values (?, ?)");
+        lookup = connection.prepareStatement("select id, username from users where public_id = ?");
+
+        ids = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            ids[i] = newId();
+            bind(insert, ids[i]);
+            insert.setString(2, "user" + nextUsername++);
+            insert.addBatch();
+            if ((i + 1) % SEED_BATCH == 0) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long lookup() throws SQLException {
+        bind(lookup, ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+        try (ResultSet result = lookup.executeQuery()) {
+            return result.next() ? result.getLong(1) : -1;
+        }
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        bind(insert, newId());
+        insert.setString(2, "user" + nextUsername++);
+        return insert.executeUpdate();
+    }
+
+    private String newId() {
+        return "uuid".equals(layout) ? PublicIds.next() : UUID.randomUUID().toString();
+    }
+
+    private void bind(PreparedStatement statement, String id) throws SQLException {
+        if ("uuid".equals(layout)) {
+            statement.setObject(1, PublicIds.toUuid(id));
+        } else {
+            statement.setString(1, id);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PublicIdBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,53 @@
+package com.tournament.repository;
+
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Public ids are stored as UUID columns but keep their string form everywhere above
+ * the database, including lookups by a malformed id, which still simply find nothing.
+ */
+@SpringBootTest
+class PublicIdStorageTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void publicIdColumnsAreUuids() {
+        List<String> types = jdbcTemplate.queryForList("select data_type from information_schema.columns "
+                + "where column_name = 'PUBLIC_ID' and table_schema = 'PUBLIC'", String.class);
+
+        assertEquals(5, types.size());
+        assertTrue(types.stream().allMatch("UUID"::equals), () -> "public id column types: " + types);
+    }
+
+    @Test
+    void lookupsTakeAndReturnStrings() {
+        User user = userRepository.save(new User("uuiduser" + System.nanoTime(), "secret", UserRole.PLAYER, 0));
+
+        assertEquals(7, UUID.fromString(user.getPublicId()).version());
+        assertEquals(user.getId(), userRepository.findByPublicId(user.getPublicId()).orElseThrow().getId());
+        assertEquals(user.getId(), userRepository.findByPublicId(user.getPublicId().toUpperCase()).orElseThrow().getId());
+        assertTrue(userRepository.existsByPublicId(user.getPublicId()));
+    }
+
+    @Test
+    void malformedIdsMatchNothing() {
+        assertTrue(userRepository.findByPublicId("user123").isEmpty());
+        assertFalse(userRepository.existsByPublicId(""));
+        assertTrue(userRepository.findByPublicId("00000000-0000-0000-0000-000000000000").isEmpty());
+    }
+}
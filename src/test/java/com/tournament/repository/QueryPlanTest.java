@@ -0,0 +1,156 @@
+package com.tournament.repository;
+
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.support.PublicIds;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Calls each repository lookup, captures the SQL Hibernate generates for it with a
+ * {@link StatementInspector}, and fails if EXPLAIN shows H2 planning a full table scan for
+ * any table involved, i.e. if a lookup lost its supporting index in the migrations or its
+ * query changed shape. Substring searches (searchGamesByTitle) and the open-slot filter
+ * (current_players &lt; max_players) cannot use a B-tree index and are not listed.
+ *
+ * <p>Parameters are explained unbound: H2 picks the plan when the statement is prepared,
+ * before any value is known. Cacheable queries are called with values no earlier test
+ * used, so they reach the database.
+ */
+@SpringBootTest(properties = {
+        "tournament.logging.sql-sample-rate=0",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.tournament.repository.QueryPlanTest$Recorder"
+})
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void matchLookupsUseIndexes() {
+        Tournament tournament = anyTournament();
+        User player = anyUser();
+        assertIndexed(() -> matchRepository.findByPublicId(PublicIds.next()));
+        assertIndexed(() -> matchRepository.findByTournament(tournament));
+        assertIndexed(() -> matchRepository.findByTournamentAndRound(tournament, 1));
+        assertIndexed(() -> matchRepository.findByTournamentOrderByRoundAsc(tournament));
+        assertIndexed(() -> matchRepository.findWithDetailsByPlayer1(player));
+        assertIndexed(() -> matchRepository.findWithDetailsByPlayer2(player));
+        assertIndexed(() -> matchRepository.findWithDetailsByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 51)));
+    }
+
+    @Test
+    void participationLookupsUseIndexes() {
+        Tournament tournament = anyTournament();
+        User player = anyUser();
+        assertIndexed(() -> participationRepository.findByPublicId(PublicIds.next()));
+        assertIndexed(() -> participationRepository.findByTournamentAndPlayer(tournament, player));
+        assertIndexed(() -> participationRepository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 51)));
+        assertIndexed(() -> participationRepository.findSummariesByTournamentPublicId(PublicIds.next()));
+        assertIndexed(() -> participationRepository.findLeaderboardSummaries(PublicIds.next()));
+        assertIndexed(() -> participationRepository.findSummariesByPlayerPublicId(PublicIds.next()));
+    }
+
+    @Test
+    void tournamentLookupsUseIndexes() {
+        assertIndexed(() -> tournamentRepository.findByPublicId(PublicIds.next()));
+        assertIndexed(() -> tournamentRepository.findByName("x"));
+        assertIndexed(() -> tournamentRepository.findByGamePublicId(PublicIds.next()));
+        assertIndexed(() -> tournamentRepository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 51)));
+        assertIndexed(() -> tournamentRepository.findSummariesByOrganizerPublicId(PublicIds.next()));
+    }
+
+    @Test
+    void userLookupsUseIndexes() {
+        assertIndexed(() -> userRepository.findByPublicId(PublicIds.next()));
+        assertIndexed(() -> userRepository.findByUsername("x"));
+        assertIndexed(() -> userRepository.findSummariesByRole(UserRole.PLAYER));
+        assertIndexed(() -> userRepository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 51)));
+    }
+
+    @Test
+    void gameLookupsUseIndexes() {
+        String unused = Long.toString(System.nanoTime());
+        assertIndexed(() -> gameRepository.findByPublicId(PublicIds.next()));
+        assertIndexed(() -> gameRepository.findByTitle("Title " + unused));
+        assertIndexed(() -> gameRepository.existsByTitleAndPlatform("x", Platform.PC));
+        assertIndexed(() -> gameRepository.findSummariesByGenre("Genre " + unused));
+        assertIndexed(() -> gameRepository.findSummariesByPlatform(Platform.VR));
+        assertIndexed(() -> gameRepository.findSummariesByIdGreaterThan(0L, PageRequest.of(0, 51)));
+    }
+
+    private Tournament anyTournament() {
+        return tournamentRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+    }
+
+    private User anyUser() {
+        return userRepository.findAll(PageRequest.of(0, 1)).getContent().get(0);
+    }
+
+    private void assertIndexed(Runnable lookup) {
+        List<String> statements = Recorder.record(lookup);
+        assertFalse(statements.isEmpty(), "lookup issued no SQL");
+        for (String sql : statements) {
+            // Prepared with no parameters bound; EXPLAIN only plans the statement.
+            String plan = jdbcTemplate.query("explain " + sql, statement -> { },
+                    result -> result.next() ? result.getString(1) : "");
+            assertFalse(plan.contains("tableScan"), () -> "full table scan for: " + sql + "\n" + plan);
+        }
+    }
+
+    /**
+     * Collects the statements Hibernate prepares on the calling thread while
+     * {@link #record} runs; every other statement passes through untouched.
+     */
+    public static class Recorder implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+        static List<String> record(Runnable work) {
+            List<String> recorded = new ArrayList<>();
+            statements.set(recorded);
+            try {
+                work.run();
+            } finally {
+                statements.remove();
+            }
+            return recorded;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = statements.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.tournament.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+
+    @Test
+    void verifyReturnsClaimsFromASingleParse() {
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+
+        JwtClaims claims = jwtUtil.verify(token);
+
+        assertEquals("player1", claims.subject());
+        assertEquals("ROLE_PLAYER", claims.role());
+        assertTrue(claims.expiresAt().isAfter(Instant.now().plus(9, ChronoUnit.HOURS)));
+        assertFalse(claims.isExpired(Instant.now()));
+    }
+
+    @Test
+    void verifyRejectsExpiredTokens() {
+        String token = jwtUtil.generateToken("player1", "PLAYER", -1_000);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    @Test
+    void verifyRejectsTamperedTokens() {
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+        String[] parts = token.split("\\.");
+        String forged = jwtUtil.generateToken("admin", "ADMIN").split("\\.")[1];
+
+        assertThrows(JwtException.class, () -> jwtUtil.verify(parts[0] + "." + forged + "." + parts[2]));
+    }
+
+    @Test
+    void validateTokenChecksTheSubject() {
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+
+        assertTrue(jwtUtil.validateToken(token, "player1"));
+        assertFalse(jwtUtil.validateToken(token, "player2"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.tournament.security;
+
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PasswordUpgradeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void newHashesRecordTheirAlgorithm() {
+        String hash = passwordEncoder.encode("password123");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$10$"), hash);
+        assertTrue(passwordEncoder.matches("password123", hash));
+    }
+
+    @Test
+    void legacyHashIsUpgradedOnSuccessfulLogin() throws Exception {
+        String username = "legacyuser" + System.nanoTime();
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password123");
+        userRepository.save(new User(username, legacyHash, UserRole.PLAYER, 0));
+
+        login(username, "wrongpassword").andExpect(status().is4xxClientError());
+        assertEquals(legacyHash, userRepository.findByUsername(username).orElseThrow().getPassword());
+
+        login(username, "password123").andExpect(status().isOk());
+        String upgraded = userRepository.findByUsername(username).orElseThrow().getPassword();
+        assertTrue(upgraded.startsWith("{bcrypt}$2a$10$"), upgraded);
+
+        login(username, "password123").andExpect(status().isOk());
+        assertEquals(upgraded, userRepository.findByUsername(username).orElseThrow().getPassword());
+    }
+
+    private ResultActions login(String username, String password) throws Exception {
+        String json = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+    }
+}
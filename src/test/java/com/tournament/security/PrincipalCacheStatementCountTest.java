@@ -0,0 +1,96 @@
+package com.tournament.security;
+
+import com.tournament.dto.UserCreateDto;
+import com.tournament.dto.UserDto;
+import com.tournament.model.enums.UserRole;
+import com.tournament.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Authenticated requests against an endpoint that is itself served from memory, so the
+ * only SQL left is whatever authentication issues. Cold requests clear the principal
+ * cache first, which is the per-request user lookup the filter used to do; warm requests
+ * must not touch the database at all. JwtAuthenticationFilterBenchmark measures the warm
+ * path's throughput.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PrincipalCacheStatementCountTest {
+
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void warmRequestsAuthenticateWithoutSql() throws Exception {
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+        perform("/api/users/rankings/top", token, 200);
+
+        run(token, true);
+        long coldStatements = statistics.getPrepareStatementCount();
+        run(token, false);
+        long warmStatements = statistics.getPrepareStatementCount();
+
+        assertTrue(coldStatements >= REQUESTS);
+        assertEquals(0, warmStatements);
+    }
+
+    @Test
+    void roleChangesApplyToTheNextRequest() throws Exception {
+        String username = "cachedplayer" + System.nanoTime();
+        UserDto user = userService.createUser(new UserCreateDto(username, "password123", UserRole.PLAYER, 0));
+        String token = jwtUtil.generateToken(username, "PLAYER");
+
+        perform("/api/users/role/ADMIN", token, 403);
+        userService.updateUser(user.getId(), new UserCreateDto(null, null, UserRole.ADMIN, null));
+        perform("/api/users/role/ADMIN", token, 200);
+    }
+
+    private void run(String token, boolean cold) throws Exception {
+        statistics.clear();
+        for (int i = 0; i < REQUESTS; i++) {
+            if (cold) {
+                principalCache.invalidateAll();
+            }
+            perform("/api/users/rankings/top", token, 200);
+        }
+    }
+
+    private void perform(String path, String token, int expectedStatus) throws Exception {
+        mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
+                .andExpect(status().is(expectedStatus));
+    }
+}
@@ -0,0 +1,114 @@
+package com.tournament.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, UserDetails> loader = username -> {
+        loads.incrementAndGet();
+        return principal(username, "PLAYER");
+    };
+
+    @Test
+    void servesWarmUsersWithoutLoading() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, now::get);
+
+        UserDetails first = cache.get("alice", loader);
+        UserDetails second = cache.get("alice", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void reloadsOnceTheTtlHasPassed() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, now::get);
+        cache.get("alice", loader);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        cache.get("alice", loader);
+        assertEquals(1, loads.get());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.get("alice", loader);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidationForcesAReload() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, now::get);
+        cache.get("alice", loader);
+
+        cache.invalidate("alice");
+        UserDetails reloaded = cache.get("alice", username -> principal(username, "ORGANIZER"));
+
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_ORGANIZER")), List.copyOf(reloaded.getAuthorities()));
+    }
+
+    @Test
+    void loadRacingAnInvalidationIsNotCached() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, now::get);
+
+        cache.get("alice", username -> {
+            cache.invalidate(username);
+            return principal(username, "PLAYER");
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void unknownUsersAreNotCached() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, now::get);
+
+        assertThrows(UsernameNotFoundException.class, () -> cache.get("ghost", username -> {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void staysWithinMaxSize() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, now::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.get("user" + i, loader);
+            assertTrue(cache.size() <= 100);
+        }
+        cache.get("user999", loader);
+        assertEquals(1_000, loads.get());
+    }
+
+    @Test
+    void evictsExpiredEntries() {
+        PrincipalCache cache = new PrincipalCache(60_000, 100, now::get);
+        cache.get("alice", loader);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        cache.get("bob", loader);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        cache.evictExpired();
+
+        assertEquals(1, cache.size());
+    }
+
+    private static UserDetails principal(String username, String role) {
+        return new User(username, "secret", List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+    }
+}
@@ -0,0 +1,107 @@
+package com.tournament.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final MutableClock clock = new MutableClock(Instant.now());
+
+    @Test
+    void repeatedTokensAreServedFromTheCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, 100, clock);
+        String token = jwtUtil.generateToken("player1", "PLAYER");
+
+        JwtClaims first = cache.verify(token);
+        JwtClaims second = cache.verify(token);
+
+        assertSame(first, second);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    void entriesAreNotServedPastTheTokenExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, 100, clock);
+        String token = jwtUtil.generateToken("player1", "PLAYER", 60_000);
+        cache.verify(token);
+
+        clock.advance(Duration.ofSeconds(61));
+        cache.verify(token);
+
+        assertEquals(0, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expiredAndForgedTokensAreRejectedAndNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, 100, clock);
+        String[] player = jwtUtil.generateToken("player1", "PLAYER").split("\\.");
+        String[] admin = jwtUtil.generateToken("admin", "ADMIN").split("\\.");
+        String forged = admin[0] + "." + admin[1] + "." + player[2];
+
+        assertThrows(ExpiredJwtException.class, () -> cache.verify(jwtUtil.generateToken("player1", "PLAYER", -1_000)));
+        assertThrows(JwtException.class, () -> cache.verify(forged));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void staysWithinMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, 20, clock);
+
+        for (int i = 0; i < 200; i++) {
+            cache.verify(jwtUtil.generateToken("player" + i, "PLAYER"));
+            assertTrue(cache.size() <= 20);
+        }
+    }
+
+    @Test
+    void evictsExpiredEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, 100, clock);
+        cache.verify(jwtUtil.generateToken("player1", "PLAYER", 60_000));
+        cache.verify(jwtUtil.generateToken("player2", "PLAYER"));
+
+        clock.advance(Duration.ofMinutes(2));
+        cache.evictExpired();
+
+        assertEquals(1, cache.size());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.tournament.service;
+
+import com.tournament.dto.MatchDto;
+import com.tournament.model.Game;
+import com.tournament.model.Participation;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.enums.SeedingStrategy;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.ParticipationRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Rounds are advanced by hand here; RoundAdvancementTest covers the automatic path.
+@SpringBootTest(properties = "tournament.bracket.auto-advance=false")
+class BracketServiceTest {
+
+    @Autowired
+    private BracketService bracketService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void singleEliminationSeedsByRankingAndAdvancesRoundByRound() {
+        List<String> players = new ArrayList<>();
+        Tournament tournament = createTournament(6, players);
+
+        List<MatchDto> firstRound = bracketService.generateBracket(
+                tournament.getPublicId(), BracketFormat.SINGLE_ELIMINATION, SeedingStrategy.RANKING);
+
+        // Seeds 1 and 2 have byes; 3 meets 6 and 4 meets 5 (1-based).
+        assertEquals(2, firstRound.size());
+        assertEquals(Set.of(Set.of(players.get(3), players.get(4)), Set.of(players.get(2), players.get(5))),
+                firstRound.stream().map(this::usernames).collect(Collectors.toSet()));
+        assertEquals(BracketFormat.SINGLE_ELIMINATION, firstRound.get(0).getTournament().getFormat());
+
+        RuntimeException incomplete = assertThrows(RuntimeException.class,
+                () -> bracketService.generateNextRound(tournament.getPublicId()));
+        assertEquals("Round 1 is not complete", incomplete.getMessage());
+
+        for (MatchDto match : firstRound) {
+            matchService.updateMatchResult(match.getId(), MatchResult.PLAYER1_WIN);
+        }
+        List<MatchDto> semiFinals = bracketService.generateNextRound(tournament.getPublicId());
+
+        assertEquals(2, semiFinals.size());
+        assertTrue(semiFinals.stream().allMatch(match -> match.getRound() == 2));
+        Set<String> semiFinalists = semiFinals.stream()
+                .flatMap(match -> usernames(match).stream())
+                .collect(Collectors.toSet());
+        assertTrue(semiFinalists.containsAll(List.of(players.get(0), players.get(1))));
+
+        for (MatchDto match : semiFinals) {
+            matchService.updateMatchResult(match.getId(), MatchResult.PLAYER1_WIN);
+        }
+        List<MatchDto> finals = bracketService.generateNextRound(tournament.getPublicId());
+        assertEquals(1, finals.size());
+
+        matchService.updateMatchResult(finals.get(0).getId(), MatchResult.PLAYER2_WIN);
+        assertTrue(bracketService.generateNextRound(tournament.getPublicId()).isEmpty());
+    }
+
+    @Test
+    void bracketCanOnlyBeGeneratedOnce() {
+        Tournament tournament = createTournament(4, new ArrayList<>());
+        bracketService.generateBracket(tournament.getPublicId(), BracketFormat.ROUND_ROBIN, SeedingStrategy.SCORE);
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> bracketService.generateBracket(tournament.getPublicId(), BracketFormat.SWISS, SeedingStrategy.SCORE));
+        assertEquals("Tournament already has matches: " + tournament.getPublicId(), ex.getMessage());
+    }
+
+    @Test
+    void bracketNeedsTwoParticipants() {
+        Tournament tournament = createTournament(1, new ArrayList<>());
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> bracketService.generateBracket(tournament.getPublicId(), BracketFormat.SWISS, null));
+        assertEquals("At least 2 participants are required to generate a bracket", ex.getMessage());
+    }
+
+    @Test
+    void formatAndSeedingAreParsedByName() {
+        Tournament tournament = createTournament(2, new ArrayList<>());
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> bracketService.generateBracket(tournament.getPublicId(), "KNOCKOUT", "RANKING"));
+        assertEquals("Unknown bracket format: KNOCKOUT", ex.getMessage());
+
+        assertEquals(1, bracketService.generateBracket(tournament.getPublicId(), "swiss", "score").size());
+        assertEquals(BracketFormat.SWISS,
+                tournamentRepository.findByPublicId(tournament.getPublicId()).orElseThrow().getFormat());
+    }
+
+    private Set<String> usernames(MatchDto match) {
+        return Set.of(match.getPlayer1().getUsername(), match.getPlayer2().getUsername());
+    }
+
+    // Registers players with strictly decreasing rankings, so list order is seed order.
+    private Tournament createTournament(int entrants, List<String> playerUsernames) {
+        String suffix = Long.toString(System.nanoTime());
+        User organizer = userRepository.save(new User("brackorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Bracket Game " + suffix, "Strategy", Platform.PC));
+        Tournament tournament = tournamentRepository.save(new Tournament("Bracket Cup " + suffix, 64, game, organizer));
+        for (int i = 0; i < entrants; i++) {
+            User player = userRepository.save(new User("brackp" + i + "x" + suffix, "secret", UserRole.PLAYER, 5000 - i * 100));
+            participationRepository.save(new Participation(tournament, player, null, 0));
+            playerUsernames.add(player.getUsername());
+        }
+        return tournament;
+    }
+}
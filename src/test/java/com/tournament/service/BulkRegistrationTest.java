@@ -0,0 +1,117 @@
+package com.tournament.service;
+
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.ParticipantEntryDto;
+import com.tournament.model.Game;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.BulkItemStatus;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.ParticipationRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Onboarding an open qualifier in one request. The import has to cost a fixed number of
+ * lookups plus one round trip per JDBC batch, never one per row.
+ */
+@SpringBootTest
+class BulkRegistrationTest {
+
+    private static final int PLAYERS = 5_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void csvImportRegistersFiveThousandPlayers() {
+        Tournament tournament = createTournament(PLAYERS);
+        StringBuilder csv = new StringBuilder("username,score\n");
+        for (String username : createPlayers(PLAYERS)) {
+            csv.append(username).append(",0\n");
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<BulkItemResultDto> statuses = participationService.importParticipants(
+                tournament.getPublicId(), new BufferedReader(new StringReader(csv.toString())));
+        long statements = statistics.getPrepareStatementCount();
+
+        // One insert batch per 50 rows, plus the lookups, the counter update and id blocks.
+        assertTrue(statements <= PLAYERS / BATCH_SIZE + 20, "expected batched inserts, got " + statements + " statements");
+        assertEquals(PLAYERS, statuses.size());
+        assertTrue(statuses.stream().allMatch(status -> status.getStatus() == BulkItemStatus.CREATED));
+        Tournament reloaded = tournamentRepository.findByPublicId(tournament.getPublicId()).orElseThrow();
+        assertEquals(PLAYERS, reloaded.getCurrentPlayers());
+        assertEquals(PLAYERS, participationRepository.findSummariesByTournamentPublicId(tournament.getPublicId()).size());
+    }
+
+    @Test
+    void importingTheSameListTwiceChangesNothing() {
+        Tournament tournament = createTournament(8);
+        List<ParticipantEntryDto> entries = new ArrayList<>();
+        for (String username : createPlayers(10)) {
+            entries.add(new ParticipantEntryDto(username, null));
+        }
+
+        List<BulkItemResultDto> first = participationService.registerParticipants(tournament.getPublicId(), entries);
+        List<BulkItemResultDto> second = participationService.registerParticipants(tournament.getPublicId(), entries);
+
+        assertEquals(8, first.stream().filter(status -> status.getStatus() == BulkItemStatus.CREATED).count());
+        assertEquals(2, first.stream().filter(status -> status.getStatus() == BulkItemStatus.REJECTED).count());
+        assertEquals(8, second.stream().filter(status -> status.getStatus() == BulkItemStatus.UNCHANGED).count());
+        assertEquals(8, tournamentRepository.findByPublicId(tournament.getPublicId()).orElseThrow().getCurrentPlayers());
+    }
+
+    private Tournament createTournament(int capacity) {
+        String suffix = Long.toString(System.nanoTime());
+        User organizer = userRepository.save(new User("bulkorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Bulk Game " + suffix, "Strategy", Platform.PC));
+        return tournamentRepository.save(new Tournament("Bulk Cup " + suffix, capacity, game, organizer));
+    }
+
+    private List<String> createPlayers(int count) {
+        String suffix = Long.toString(System.nanoTime());
+        List<User> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new User("bulkp" + i + "x" + suffix, "secret", UserRole.PLAYER, 0));
+        }
+        List<String> usernames = new ArrayList<>();
+        for (User player : userRepository.saveAll(players)) {
+            usernames.add(player.getUsername());
+        }
+        return usernames;
+    }
+}
@@ -5,6 +5,7 @@ import com.tournament.dto.GameDto;
 import com.tournament.model.Game;
 import com.tournament.model.Platform;
 import com.tournament.repository.GameRepository;
+import com.tournament.support.PublicIds;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -32,13 +33,13 @@ public class GameServiceClassicTest {
     void testGetGameByIdClassic() {
 
         GameDto mockDto = new GameDto();
-        mockDto.setId("game123");
+        mockDto.setId(PublicIds.next());
         mockDto.setTitle("Chess");
         mockDto.setPlatform(Platform.PC);
         mockDto.setGenre("Strategy");
         gameService.createGame(mockDto);
 
-        GameDto result = gameService.getGameById("game123");
+        GameDto result = gameService.getGameById(mockDto.getId());
 
 
         assertNotNull(result);
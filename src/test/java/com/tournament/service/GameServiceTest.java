@@ -1,15 +1,21 @@
 package com.tournament.service;
 
 import com.tournament.dto.GameDto;
+import com.tournament.mapper.CursorMapper;
 import com.tournament.model.Game;
 import com.tournament.model.Platform;
+import com.tournament.model.projection.GameSummary;
+import com.tournament.ranking.TournamentLeaderboardCache;
 import com.tournament.repository.GameRepository;
 import com.tournament.mapper.GameMapper;
+import com.tournament.support.CollectionVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +32,15 @@ class GameServiceTest {
     @Mock
     private GameMapper gameMapper;
 
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
+
+    @Mock
+    private TournamentLeaderboardCache leaderboardCache;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private GameService gameService;
 
@@ -37,22 +52,22 @@ class GameServiceTest {
     @Test
     void testGetAllGames() {
         
-        Game mockGame = new Game();
-        mockGame.setTitle("Chess");
-        when(gameRepository.findAll()).thenReturn(Collections.singletonList(mockGame));
+        GameSummary mockGame = mock(GameSummary.class);
+        when(mockGame.getId()).thenReturn(1L);
+        when(gameRepository.findSummariesByIdGreaterThan(eq(0L), any(Pageable.class))).thenReturn(Collections.singletonList(mockGame));
 
         GameDto mockGameDto = new GameDto();
         mockGameDto.setTitle("Chess");
         when(gameMapper.toDto(mockGame)).thenReturn(mockGameDto);
 
         
-        List<GameDto> result = gameService.getAllGames();
+        List<GameDto> result = gameService.getAllGames(null, null).getItems();
 
         
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("Chess", result.get(0).getTitle());
-        verify(gameRepository, times(1)).findAll();
+        verify(gameRepository, times(1)).findSummariesByIdGreaterThan(eq(0L), any(Pageable.class));
     }
 
     @Test
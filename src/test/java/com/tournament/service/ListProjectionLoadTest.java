@@ -0,0 +1,132 @@
+package com.tournament.service;
+
+import com.tournament.dto.ParticipationDto;
+import com.tournament.dto.TournamentDto;
+import com.tournament.model.Game;
+import com.tournament.model.Participation;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.ParticipationRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The list endpoints read projections rather than entities; any list path that falls back
+ * to hydrating managed entities shows up here as a non-zero entity load count.
+ */
+@SpringBootTest
+class ListProjectionLoadTest {
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void listEndpointsLoadNoEntities() {
+        Tournament tournament = createTournamentWithPlayers(4);
+        String organizerId = tournament.getOrganizer().getPublicId();
+
+        statistics.clear();
+        participationService.getAllParticipations(null, null);
+        participationService.getParticipationsByTournament(tournament.getPublicId());
+        participationService.getTournamentLeaderboard(tournament.getPublicId());
+        tournamentService.getAllTournaments(null, null);
+        tournamentService.getTournamentsByOrganizer(organizerId);
+        tournamentService.getAvailableTournaments();
+        userService.getAllUsers(null, null);
+        userService.getUsersByRole(UserRole.PLAYER);
+        userService.getTopRankedUsers(10);
+        gameService.getAllGames(null, null);
+        gameService.getGamesByPlatform(Platform.PC);
+
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void leaderboardProjectionCarriesFullDetails() {
+        Tournament tournament = createTournamentWithPlayers(3);
+
+        List<ParticipationDto> leaderboard = participationService.getTournamentLeaderboard(tournament.getPublicId());
+
+        assertEquals(3, leaderboard.size());
+        assertEquals(30, leaderboard.get(0).getScore());
+        assertEquals(10, leaderboard.get(2).getScore());
+        for (ParticipationDto entry : leaderboard) {
+            TournamentDto entryTournament = entry.getTournament();
+            assertEquals(tournament.getPublicId(), entryTournament.getId());
+            assertEquals(tournament.getName(), entryTournament.getName());
+            assertEquals(tournament.getGame().getTitle(), entryTournament.getGame().getTitle());
+            assertEquals(Platform.PC, entryTournament.getGame().getPlatform());
+            assertEquals(tournament.getOrganizer().getUsername(), entryTournament.getOrganizer().getUsername());
+            assertEquals(UserRole.PLAYER, entry.getPlayer().getRole());
+            assertNotNull(entry.getJoinDate());
+        }
+    }
+
+    @Test
+    void organizerListingStillRejectsUnknownOrganizer() {
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> tournamentService.getTournamentsByOrganizer("missing-organizer"));
+        assertEquals("User not found with id: missing-organizer", ex.getMessage());
+    }
+
+    private Tournament createTournamentWithPlayers(int playerCount) {
+        String suffix = Long.toString(System.nanoTime());
+
+        User organizer = userRepository.save(new User("projorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Projection Game " + suffix, "Strategy", Platform.PC));
+        Tournament tournament = tournamentRepository.save(new Tournament("Projection Cup " + suffix, 64, game, organizer));
+
+        for (int i = 1; i <= playerCount; i++) {
+            User player = userRepository.save(new User("projp" + i + suffix, "secret", UserRole.PLAYER, i));
+            participationRepository.save(new Participation(tournament, player, LocalDateTime.now(), i * 10));
+        }
+        return tournament;
+    }
+}
@@ -0,0 +1,164 @@
+package com.tournament.service;
+
+import com.tournament.bracket.RoundTracker;
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.MatchDto;
+import com.tournament.dto.MatchResultUpdateDto;
+import com.tournament.model.Game;
+import com.tournament.model.Match;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.model.enums.BulkItemStatus;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.MatchRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regression test for the match read path: mapping a match touches its tournament, the
+ * tournament's game and organizer, and both players, so any lazy association left out of
+ * the fetch plan shows up here as statements growing with the number of matches.
+ */
+@SpringBootTest
+class MatchServiceStatementCountTest {
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private RoundTracker roundTracker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void matchesByTournamentLoadInConstantStatements() {
+        String smallTournament = createTournamentWithMatches(3);
+        String largeTournament = createTournamentWithMatches(30);
+
+        long smallCount = countStatements(() -> matchService.getMatchesByTournament(smallTournament));
+        long largeCount = countStatements(() -> matchService.getMatchesByTournament(largeTournament));
+
+        assertEquals(smallCount, largeCount);
+        assertTrue(largeCount <= 2, "expected tournament lookup plus one match query, got " + largeCount);
+    }
+
+    @Test
+    void mappedMatchesCarryFullDetails() {
+        String tournamentId = createTournamentWithMatches(5);
+
+        List<MatchDto> matches = matchService.getMatchesByTournament(tournamentId);
+
+        assertEquals(5, matches.size());
+        for (MatchDto match : matches) {
+            assertNotNull(match.getTournament().getGame().getTitle());
+            assertNotNull(match.getTournament().getOrganizer().getUsername());
+            assertNotNull(match.getPlayer1().getUsername());
+            assertNotNull(match.getPlayer2().getUsername());
+        }
+    }
+
+    @Test
+    void bulkResultsWriteInBatches() {
+        String tournamentId = createTournamentWithMatches(200);
+        List<MatchResultUpdateDto> updates = new ArrayList<>();
+        for (MatchDto match : matchService.getMatchesByTournament(tournamentId)) {
+            updates.add(new MatchResultUpdateDto(match.getId(), MatchResult.PLAYER1_WIN));
+        }
+
+        List<BulkItemResultDto> statuses = new ArrayList<>();
+        long count = countStatements(() -> statuses.addAll(matchService.updateMatchResults(updates)));
+
+        assertEquals(200, statuses.size());
+        assertTrue(statuses.stream().allMatch(status -> status.getStatus() == BulkItemStatus.UPDATED));
+        // One IN query, then 200 match updates and 400 user updates in batches of 50.
+        assertTrue(count <= 20, "expected one query plus batched updates, got " + count);
+        for (MatchDto match : matchService.getMatchesByTournament(tournamentId)) {
+            assertEquals(MatchResult.PLAYER1_WIN, match.getResult());
+            assertTrue(match.getPlayer1().getRanking() > match.getPlayer2().getRanking());
+        }
+    }
+
+    @Test
+    void bulkResultsOnAColdBracketCountRoundsOnce() {
+        String tournamentId = createTournamentWithMatches(8, BracketFormat.SINGLE_ELIMINATION);
+        roundTracker.forget(tournamentId);
+        List<MatchResultUpdateDto> updates = new ArrayList<>();
+        for (MatchDto match : matchService.getMatchesByTournament(tournamentId).subList(0, 5)) {
+            updates.add(new MatchResultUpdateDto(match.getId(), MatchResult.PLAYER1_WIN));
+        }
+
+        long count = countStatements(() -> matchService.updateMatchResults(updates));
+
+        // One IN query, the latest round and its pending count, then the batched updates.
+        assertTrue(count <= 8, "expected the round to be counted once, got " + count);
+        assertEquals(3, roundTracker.pending(tournamentId, 1));
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private String createTournamentWithMatches(int matchCount) {
+        return createTournamentWithMatches(matchCount, null);
+    }
+
+    private String createTournamentWithMatches(int matchCount, BracketFormat format) {
+        String suffix = Long.toString(System.nanoTime());
+
+        User organizer = userRepository.save(new User("stmtorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Statement Game " + suffix, "Strategy", Platform.PC));
+        Tournament bracket = new Tournament("Statement Cup " + suffix, 64, game, organizer);
+        bracket.setFormat(format);
+        Tournament tournament = tournamentRepository.save(bracket);
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < matchCount; i++) {
+            User player1 = userRepository.save(new User("stmtp" + i + "a" + suffix, "secret", UserRole.PLAYER, 0));
+            User player2 = userRepository.save(new User("stmtp" + i + "b" + suffix, "secret", UserRole.PLAYER, 0));
+            int round = format == null ? 1 + i % 3 : 1;
+            matches.add(new Match(tournament, round, player1, player2, MatchResult.PENDING));
+        }
+        matchRepository.saveAll(matches);
+
+        return tournament.getPublicId();
+    }
+}
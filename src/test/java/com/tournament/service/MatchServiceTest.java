@@ -1,24 +1,35 @@
 package com.tournament.service;
 
 import com.tournament.dto.MatchCreateDto;
+import com.tournament.dto.BulkItemResultDto;
 import com.tournament.dto.MatchDto;
+import com.tournament.dto.MatchResultEventDto;
+import com.tournament.dto.MatchResultUpdateDto;
+import com.tournament.events.MatchEventBroadcaster;
+import com.tournament.mapper.CursorMapper;
 import com.tournament.model.Match;
 import com.tournament.model.Tournament;
 import com.tournament.model.User;
+import com.tournament.model.enums.BulkItemStatus;
 import com.tournament.model.enums.MatchResult;
 import com.tournament.repository.MatchRepository;
 import com.tournament.repository.ParticipationRepository;
 import com.tournament.repository.TournamentRepository;
 import com.tournament.repository.UserRepository;
 import com.tournament.mapper.MatchMapper;
+import com.tournament.support.CollectionVersions;
+import com.tournament.support.PublicIds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,9 +49,24 @@ class MatchServiceTest {
     @Mock
     private ParticipationRepository participationRepository;
 
+    @Mock
+    private RatingService ratingService;
+
+    @Mock
+    private RoundAdvancementService roundAdvancementService;
+
+    @Mock
+    private MatchEventBroadcaster matchEventBroadcaster;
+
     @Mock
     private MatchMapper matchMapper;
 
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private MatchService matchService;
 
@@ -54,20 +80,20 @@ class MatchServiceTest {
         
         Match mockMatch = new Match();
         mockMatch.setPublicId("match123");
-        when(matchRepository.findAll()).thenReturn(Collections.singletonList(mockMatch));
+        when(matchRepository.findWithDetailsByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenReturn(Collections.singletonList(mockMatch));
 
         MatchDto mockMatchDto = new MatchDto();
         mockMatchDto.setId("match123");
         when(matchMapper.toDto(mockMatch)).thenReturn(mockMatchDto);
 
         
-        List<MatchDto> result = matchService.getAllMatches();
+        List<MatchDto> result = matchService.getAllMatches(null, null).getItems();
 
         
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("match123", result.get(0).getId());
-        verify(matchRepository, times(1)).findAll();
+        verify(matchRepository, times(1)).findWithDetailsByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class));
     }
 
     @Test
@@ -110,4 +136,84 @@ class MatchServiceTest {
         assertEquals("match123", result.getId());
         verify(matchRepository, times(1)).save(any(Match.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUpdateMatchResultRatesBothPlayersOnce() {
+        Tournament tournament = new Tournament();
+        tournament.setPublicId("tournament1");
+        Match match = new Match();
+        match.setPublicId("match123");
+        match.setTournament(tournament);
+        match.setResult(MatchResult.PENDING);
+        when(matchRepository.findByPublicId("match123")).thenReturn(Optional.of(match));
+        when(matchRepository.save(match)).thenReturn(match);
+        when(matchMapper.toDto(match)).thenReturn(new MatchDto());
+
+        matchService.updateMatchResult("match123", MatchResult.PLAYER1_WIN);
+
+        assertEquals(MatchResult.PLAYER1_WIN, match.getResult());
+        verify(ratingService, times(1)).applyResult(match);
+        verify(roundAdvancementService, times(1))
+                .matchChanged(tournament, null, MatchResult.PENDING, null, MatchResult.PLAYER1_WIN);
+        verify(collectionVersions, times(1)).bump(CollectionVersions.matches("tournament1"));
+    }
+
+    @Test
+    void testUpdateMatchResultPublishesOnlyChangedResults() {
+        Tournament tournament = new Tournament();
+        tournament.setPublicId("tournament1");
+        Match match = new Match();
+        match.setPublicId("match123");
+        match.setTournament(tournament);
+        match.setResult(MatchResult.PENDING);
+        MatchResultEventDto event = new MatchResultEventDto("match123", "tournament1", 1, "p1", "p2", MatchResult.DRAW);
+        when(matchRepository.findByPublicId("match123")).thenReturn(Optional.of(match));
+        when(matchRepository.save(match)).thenReturn(match);
+        when(matchMapper.toResultEvent(match)).thenReturn(event);
+
+        matchService.updateMatchResult("match123", MatchResult.DRAW);
+        matchService.updateMatchResult("match123", MatchResult.DRAW);
+
+        verify(matchEventBroadcaster, times(1)).publish(event);
+    }
+
+    @Test
+    void testSubscribeToResultsFilesAnUppercasedIdUnderTheEventsId() {
+        String tournamentId = PublicIds.next();
+        String uppercased = tournamentId.toUpperCase(Locale.ROOT);
+        when(tournamentRepository.existsByPublicId(uppercased)).thenReturn(true);
+
+        matchService.subscribeToResults(uppercased);
+
+        // Result events carry the id as read from the database, which is the canonical form.
+        verify(matchEventBroadcaster, times(1)).subscribe(tournamentId);
+    }
+
+    @Test
+    void testUpdateMatchResultsReportsEachItem() {
+        Tournament tournament = new Tournament();
+        tournament.setPublicId("tournament1");
+        Match pending = new Match();
+        pending.setPublicId("m1");
+        pending.setTournament(tournament);
+        pending.setResult(MatchResult.PENDING);
+        Match decided = new Match();
+        decided.setPublicId("m2");
+        decided.setTournament(tournament);
+        decided.setResult(MatchResult.DRAW);
+        when(matchRepository.findWithPlayersByPublicIdIn(anyCollection())).thenReturn(List.of(pending, decided));
+
+        List<BulkItemResultDto> statuses = matchService.updateMatchResults(List.of(
+                new MatchResultUpdateDto("m1", MatchResult.PLAYER2_WIN),
+                new MatchResultUpdateDto("m2", MatchResult.DRAW),
+                new MatchResultUpdateDto("missing", MatchResult.DRAW),
+                new MatchResultUpdateDto("m1", MatchResult.PLAYER1_WIN)));
+
+        assertEquals(List.of(BulkItemStatus.UPDATED, BulkItemStatus.UNCHANGED, BulkItemStatus.NOT_FOUND, BulkItemStatus.REJECTED),
+                statuses.stream().map(BulkItemResultDto::getStatus).toList());
+        assertEquals(MatchResult.PLAYER2_WIN, pending.getResult());
+        verify(matchRepository, times(1)).findWithPlayersByPublicIdIn(anyCollection());
+        verify(matchRepository, never()).save(any(Match.class));
+        verify(ratingService, times(1)).applyResults(List.of(pending));
+    }
+}
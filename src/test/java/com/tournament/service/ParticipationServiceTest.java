@@ -1,24 +1,38 @@
 package com.tournament.service;
 
+import com.tournament.dto.BulkItemResultDto;
+import com.tournament.dto.ParticipantEntryDto;
 import com.tournament.dto.ParticipationCreateDto;
 import com.tournament.dto.ParticipationDto;
+import com.tournament.mapper.CursorMapper;
+import com.tournament.mapper.ParticipantCsvMapper;
 import com.tournament.model.Participation;
 import com.tournament.model.Tournament;
 import com.tournament.model.User;
+import com.tournament.model.enums.BulkItemStatus;
 import com.tournament.model.enums.UserRole;
+import com.tournament.model.projection.ParticipationSummary;
+import com.tournament.ranking.TournamentLeaderboardCache;
 import com.tournament.repository.ParticipationRepository;
 import com.tournament.repository.TournamentRepository;
 import com.tournament.repository.UserRepository;
 import com.tournament.mapper.ParticipationMapper;
+import com.tournament.support.CollectionVersions;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Pageable;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,9 +51,24 @@ class ParticipationServiceTest {
     @Mock
     private ParticipationMapper participationMapper;
 
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
+
+    @Spy
+    private ParticipantCsvMapper participantCsvMapper = new ParticipantCsvMapper();
+
     @Mock
     private TournamentService tournamentService;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TournamentLeaderboardCache leaderboardCache;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private ParticipationService participationService;
 
@@ -51,22 +80,22 @@ class ParticipationServiceTest {
     @Test
     void testGetAllParticipations() {
         
-        Participation mockParticipation = new Participation();
-        mockParticipation.setPublicId("participation123");
-        when(participationRepository.findAll()).thenReturn(Collections.singletonList(mockParticipation));
+        ParticipationSummary mockParticipation = mock(ParticipationSummary.class);
+        when(mockParticipation.getId()).thenReturn(1L);
+        when(participationRepository.findSummariesByIdGreaterThan(eq(0L), any(Pageable.class))).thenReturn(Collections.singletonList(mockParticipation));
 
         ParticipationDto mockParticipationDto = new ParticipationDto();
         mockParticipationDto.setId("participation123");
         when(participationMapper.toDto(mockParticipation)).thenReturn(mockParticipationDto);
 
         
-        List<ParticipationDto> result = participationService.getAllParticipations();
+        List<ParticipationDto> result = participationService.getAllParticipations(null, null).getItems();
 
         
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("participation123", result.get(0).getId());
-        verify(participationRepository, times(1)).findAll();
+        verify(participationRepository, times(1)).findSummariesByIdGreaterThan(eq(0L), any(Pageable.class));
     }
 
     @Test
@@ -109,4 +138,53 @@ class ParticipationServiceTest {
         verify(participationRepository, times(1)).save(any(Participation.class));
         verify(tournamentService, times(1)).incrementCurrentPlayers("tournament123"); 
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRegisterParticipantsReportsEachEntry() {
+        User organizer = bulkUser(1L, "organizer", UserRole.ORGANIZER);
+        Tournament tournament = new Tournament("Open Qualifier", 3, null, organizer);
+        tournament.setPublicId("tournament123");
+        tournament.setCurrentPlayers(1);
+        when(tournamentRepository.findByPublicId("tournament123")).thenReturn(Optional.of(tournament));
+        when(userRepository.findByUsernameIn(anyCollection())).thenReturn(List.of(
+                organizer,
+                bulkUser(2L, "registered", UserRole.PLAYER),
+                bulkUser(3L, "alice", UserRole.PLAYER),
+                bulkUser(4L, "bob", UserRole.ADMIN),
+                bulkUser(5L, "carol", UserRole.PLAYER)));
+        when(participationRepository.findPlayerIdsByTournament(tournament)).thenReturn(Set.of(2L));
+
+        List<BulkItemResultDto> statuses = participationService.importParticipants("tournament123",
+                new BufferedReader(new StringReader("username,score\nalice,4\nalice\nghost\norganizer\nregistered\nbob\ncarol\n")));
+
+        assertEquals(List.of(BulkItemStatus.CREATED, BulkItemStatus.REJECTED, BulkItemStatus.NOT_FOUND,
+                        BulkItemStatus.REJECTED, BulkItemStatus.UNCHANGED, BulkItemStatus.CREATED, BulkItemStatus.REJECTED),
+                statuses.stream().map(BulkItemResultDto::getStatus).toList());
+        assertEquals("Tournament is already full", statuses.get(6).getMessage());
+        verify(participationRepository, times(1)).saveAll(argThat(created -> ((List<?>) created).size() == 2));
+        verify(participationRepository, never()).existsByTournamentAndPlayer(any(), any());
+        verify(tournamentService, times(1)).addCurrentPlayers("tournament123", 2);
+        verify(leaderboardCache, times(1)).invalidate("tournament123");
+    }
+
+    @Test
+    void testRegisterParticipantsWithNothingToCreateClaimsNoSlots() {
+        Tournament tournament = new Tournament("Open Qualifier", 8, null, bulkUser(1L, "organizer", UserRole.ORGANIZER));
+        when(tournamentRepository.findByPublicId("tournament123")).thenReturn(Optional.of(tournament));
+        when(userRepository.findByUsernameIn(anyCollection())).thenReturn(List.of());
+        when(participationRepository.findPlayerIdsByTournament(tournament)).thenReturn(Set.of());
+
+        List<BulkItemResultDto> statuses = participationService.registerParticipants("tournament123",
+                List.of(new ParticipantEntryDto("ghost", null)));
+
+        assertEquals(BulkItemStatus.NOT_FOUND, statuses.get(0).getStatus());
+        verify(participationRepository, never()).saveAll(any());
+        verify(tournamentService, never()).addCurrentPlayers(anyString(), anyInt());
+    }
+
+    private static User bulkUser(Long id, String username, UserRole role) {
+        User user = new User(username, "secret", role, 0);
+        user.setId(id);
+        return user;
+    }
+}
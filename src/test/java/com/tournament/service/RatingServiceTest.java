@@ -0,0 +1,153 @@
+package com.tournament.service;
+
+import com.tournament.dto.MatchDto;
+import com.tournament.dto.RatingRecalculationDto;
+import com.tournament.dto.UserCreateDto;
+import com.tournament.dto.UserDto;
+import com.tournament.model.Game;
+import com.tournament.model.Match;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.MatchRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Live rating on result entry and the full replay, against the real schema and the
+ * default Elo engine (K = 32, initial rating 1000).
+ */
+@SpringBootTest
+class RatingServiceTest {
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void reportedResultRatesBothPlayers() {
+        String suffix = Long.toString(System.nanoTime());
+        User winner = userRepository.save(new User("ratewin" + suffix, "secret", UserRole.PLAYER, 1000));
+        User loser = userRepository.save(new User("ratelose" + suffix, "secret", UserRole.PLAYER, 1000));
+        Match match = matchRepository.save(new Match(createTournament(suffix), 1, winner, loser, MatchResult.PENDING));
+
+        matchService.updateMatchResult(match.getPublicId(), MatchResult.PLAYER1_WIN);
+
+        assertEquals(1016, userRepository.findById(winner.getId()).orElseThrow().getRanking());
+        assertEquals(984, userRepository.findById(loser.getId()).orElseThrow().getRanking());
+        assertTrue(userService.getRankingPosition(winner.getPublicId()).getPosition()
+                < userService.getRankingPosition(loser.getPublicId()).getPosition());
+    }
+
+    @Test
+    void newUsersStartAtTheInitialRating() {
+        UserDto created = userService.createUser(
+                new UserCreateDto("ratenew" + System.nanoTime(), "secret1", UserRole.PLAYER, null));
+
+        assertEquals(1000, created.getRanking());
+    }
+
+    @Test
+    void ratingsAreNotClampedAtZero() {
+        String suffix = Long.toString(System.nanoTime());
+        User winner = userRepository.save(new User("ratelowwin" + suffix, "secret", UserRole.PLAYER, 0));
+        User loser = userRepository.save(new User("ratelowlose" + suffix, "secret", UserRole.PLAYER, 0));
+        Match match = matchRepository.save(new Match(createTournament(suffix), 1, winner, loser, MatchResult.PENDING));
+
+        matchService.updateMatchResult(match.getPublicId(), MatchResult.PLAYER1_WIN);
+
+        assertEquals(16, userRepository.findById(winner.getId()).orElseThrow().getRanking());
+        assertEquals(-16, userRepository.findById(loser.getId()).orElseThrow().getRanking());
+    }
+
+    @Test
+    void resendingTheSameResultDoesNotRateAgain() {
+        String suffix = Long.toString(System.nanoTime());
+        User winner = userRepository.save(new User("rateagainwin" + suffix, "secret", UserRole.PLAYER, 1000));
+        User loser = userRepository.save(new User("rateagainlose" + suffix, "secret", UserRole.PLAYER, 1000));
+        Match match = matchRepository.save(new Match(createTournament(suffix), 1, winner, loser, MatchResult.PENDING));
+
+        matchService.updateMatchResult(match.getPublicId(), MatchResult.PLAYER1_WIN);
+        matchService.updateMatchResult(match.getPublicId(), MatchResult.PLAYER1_WIN);
+
+        assertEquals(1016, userRepository.findById(winner.getId()).orElseThrow().getRanking());
+        assertEquals(984, userRepository.findById(loser.getId()).orElseThrow().getRanking());
+    }
+
+    @Test
+    void correctedResultReplacesTheOldOne() {
+        String suffix = Long.toString(System.nanoTime());
+        User player1 = userRepository.save(new User("ratefixone" + suffix, "secret", UserRole.PLAYER, 1000));
+        User player2 = userRepository.save(new User("ratefixtwo" + suffix, "secret", UserRole.PLAYER, 1000));
+        Match match = matchRepository.save(new Match(createTournament(suffix), 1, player1, player2, MatchResult.PENDING));
+
+        matchService.updateMatchResult(match.getPublicId(), MatchResult.PLAYER1_WIN);
+        MatchDto corrected = matchService.updateMatchResult(match.getPublicId(), MatchResult.PLAYER2_WIN);
+
+        // As if player 2 had won from the start, not a loss stacked on the earlier win.
+        assertEquals(984, userRepository.findById(player1.getId()).orElseThrow().getRanking());
+        assertEquals(1016, userRepository.findById(player2.getId()).orElseThrow().getRanking());
+        assertEquals(1016, corrected.getPlayer2().getRanking());
+    }
+
+    @Test
+    void recalculationReplaysHistoryFromTheInitialRating() {
+        String suffix = Long.toString(System.nanoTime());
+        User champion = userRepository.save(new User("ratechamp" + suffix, "secret", UserRole.PLAYER, 0));
+        User runnerUp = userRepository.save(new User("raterunner" + suffix, "secret", UserRole.PLAYER, 0));
+        User outsider = userRepository.save(new User("rateout" + suffix, "secret", UserRole.PLAYER, 5000));
+        Tournament tournament = createTournament(suffix);
+        matchRepository.saveAll(List.of(
+                new Match(tournament, 1, champion, outsider, MatchResult.PLAYER1_WIN),
+                new Match(tournament, 1, runnerUp, outsider, MatchResult.DRAW),
+                new Match(tournament, 2, champion, runnerUp, MatchResult.PLAYER1_WIN),
+                new Match(tournament, 3, runnerUp, champion, MatchResult.PENDING)));
+
+        RatingRecalculationDto summary = ratingService.recalculateAll();
+
+        assertEquals("elo", summary.getEngine());
+        assertTrue(summary.getMatchesReplayed() >= 3);
+        assertTrue(summary.getPlayersRated() >= 3);
+
+        int championRanking = userRepository.findById(champion.getId()).orElseThrow().getRanking();
+        int runnerUpRanking = userRepository.findById(runnerUp.getId()).orElseThrow().getRanking();
+        int outsiderRanking = userRepository.findById(outsider.getId()).orElseThrow().getRanking();
+        assertTrue(championRanking > 1000);
+        assertTrue(outsiderRanking < 1000);
+        assertEquals(3000.0, championRanking + runnerUpRanking + outsiderRanking, 2.0);
+        assertEquals(userService.getRankingPosition(champion.getPublicId()).getPlayer().getRanking(), championRanking);
+    }
+
+    private Tournament createTournament(String suffix) {
+        User organizer = userRepository.save(new User("rateorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Rating Game " + suffix, "Strategy", Platform.PC));
+        return tournamentRepository.save(new Tournament("Rating Cup " + suffix, 16, game, organizer));
+    }
+}
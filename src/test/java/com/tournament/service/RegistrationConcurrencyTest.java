@@ -0,0 +1,146 @@
+package com.tournament.service;
+
+import com.tournament.dto.ParticipationCreateDto;
+import com.tournament.model.Game;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.ParticipationRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Registration rush against a small tournament: many more registrants than slots start
+ * at the same instant, and the capacity, the stored counter and the participation rows
+ * must still agree afterwards.
+ */
+@SpringBootTest
+class RegistrationConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void concurrentRegistrationsNeverExceedCapacity() throws Exception {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            int capacity = 8;
+            int registrants = 48;
+            Tournament tournament = createTournament(capacity);
+            List<String> usernames = createPlayers(registrants);
+
+            AtomicInteger accepted = new AtomicInteger();
+            ConcurrentLinkedQueue<String> unexpectedErrors = new ConcurrentLinkedQueue<>();
+            runConcurrently(usernames, username -> {
+                try {
+                    participationService.createParticipation(
+                            new ParticipationCreateDto(tournament.getName(), username, 0));
+                    accepted.incrementAndGet();
+                } catch (RuntimeException ex) {
+                    if (!"Tournament is already full".equals(ex.getMessage())) {
+                        unexpectedErrors.add(ex.toString());
+                    }
+                }
+            });
+
+            Tournament reloaded = tournamentRepository.findByPublicId(tournament.getPublicId()).orElseThrow();
+            assertTrue(unexpectedErrors.isEmpty(), () -> "unexpected failures: " + unexpectedErrors);
+            assertEquals(capacity, accepted.get());
+            assertEquals(capacity, reloaded.getCurrentPlayers());
+            assertEquals(capacity, participationRepository.findSummariesByTournamentPublicId(tournament.getPublicId()).size());
+        }
+    }
+
+    @Test
+    void concurrentRegistrationsBelowCapacityAllSucceed() throws Exception {
+        int registrants = 32;
+        Tournament tournament = createTournament(64);
+        List<String> usernames = createPlayers(registrants);
+
+        ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+        runConcurrently(usernames, username -> {
+            try {
+                participationService.createParticipation(
+                        new ParticipationCreateDto(tournament.getName(), username, 0));
+            } catch (RuntimeException ex) {
+                errors.add(ex.toString());
+            }
+        });
+
+        Tournament reloaded = tournamentRepository.findByPublicId(tournament.getPublicId()).orElseThrow();
+        assertTrue(errors.isEmpty(), () -> "unexpected failures: " + errors);
+        assertEquals(registrants, reloaded.getCurrentPlayers());
+    }
+
+    private void runConcurrently(List<String> usernames, Consumer<String> registration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String username : usernames) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    registration.accept(username);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Tournament createTournament(int capacity) {
+        String suffix = Long.toString(System.nanoTime());
+        User organizer = userRepository.save(new User("rushorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Rush Game " + suffix, "Strategy", Platform.PC));
+        return tournamentRepository.save(new Tournament("Rush Cup " + suffix, capacity, game, organizer));
+    }
+
+    private List<String> createPlayers(int count) {
+        String suffix = Long.toString(System.nanoTime());
+        List<User> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            players.add(new User("rushp" + i + "x" + suffix, "secret", UserRole.PLAYER, 0));
+        }
+        List<String> usernames = new ArrayList<>();
+        for (User player : userRepository.saveAll(players)) {
+            usernames.add(player.getUsername());
+        }
+        return usernames;
+    }
+}
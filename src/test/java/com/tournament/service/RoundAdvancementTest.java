@@ -0,0 +1,186 @@
+package com.tournament.service;
+
+import com.tournament.bracket.RoundTracker;
+import com.tournament.dto.MatchDto;
+import com.tournament.exception.ConflictException;
+import com.tournament.model.Game;
+import com.tournament.model.Match;
+import com.tournament.model.Participation;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.BracketFormat;
+import com.tournament.model.enums.MatchResult;
+import com.tournament.model.enums.SeedingStrategy;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.MatchRepository;
+import com.tournament.repository.ParticipationRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Plays whole events through result reporting only: every next round must appear on its
+ * own once the previous one is fully reported.
+ */
+@SpringBootTest
+class RoundAdvancementTest {
+
+    @Autowired
+    private BracketService bracketService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private RoundTracker roundTracker;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void swissEventAdvancesWithoutOrganizerInput() throws InterruptedException {
+        String tournamentId = createTournament(8);
+        bracketService.generateBracket(tournamentId, BracketFormat.SWISS, SeedingStrategy.RANKING);
+
+        for (int round = 1; round <= 3; round++) {
+            List<MatchDto> matches = awaitRound(tournamentId, round);
+            assertEquals(4, matches.size());
+            for (MatchDto match : matches) {
+                matchService.updateMatchResult(match.getId(), MatchResult.PLAYER1_WIN);
+            }
+        }
+
+        awaitUntracked(tournamentId);
+        assertEquals(12, matchService.getMatchesByTournament(tournamentId).size());
+    }
+
+    @Test
+    void singleEliminationAdvancesFromTheLastResultOnly() throws InterruptedException {
+        String tournamentId = createTournament(4);
+        List<MatchDto> semiFinals = bracketService.generateBracket(
+                tournamentId, BracketFormat.SINGLE_ELIMINATION, SeedingStrategy.RANKING);
+
+        matchService.updateMatchResult(semiFinals.get(0).getId(), MatchResult.PLAYER1_WIN);
+        Thread.sleep(200);
+        assertTrue(matchService.getMatchesByTournamentAndRound(tournamentId, 2).isEmpty());
+        assertEquals(1, roundTracker.pending(tournamentId, 1));
+
+        matchService.updateMatchResult(semiFinals.get(1).getId(), MatchResult.PLAYER2_WIN);
+        List<MatchDto> finals = awaitRound(tournamentId, 2);
+        assertEquals(1, finals.size());
+
+        matchService.updateMatchResult(finals.get(0).getId(), MatchResult.PLAYER1_WIN);
+        awaitUntracked(tournamentId);
+        assertTrue(matchService.getMatchesByTournamentAndRound(tournamentId, 3).isEmpty());
+    }
+
+    @Test
+    void reloadsCountsAfterTrackingIsLost() throws InterruptedException {
+        String tournamentId = createTournament(2);
+        List<MatchDto> firstRound = bracketService.generateBracket(
+                tournamentId, BracketFormat.DOUBLE_ELIMINATION, SeedingStrategy.RANKING);
+
+        roundTracker.forget(tournamentId);
+        matchService.updateMatchResult(firstRound.get(0).getId(), MatchResult.PLAYER2_WIN);
+
+        // Seed 2 beat seed 1; in double elimination they meet again in the grand final.
+        assertEquals(1, awaitRound(tournamentId, 2).size());
+    }
+
+    @Test
+    void concurrentNextRoundRequestsPairTheRoundOnce() throws Exception {
+        String tournamentId = createTournament(8);
+        bracketService.generateBracket(tournamentId, BracketFormat.SWISS, SeedingStrategy.RANKING);
+        // Results written past MatchService, so automatic advancement stays out of the race.
+        Tournament tournament = tournamentRepository.findByPublicId(tournamentId).orElseThrow();
+        List<Match> firstRound = matchRepository.findByTournament(tournament);
+        firstRound.forEach(match -> match.setResult(MatchResult.PLAYER1_WIN));
+        matchRepository.saveAll(firstRound);
+
+        int callers = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<MatchDto>>> calls = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                calls.add(pool.submit(() -> {
+                    start.await();
+                    return bracketService.generateNextRound(tournamentId);
+                }));
+            }
+            start.countDown();
+
+            int paired = 0;
+            for (Future<List<MatchDto>> call : calls) {
+                try {
+                    assertEquals(4, call.get().size());
+                    paired++;
+                } catch (ExecutionException ex) {
+                    assertInstanceOf(ConflictException.class, ex.getCause());
+                }
+            }
+            assertEquals(1, paired);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(4, matchService.getMatchesByTournamentAndRound(tournamentId, 2).size());
+    }
+
+    private List<MatchDto> awaitRound(String tournamentId, int round) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            List<MatchDto> matches = matchService.getMatchesByTournamentAndRound(tournamentId, round);
+            if (!matches.isEmpty()) {
+                return matches;
+            }
+            Thread.sleep(20);
+        }
+        return fail("round " + round + " was never generated");
+    }
+
+    private void awaitUntracked(String tournamentId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (roundTracker.isTracked(tournamentId)) {
+            assertTrue(System.currentTimeMillis() < deadline, "bracket never finished");
+            Thread.sleep(20);
+        }
+    }
+
+    private String createTournament(int entrants) {
+        String suffix = Long.toString(System.nanoTime());
+        User organizer = userRepository.save(new User("advorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        Game game = gameRepository.save(new Game("Advance Game " + suffix, "Strategy", Platform.PC));
+        Tournament tournament = tournamentRepository.save(new Tournament("Advance Cup " + suffix, 64, game, organizer));
+        for (int i = 0; i < entrants; i++) {
+            User player = userRepository.save(new User("advp" + i + "x" + suffix, "secret", UserRole.PLAYER, 5000 - i * 100));
+            participationRepository.save(new Participation(tournament, player, null, 0));
+        }
+        return tournament.getPublicId();
+    }
+}
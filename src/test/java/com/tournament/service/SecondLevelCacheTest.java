@@ -0,0 +1,152 @@
+package com.tournament.service;
+
+import com.tournament.dto.CacheStatsDto;
+import com.tournament.dto.GameDto;
+import com.tournament.model.Game;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Game and User rows are served from the second-level cache once loaded, and every way the
+ * application changes them (entity updates and deletes) is visible on the next read.
+ * Tournament stays out of the cache, so its bulk counter UPDATE evicts nothing.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private CacheStatsService cacheStatsService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void loadedEntitiesAreReadWithoutSql() {
+        Tournament tournament = createTournament();
+        gameRepository.findById(tournament.getGame().getId()).orElseThrow();
+        userRepository.findById(tournament.getOrganizer().getId()).orElseThrow();
+
+        statistics.clear();
+        gameRepository.findById(tournament.getGame().getId()).orElseThrow();
+        userRepository.findById(tournament.getOrganizer().getId()).orElseThrow();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void updatesAndDeletesAreVisibleThroughTheCache() {
+        Game game = createGame();
+        gameRepository.findById(game.getId()).orElseThrow();
+
+        gameService.updateGame(game.getPublicId(), new GameDto(game.getPublicId(), game.getTitle(), "Puzzle", game.getPlatform()));
+        assertEquals("Puzzle", gameRepository.findById(game.getId()).orElseThrow().getGenre());
+
+        gameService.deleteGame(game.getPublicId());
+        assertTrue(gameRepository.findById(game.getId()).isEmpty());
+    }
+
+    @Test
+    void registrationCounterIsNeverServedStale() {
+        Tournament tournament = createTournament();
+        tournamentRepository.findById(tournament.getId()).orElseThrow();
+
+        tournamentService.incrementCurrentPlayers(tournament.getPublicId());
+
+        assertEquals(1, tournamentRepository.findById(tournament.getId()).orElseThrow().getCurrentPlayers());
+    }
+
+    @Test
+    void registrationCounterDoesNotEvictCachedRows() {
+        Tournament tournament = createTournament();
+        gameRepository.findById(tournament.getGame().getId()).orElseThrow();
+
+        tournamentService.incrementCurrentPlayers(tournament.getPublicId());
+
+        statistics.clear();
+        gameRepository.findById(tournament.getGame().getId()).orElseThrow();
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+    }
+
+    @Test
+    void repeatedLookupsComeFromTheQueryCache() {
+        Game game = createGame();
+        gameRepository.findByTitle(game.getTitle()).orElseThrow();
+
+        statistics.clear();
+        gameRepository.findByTitle(game.getTitle()).orElseThrow();
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        gameService.updateGame(game.getPublicId(), new GameDto(game.getPublicId(), game.getTitle(), "Puzzle", game.getPlatform()));
+        statistics.clear();
+        assertEquals("Puzzle", gameRepository.findByTitle(game.getTitle()).orElseThrow().getGenre());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void regionStatisticsAreReported() {
+        Game game = createGame();
+        gameRepository.findById(game.getId()).orElseThrow();
+
+        List<CacheStatsDto> stats = cacheStatsService.getSecondLevelCacheStats();
+
+        CacheStatsDto games = stats.stream()
+                .filter(region -> region.getName().equals(Game.class.getName()))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(games.getHits() > 0);
+        assertFalse(stats.stream().anyMatch(region -> region.getName().equals(Tournament.class.getName())));
+        assertTrue(stats.stream().anyMatch(region -> region.getName().equals(User.class.getName())));
+    }
+
+    private Game createGame() {
+        return gameRepository.save(new Game("Cached Game " + System.nanoTime(), "Strategy", Platform.PC));
+    }
+
+    private Tournament createTournament() {
+        String suffix = Long.toString(System.nanoTime());
+        User organizer = userRepository.save(new User("cacheorg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        return tournamentRepository.save(new Tournament("Cached Cup " + suffix, 8, createGame(), organizer));
+    }
+}
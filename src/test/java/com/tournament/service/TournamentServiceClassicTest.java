@@ -124,7 +124,7 @@ public class TournamentServiceClassicTest {
         createDto.setOrganizerUsername("organizer1");
         tournamentService.createTournament(createDto);
 
-        java.util.List<TournamentDto> all = tournamentService.getAllTournaments();
+        java.util.List<TournamentDto> all = tournamentService.getAllTournaments(null, null).getItems();
         assertNotNull(all);
         assertTrue(all.size() >= 1);
     }
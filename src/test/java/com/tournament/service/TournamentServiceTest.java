@@ -7,10 +7,12 @@ import com.tournament.model.User;
 import com.tournament.model.Game;
 import com.tournament.model.Platform; 
 import com.tournament.model.enums.UserRole;
+import com.tournament.ranking.TournamentLeaderboardCache;
 import com.tournament.repository.TournamentRepository;
 import com.tournament.repository.UserRepository;
 import com.tournament.repository.GameRepository;
 import com.tournament.mapper.TournamentMapper;
+import com.tournament.support.CollectionVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -37,6 +39,12 @@ class TournamentServiceTest {
     @Mock
     private GameRepository gameRepository; 
 
+    @Mock
+    private TournamentLeaderboardCache leaderboardCache;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private TournamentService tournamentService;
 
@@ -0,0 +1,113 @@
+package com.tournament.service;
+
+import com.tournament.dto.ParticipationDto;
+import com.tournament.dto.TournamentCreateDto;
+import com.tournament.dto.UserDto;
+import com.tournament.exception.NotFoundException;
+import com.tournament.model.Game;
+import com.tournament.model.Participation;
+import com.tournament.model.Platform;
+import com.tournament.model.Tournament;
+import com.tournament.model.User;
+import com.tournament.model.enums.UserRole;
+import com.tournament.repository.GameRepository;
+import com.tournament.repository.ParticipationRepository;
+import com.tournament.repository.TournamentRepository;
+import com.tournament.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Public ids match their rows however the client cases them, so the in-memory leaderboards
+ * and ranking index must too: every call here passes an uppercased id and expects the same
+ * answer the canonical id would give.
+ */
+@SpringBootTest
+class UppercaseIdTest {
+
+    @Autowired
+    private ParticipationService participationService;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private ParticipationRepository participationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Test
+    void leaderboardReadThroughAnUppercasedIdSeesLaterScores() {
+        Participation participation = createTournamentWithPlayer();
+        String tournamentId = upper(participation.getTournament().getPublicId());
+
+        assertEquals(0, participationService.getTournamentLeaderboard(tournamentId, null).get(0).getScore());
+        participationService.updateParticipationScore(participation.getPublicId(), 42);
+
+        assertEquals(42, participationService.getTournamentLeaderboard(tournamentId, null).get(0).getScore());
+        assertEquals(42, participationService.getLeaderboardPosition(tournamentId,
+                upper(participation.getPlayer().getPublicId())).getParticipation().getScore());
+    }
+
+    @Test
+    void tournamentChangesThroughAnUppercasedIdDropTheLeaderboard() {
+        Participation participation = createTournamentWithPlayer();
+        String tournamentId = participation.getTournament().getPublicId();
+        participationService.getTournamentLeaderboard(tournamentId, null);
+
+        String renamed = "Renamed Cup " + System.nanoTime();
+        tournamentService.updateTournament(upper(tournamentId), new TournamentCreateDto(renamed, null, null, null));
+        List<ParticipationDto> board = participationService.getTournamentLeaderboard(tournamentId, null);
+        assertEquals(renamed, board.get(0).getTournament().getName());
+
+        tournamentService.deleteTournament(upper(tournamentId));
+        // A board left behind would still answer; a dropped one reloads and finds no tournament.
+        assertThrows(NotFoundException.class, () -> participationService.getTournamentLeaderboard(tournamentId, null));
+    }
+
+    @Test
+    void rankingLookupsAndDeletesAcceptAnUppercasedId() {
+        User user = userRepository.save(new User("upper" + System.nanoTime(), "secret", UserRole.PLAYER, 1_000_000));
+        String userId = upper(user.getPublicId());
+
+        assertNotNull(userService.getRankingPosition(userId));
+        assertFalse(userService.getRankingNeighbours(userId, 1).isEmpty());
+        assertTrue(topUsernames().contains(user.getUsername()));
+
+        userService.deleteUser(userId);
+        assertFalse(topUsernames().contains(user.getUsername()));
+    }
+
+    private List<String> topUsernames() {
+        return userService.getTopRankedUsers(10).stream().map(UserDto::getUsername).toList();
+    }
+
+    private Participation createTournamentWithPlayer() {
+        String suffix = Long.toString(System.nanoTime());
+        User organizer = userRepository.save(new User("uporg" + suffix, "secret", UserRole.ORGANIZER, 0));
+        User player = userRepository.save(new User("upp" + suffix, "secret", UserRole.PLAYER, 0));
+        Game game = gameRepository.save(new Game("Upper Game " + suffix, "Strategy", Platform.PC));
+        Tournament tournament = tournamentRepository.save(new Tournament("Upper Cup " + suffix, 8, game, organizer));
+        return participationRepository.save(new Participation(tournament, player, null, 0));
+    }
+
+    private static String upper(String publicId) {
+        return publicId.toUpperCase(Locale.ROOT);
+    }
+}
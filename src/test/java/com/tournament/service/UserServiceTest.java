@@ -1,11 +1,16 @@
 package com.tournament.service;
 
+import com.tournament.dto.RankingPositionDto;
 import com.tournament.dto.UserCreateDto;
 import com.tournament.dto.UserDto;
 import com.tournament.mapper.UserMapper;
 import com.tournament.model.User;
 import com.tournament.model.enums.UserRole;
+import com.tournament.ranking.TournamentLeaderboardCache;
+import com.tournament.ranking.UserRankingIndex;
 import com.tournament.repository.UserRepository;
+import com.tournament.security.PrincipalCache;
+import com.tournament.support.CollectionVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -29,6 +34,18 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserRankingIndex userRankingIndex;
+
+    @Mock
+    private TournamentLeaderboardCache leaderboardCache;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private UserService userService;
 
@@ -133,4 +150,68 @@ class UserServiceTest {
         assertEquals(100, result.getRanking());
         verify(userRepository, times(1)).save(any(User.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCreateUser_AddsUserToRankingIndex() {
+        
+        UserCreateDto dto = new UserCreateDto("rankedUser", "password", UserRole.PLAYER, 40);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userRepository.existsByUsername("rankedUser")).thenReturn(false);
+
+        
+        userService.createUser(dto);
+
+        
+        verify(userRankingIndex, times(1)).put(argThat(user -> "rankedUser".equals(user.getUsername())));
+    }
+
+    @Test
+    void testGetRankingPosition_IndexesUnknownUserOnFirstLookup() {
+        
+        User user = new User("lateUser", "secret", UserRole.PLAYER, 70);
+        when(userRankingIndex.contains(user.getPublicId())).thenReturn(false);
+        when(userRepository.findByPublicId(user.getPublicId())).thenReturn(Optional.of(user));
+        RankingPositionDto position = new RankingPositionDto(3, userMapper.toDto(user));
+        when(userRankingIndex.positionOf(user.getPublicId())).thenReturn(position);
+
+        
+        RankingPositionDto result = userService.getRankingPosition(user.getPublicId());
+
+        
+        assertEquals(3, result.getPosition());
+        verify(userRankingIndex, times(1)).put(argThat(dto -> "lateUser".equals(dto.getUsername())));
+    }
+
+    @Test
+    void testUpdateUser_InvalidatesCachedPrincipalUnderPreviousName() {
+        
+        User user = new User("oldName", "secret", UserRole.PLAYER, 10);
+        when(userRepository.findByPublicId(user.getPublicId())).thenReturn(Optional.of(user));
+        when(userRepository.existsByUsername("newName")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            user.setUsername("newName");
+            return null;
+        }).when(userMapper).updateEntityFromDto(any(UserCreateDto.class), eq(user));
+
+        
+        userService.updateUser(user.getPublicId(), new UserCreateDto("newName", null, UserRole.PLAYER, 10));
+
+        
+        verify(principalCache, times(1)).invalidate("oldName");
+    }
+
+    @Test
+    void testDeleteUser_InvalidatesCachedPrincipal() {
+        
+        User user = new User("leaving", "secret", UserRole.PLAYER, 10);
+        when(userRepository.findByPublicId(user.getPublicId())).thenReturn(Optional.of(user));
+
+        
+        userService.deleteUser(user.getPublicId());
+
+        
+        verify(userRepository, times(1)).delete(user);
+        verify(principalCache, times(1)).invalidate("leaving");
+    }
+}
@@ -0,0 +1,68 @@
+package com.tournament.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionVersionsTest {
+
+    private static final String T1 = PublicIds.next();
+    private static final String T2 = PublicIds.next();
+
+    private final CollectionVersions versions = new CollectionVersions();
+
+    @Test
+    void tagsAreStrongAndStableWithoutChanges() {
+        String tag = versions.matchListTag(T1);
+
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+        assertEquals(tag, versions.matchListTag(T1));
+    }
+
+    @Test
+    void bumpChangesOnlyTheTagsThatEmbedTheCollection() {
+        String matches = versions.matchListTag(T1);
+        String otherMatches = versions.matchListTag(T2);
+        String participations = versions.participationListTag(T1);
+
+        versions.bump(CollectionVersions.matches(T1));
+
+        assertNotEquals(matches, versions.matchListTag(T1));
+        assertEquals(otherMatches, versions.matchListTag(T2));
+        assertEquals(participations, versions.participationListTag(T1));
+    }
+
+    @Test
+    void sharedCollectionsChangeEveryTagThatEmbedsThem() {
+        String tournaments = versions.tournamentListTag();
+        String matches = versions.matchListTag(T1);
+        String tournament = versions.tournamentTag(T1);
+
+        versions.bump(CollectionVersions.USERS);
+
+        assertNotEquals(tournaments, versions.tournamentListTag());
+        assertNotEquals(matches, versions.matchListTag(T1));
+        assertNotEquals(tournament, versions.tournamentTag(T1));
+    }
+
+    @Test
+    void tagsNeverRepeatAfterFurtherChanges() {
+        String first = versions.matchListTag(T1);
+        versions.bump(CollectionVersions.matches(T1));
+        versions.bump(CollectionVersions.GAMES);
+
+        assertNotEquals(first, versions.matchListTag(T1));
+        assertEquals(2, versions.current(CollectionVersions.matches(T1)) + versions.current(CollectionVersions.GAMES));
+    }
+
+    @Test
+    void idsAreKeyedCaseInsensitively() {
+        String tag = versions.matchListTag(T1);
+
+        versions.bump(CollectionVersions.matches(T1.toUpperCase()));
+
+        assertEquals(CollectionVersions.matches(T1), CollectionVersions.matches(T1.toUpperCase()));
+        assertNotEquals(tag, versions.matchListTag(T1));
+        assertEquals(versions.matchListTag(T1), versions.matchListTag(T1.toUpperCase()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.tournament.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringMapTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void servesEntriesUntilTheirDeadline() {
+        ExpiringMap<String, String> map = new ExpiringMap<>(() -> 10, now::get);
+        map.put("a", "alice", 100);
+
+        now.set(99);
+        assertEquals("alice", map.get("a"));
+
+        now.set(100);
+        assertNull(map.get("a"));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void doesNotStorePastDeadlinesOrWhenDisabled() {
+        ExpiringMap<String, String> map = new ExpiringMap<>(() -> 10, now::get);
+        now.set(50);
+        map.put("a", "alice", 50);
+        assertEquals(0, map.size());
+
+        ExpiringMap<String, String> disabled = new ExpiringMap<>(() -> 0, now::get);
+        disabled.put("a", "alice", 100);
+        assertEquals(0, disabled.size());
+    }
+
+    @Test
+    void makesRoomWhenFull() {
+        ExpiringMap<Integer, Integer> map = new ExpiringMap<>(() -> 10, now::get);
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i, i < 5 ? 10 : 1_000);
+        }
+
+        now.set(10);
+        map.put(10, 10, 1_000);
+
+        assertEquals(6, map.size());
+        assertEquals(10, map.get(10));
+    }
+
+    @Test
+    void evictsExpiredEntries() {
+        ExpiringMap<String, String> map = new ExpiringMap<>(() -> 10, now::get);
+        map.put("a", "alice", 10);
+        map.put("b", "bob", 20);
+
+        now.set(15);
+        map.evictExpired();
+
+        assertEquals(1, map.size());
+        assertTrue(map.keySet().contains("b"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.tournament.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicIdsTest {
+
+    @Test
+    void generatesVersionSevenIds() {
+        UUID id = UUID.fromString(PublicIds.next());
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void idsStartWithTheirCreationTime() {
+        long before = System.currentTimeMillis();
+        UUID id = PublicIds.nextUuid();
+        long after = System.currentTimeMillis();
+
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= after);
+    }
+
+    @Test
+    void laterIdsSortAfterEarlierOnes() throws InterruptedException {
+        String first = PublicIds.next();
+        Thread.sleep(2);
+        String second = PublicIds.next();
+
+        assertTrue(first.compareTo(second) < 0);
+        assertTrue(UUID.fromString(first).getMostSignificantBits() < UUID.fromString(second).getMostSignificantBits());
+    }
+
+    @Test
+    void idsDoNotRepeat() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(ids.add(PublicIds.next()));
+        }
+    }
+
+    @Test
+    void onlyCanonicalIdsAreValid() {
+        assertTrue(PublicIds.isValid(PublicIds.next()));
+        assertTrue(PublicIds.isValid(UUID.randomUUID().toString()));
+        assertFalse(PublicIds.isValid(null));
+        assertFalse(PublicIds.isValid("game123"));
+        assertFalse(PublicIds.isValid("1-1-1-1-1"));
+        assertFalse(PublicIds.isValid("zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz"));
+        assertSame(PublicIds.UNMATCHABLE, PublicIds.toUuid("game123"));
+    }
+}
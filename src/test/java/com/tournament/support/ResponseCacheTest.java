@@ -0,0 +1,105 @@
+package com.tournament.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<List<String>> loader = () -> {
+        loads.incrementAndGet();
+        return List.of("alice", "bob");
+    };
+
+    private final ResponseCache cache = new ResponseCache(new ObjectMapper(), 100, now::get);
+
+    @Test
+    void servesTheSerializedBodyWhileTheTagHolds() {
+        ResponseCache.CachedResponse first = cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 60_000, loader);
+        ResponseCache.CachedResponse second = cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 60_000, loader);
+
+        assertSame(first.body(), second.body());
+        assertEquals("[\"alice\",\"bob\"]", new String(first.body(), StandardCharsets.UTF_8));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount(ResponseCache.TOP_USERS));
+        assertEquals(1, cache.missCount(ResponseCache.TOP_USERS));
+    }
+
+    @Test
+    void aNewTagReloads() {
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 60_000, loader);
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-2\"", 60_000, loader);
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-2\"", 60_000, loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.size(ResponseCache.TOP_USERS));
+    }
+
+    @Test
+    void reloadsOnceTheEntryTtlHasPassed() {
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 30_000, loader);
+        cache.get(ResponseCache.GAMES, "null:null", "\"a-1\"", 60_000, loader);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 30_000, loader);
+        cache.get(ResponseCache.GAMES, "null:null", "\"a-1\"", 60_000, loader);
+
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.hitCount(ResponseCache.GAMES));
+    }
+
+    @Test
+    void keepsTheNextCursorOfAPage() {
+        ResponseCache.CachedResponse page = cache.getPage(ResponseCache.GAMES, "null:1", "\"a-1\"", 60_000,
+                () -> new ResponseCache.Page(List.of("chess"), "next"));
+
+        assertEquals("[\"chess\"]", new String(page.body(), StandardCharsets.UTF_8));
+        assertEquals("next", page.nextCursor());
+    }
+
+    @Test
+    void failedLoadsAndZeroTtlsAreNotCached() {
+        assertThrows(NotFoundException.class, () -> cache.get(ResponseCache.LEADERBOARDS, "t1:null", "\"a-1\"", 60_000,
+                () -> {
+                    throw new NotFoundException("Tournament not found with id: t1");
+                }));
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 0, loader);
+
+        assertEquals(0, cache.size(ResponseCache.LEADERBOARDS));
+        assertEquals(0, cache.size(ResponseCache.TOP_USERS));
+        assertEquals(List.of(ResponseCache.LEADERBOARDS, ResponseCache.TOP_USERS), cache.regions());
+    }
+
+    @Test
+    void aZeroTtlLoadsOnEveryCall() {
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 60_000, loader);
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", 0, loader);
+        cache.get(ResponseCache.TOP_USERS, "10", "\"a-1\"", -1, loader);
+
+        assertEquals(3, loads.get());
+        assertEquals(0, cache.hitCount(ResponseCache.TOP_USERS));
+        assertEquals(3, cache.missCount(ResponseCache.TOP_USERS));
+        assertEquals(1, cache.size(ResponseCache.TOP_USERS));
+    }
+
+    @Test
+    void makesRoomWhenFull() {
+        ResponseCache small = new ResponseCache(new ObjectMapper(), 10, now::get);
+        for (int i = 0; i < 25; i++) {
+            small.get(ResponseCache.LEADERBOARDS, "t" + i, "\"a-1\"", 60_000, loader);
+        }
+
+        assertTrue(small.size(ResponseCache.LEADERBOARDS) <= 10);
+    }
+}
@@ -0,0 +1,38 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LegacyPublicIdMigrationTest {
+
+    @Test
+    void nonUuidPublicIdsAreReplacedBeforeTheColumnsBecomeUuids() throws Exception {
+        String url = "jdbc:h2:mem:legacy" + System.nanoTime() + ";DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            Flyway.configure().dataSource(url, "sa", "").target("5").load().migrate();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("insert into users (id, public_id, username, password, role, ranking) "
+                        + "values (1, 'legacy-admin', 'legacyadmin', 'secret', 'ADMIN', 0), "
+                        + "(2, '0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b', 'currentadmin', 'secret', 'ADMIN', 0)");
+            }
+
+            Flyway.configure().dataSource(url, "sa", "").load().migrate();
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("select id, public_id from users order by id")) {
+                assertTrue(rows.next());
+                assertEquals(7, rows.getObject(2, UUID.class).version());
+                assertTrue(rows.next());
+                assertEquals(UUID.fromString("0190a1b2-c3d4-7e5f-8a6b-7c8d9e0f1a2b"), rows.getObject(2, UUID.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+// Compares the platform-thread and virtual-thread request modes under the same load.
+//
+//   VIRTUAL_THREADS=false docker compose up -d --build
+//   docker exec k6-tournament k6 run /tests/thread-mode.js
+//   VIRTUAL_THREADS=true docker compose up -d --build
+//   docker exec k6-tournament k6 run /tests/thread-mode.js
+//
+// Compare http_reqs (requests/s) and the p(99) of http_req_duration between the runs.
+// No results have been recorded yet; add them to the Virtual threads section of the README.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://rest-tournament:8080';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 400),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ username: 'player1', password: 'password123' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    return { token: response.json('token') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/tournaments`, null, params],
+        ['GET', `${BASE_URL}/api/matches`, null, params],
+        ['GET', `${BASE_URL}/api/users/rankings/top`, null, params],
+    ]);
+    check(responses, { 'all 200': (rs) => rs.every((r) => r.status === 200) });
+}